@@ -0,0 +1,30 @@
+package com.finflow.backend.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup only validates the schema history against db/migration (checksums, nothing pending)
+ * unless app.flyway.migrate-on-startup is set. Schema changes are applied deliberately,
+ * not by whichever instance happens to boot first.
+ */
+@Configuration
+@Slf4j
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${app.flyway.migrate-on-startup:false}") boolean migrateOnStartup) {
+        return flyway -> {
+            if (migrateOnStartup) {
+                log.info("[Flyway] Applying pending migrations");
+                flyway.migrate();
+            } else {
+                flyway.validate();
+            }
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package com.finflow.backend.common.datasource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Remembers which users wrote recently so their reads stay on the primary until replicas catch up.
+ *
+ * - The subject is the authenticated user, or one bound explicitly with {@link #withSubject} for
+ *   unauthenticated flows (login, register, password reset) where the identifier comes from the request.
+ * - Does nothing when replicas are disabled, so callers need no feature check.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private static final ThreadLocal<String> BOUND_SUBJECT = new ThreadLocal<>();
+
+    private final ConcurrentMap<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long windowMillis;
+    private final Clock clock;
+
+    @Autowired
+    public ReadYourWritesTracker(@Value("${app.datasource.replicas.enabled:false}") boolean enabled,
+                                 @Value("${app.datasource.replicas.read-your-writes-window-ms:5000}") long windowMillis) {
+        this(enabled, windowMillis, Clock.systemUTC());
+    }
+
+    ReadYourWritesTracker(boolean enabled, long windowMillis, Clock clock) {
+        this.enabled = enabled && windowMillis > 0;
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+    }
+
+    public void recordWrite(String... subjects) {
+        if (!enabled) {
+            return;
+        }
+        long until = clock.millis() + windowMillis;
+        for (String subject : subjects) {
+            if (subject != null) {
+                stickyUntil.put(subject, until);
+            }
+        }
+    }
+
+    public boolean isSticky(String subject) {
+        if (subject == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(subject);
+        if (until == null) {
+            return false;
+        }
+        if (until > clock.millis()) {
+            return true;
+        }
+        stickyUntil.remove(subject, until);
+        return false;
+    }
+
+    /**
+     * Routes this thread's reads as {@code subject} until the returned scope is closed.
+     */
+    public Scope withSubject(String subject) {
+        String previous = BOUND_SUBJECT.get();
+        BOUND_SUBJECT.set(subject);
+        return () -> {
+            if (previous == null) {
+                BOUND_SUBJECT.remove();
+            } else {
+                BOUND_SUBJECT.set(previous);
+            }
+        };
+    }
+
+    public String currentSubject() {
+        String bound = BOUND_SUBJECT.get();
+        if (bound != null) {
+            return bound;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    public void purgeExpired() {
+        long now = clock.millis();
+        stickyUntil.values().removeIf(until -> until <= now);
+    }
+
+    public int size() {
+        return stickyUntil.size();
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
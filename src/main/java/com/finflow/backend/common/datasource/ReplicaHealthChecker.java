@@ -0,0 +1,36 @@
+package com.finflow.backend.common.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Periodically validates every replica and flips it up/down in the routing data source.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicaHealthChecker {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final ReadYourWritesTracker readYourWrites;
+    private final int validationTimeoutSeconds;
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval-ms:5000}")
+    public void check() {
+        for (String key : routingDataSource.replicaKeys()) {
+            try (Connection connection = routingDataSource.replica(key).getConnection()) {
+                if (connection.isValid(validationTimeoutSeconds)) {
+                    routingDataSource.markUp(key);
+                } else {
+                    routingDataSource.markDown(key, new SQLException("Connection validation failed"));
+                }
+            } catch (SQLException e) {
+                routingDataSource.markDown(key, e);
+            }
+        }
+        readYourWrites.purgeExpired();
+    }
+}
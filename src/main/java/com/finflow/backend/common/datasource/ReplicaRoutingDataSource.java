@@ -0,0 +1,172 @@
+package com.finflow.backend.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Sends read-only transactions to a healthy replica and everything else to the primary.
+ *
+ * - Must sit behind a LazyConnectionDataSourceProxy: the readOnly flag of the transaction is only known
+ *   once the first statement runs, not when the transaction manager asks for a connection.
+ * - A user who just committed a write keeps reading from the primary for a short window (read-your-writes).
+ * - A replica that fails to hand out a connection is marked down and the read falls back to the primary;
+ *   {@link ReplicaHealthChecker} brings it back.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final AtomicIntegerArray replicaUp;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final ReadYourWritesTracker readYourWrites;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker readYourWrites) {
+        this.readYourWrites = readYourWrites;
+        this.replicaKeys = new ArrayList<>(replicas.size());
+        this.replicaUp = new AtomicIntegerArray(replicas.size());
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            replicaKeys.add(key);
+            replicaUp.set(i, 1);
+            targets.put(key, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriteOnCommit();
+            return PRIMARY;
+        }
+        if (readYourWrites.isSticky(readYourWrites.currentSubject())) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary().getConnection();
+        }
+        try {
+            return target(key).getConnection();
+        } catch (SQLException e) {
+            markDown((String) key, e);
+            return primary().getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary().getConnection(username, password);
+        }
+        try {
+            return target(key).getConnection(username, password);
+        } catch (SQLException e) {
+            markDown((String) key, e);
+            return primary().getConnection(username, password);
+        }
+    }
+
+    public List<String> replicaKeys() {
+        return List.copyOf(replicaKeys);
+    }
+
+    public DataSource replica(String key) {
+        return target(key);
+    }
+
+    public boolean isUp(String key) {
+        return replicaUp.get(replicaKeys.indexOf(key)) == 1;
+    }
+
+    public void markUp(String key) {
+        if (replicaUp.getAndSet(replicaKeys.indexOf(key), 1) == 0) {
+            log.info("[ReplicaRouting] {} is back, routing reads to it again", key);
+        }
+    }
+
+    public void markDown(String key, Exception cause) {
+        if (replicaUp.getAndSet(replicaKeys.indexOf(key), 0) == 1) {
+            log.warn("[ReplicaRouting] {} marked down, reads fall back to primary: {}", key, cause.getMessage());
+        }
+    }
+
+    /**
+     * Closes the replica pools only; the primary is a bean of its own.
+     */
+    @Override
+    public void close() {
+        for (String key : replicaKeys) {
+            if (target(key) instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("[ReplicaRouting] Failed to close {}: {}", key, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicaKeys.size();
+        int start = Math.floorMod(roundRobin.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            if (replicaUp.get(index) == 1) {
+                return replicaKeys.get(index);
+            }
+        }
+        return PRIMARY; // không còn replica nào khỏe -> đọc từ primary
+    }
+
+    private void rememberWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String subject = readYourWrites.currentSubject();
+        if (subject == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite(subject);
+            }
+        });
+    }
+
+    private DataSource primary() {
+        return target(PRIMARY);
+    }
+
+    private DataSource target(Object key) {
+        return getResolvedDataSources().get(key);
+    }
+}
@@ -2,13 +2,24 @@ package com.finflow.backend.common.exception;
 
 import lombok.Getter;
 
+/**
+ * Expected business error (wrong password, expired OTP, duplicate username...), identified by its {@link ErrorCode}.
+ * These are thrown at request rate on error-heavy traffic (credential stuffing, retries), so no stack trace is
+ * captured unless there is a cause: the code says what failed, and GlobalExceptionHandler never logs the trace.
+ */
 @Getter
 public class AppException extends RuntimeException {
 
     private final ErrorCode errorCode;
 
     public AppException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, true, false);
         this.errorCode = errorCode;
     }
-}
\ No newline at end of file
+
+    // Wraps an unexpected failure (codec, dependency): keep the trace to see where it surfaced
+    public AppException(ErrorCode errorCode, Throwable cause) {
+        super(errorCode.getMessage(), cause, true, cause != null);
+        this.errorCode = errorCode;
+    }
+}
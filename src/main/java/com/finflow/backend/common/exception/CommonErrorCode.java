@@ -11,6 +11,10 @@ public enum CommonErrorCode implements ErrorCode {
     UNAUTHENTICATED(1006, "Unauthenticated", HttpStatus.UNAUTHORIZED),
     UNAUTHORIZED(1007, "You do not have permission", HttpStatus.FORBIDDEN),
     UNSUPPORTED_API_VERSION(1008, "Unsupported API version", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR(1009, "Invalid pagination cursor", HttpStatus.BAD_REQUEST),
+    CACHE_CODEC_ERROR(1010, "Failed to encode or decode cached value", HttpStatus.INTERNAL_SERVER_ERROR),
+    DEPENDENCY_UNAVAILABLE(1011, "Service temporarily unavailable", HttpStatus.SERVICE_UNAVAILABLE),
+    SERVER_OVERLOADED(1012, "Server is overloaded, please retry later", HttpStatus.SERVICE_UNAVAILABLE),
     ;
 
     private final int code;
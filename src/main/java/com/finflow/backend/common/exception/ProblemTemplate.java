@@ -0,0 +1,69 @@
+package com.finflow.backend.common.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-rendered application/problem+json body for one {@link ErrorCode}. Type, title, status and code are encoded
+ * once; a response only appends the (escaped) detail and instance, so error paths skip building a
+ * {@code ProblemDetail}, parsing a URI and running Jackson.
+ * <pre>{"type":"/api/error/1006","title":"Unauthenticated","status":401,"code":1006,"detail":"...","instance":"..."}</pre>
+ */
+public final class ProblemTemplate {
+
+    private static final Map<ErrorCode, ProblemTemplate> TEMPLATES = new ConcurrentHashMap<>();
+    private static final JsonStringEncoder ENCODER = JsonStringEncoder.getInstance();
+    private static final byte[] DETAIL = ",\"detail\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INSTANCE = "\",\"instance\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] END_STRING = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final ErrorCode errorCode;
+    private final byte[] head;
+    private final byte[] defaultDetail;
+
+    private ProblemTemplate(ErrorCode errorCode) {
+        this.errorCode = errorCode;
+        this.head = ("{\"type\":\"/api/error/" + errorCode.getCode()
+                + "\",\"title\":\"" + new String(ENCODER.quoteAsString(errorCode.getMessage()))
+                + "\",\"status\":" + errorCode.getStatusCode().value()
+                + ",\"code\":" + errorCode.getCode()).getBytes(StandardCharsets.UTF_8);
+        this.defaultDetail = ENCODER.quoteAsUTF8(errorCode.getMessage());
+    }
+
+    public static ProblemTemplate of(ErrorCode errorCode) {
+        return TEMPLATES.computeIfAbsent(errorCode, ProblemTemplate::new);
+    }
+
+    /**
+     * Body with {@code detail} (the code's message when null) and the optional {@code instance}.
+     */
+    public byte[] body(String detail, String instance) {
+        byte[] encodedDetail = detail == null || detail.equals(errorCode.getMessage())
+                ? defaultDetail : ENCODER.quoteAsUTF8(detail);
+        byte[] encodedInstance = instance != null ? ENCODER.quoteAsUTF8(instance) : null;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(head.length + DETAIL.length + encodedDetail.length
+                + (encodedInstance != null ? INSTANCE.length + encodedInstance.length : 0) + END_STRING.length);
+        out.writeBytes(head);
+        out.writeBytes(DETAIL);
+        out.writeBytes(encodedDetail);
+        if (encodedInstance != null) {
+            out.writeBytes(INSTANCE);
+            out.writeBytes(encodedInstance);
+        }
+        out.writeBytes(END_STRING);
+        return out.toByteArray();
+    }
+
+    public ResponseEntity<byte[]> response(String detail, String instance) {
+        return ResponseEntity.status(errorCode.getStatusCode())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(body(detail, instance));
+    }
+}
@@ -0,0 +1,94 @@
+package com.finflow.backend.common.id;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUID version 7 (RFC 9562) generator and BINARY(16) codec.
+ *
+ * - 48 bit Unix epoch milliseconds, then a 12 bit sequence (rand_a) that keeps ids
+ *   monotonic within the same millisecond, then 62 random bits.
+ * - Ids sort by creation time both as UUID and as big-endian bytes, so InnoDB appends
+ *   to the right-most leaf page of the clustered index instead of splitting random pages.
+ */
+public final class UuidV7 {
+
+    private static final long VERSION_BITS = 0x7000L;
+    private static final long VARIANT_BITS = 0x8000_0000_0000_0000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final int SEQUENCE_BITS = 12;
+
+    // (epochMillis << 12) | sequence of the last issued id
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static UUID generate() {
+        long next = nextTimestampAndSequence(System.currentTimeMillis());
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+
+        long msb = (millis << 16) | VERSION_BITS | sequence;
+        long lsb = VARIANT_BITS | (ThreadLocalRandom.current().nextLong() & VARIANT_MASK);
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Unix epoch milliseconds encoded in a version 7 UUID.
+     */
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("UUID must be 16 bytes, got " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * Lenient parse for identifiers coming from outside (JWT "jti", path variables).
+     * Returns null instead of throwing so callers can decide how to reject.
+     */
+    public static UUID parseOrNull(String value) {
+        if (value == null || value.length() != 36) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long nextTimestampAndSequence(long nowMillis) {
+        long candidate = nowMillis << SEQUENCE_BITS;
+        while (true) {
+            long last = LAST.get();
+            // Same millisecond (or clock moved back): bump the sequence; overflow rolls into the next ms
+            long next = candidate > last ? candidate : last + 1;
+            if (LAST.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
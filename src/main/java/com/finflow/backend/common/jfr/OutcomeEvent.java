@@ -0,0 +1,23 @@
+package com.finflow.backend.common.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Base of our JFR events: a timed stage with an outcome. Usage on the hot path:
+ * {@code e = new XEvent(); e.begin(); ... e.end("ok");} - when the event is disabled (no recording, or not enabled
+ * in the JFC profile) {@link #shouldCommit()} is false and the JIT scalar-replaces the unused instance, so the
+ * cost is a couple of branches. Enable with {@code src/main/resources/jfr/finflow.jfc}.
+ */
+public abstract class OutcomeEvent extends Event {
+
+    @Label("Outcome")
+    protected String outcome;
+
+    public void end(String outcome) {
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.finflow.backend.common.json;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * HTTP bodies are written by Boot's Jackson 3 {@link JsonMapper} (JacksonConfig's Jackson 2 ObjectMapper serves
+ * Redis and bulk import/export). Module beans are registered on that mapper; declaring the converter replaces
+ * Boot's default Jackson converter.
+ */
+@Configuration
+public class JsonHttpConfig {
+
+    // Property access through generated lambdas instead of reflection
+    @Bean
+    public JacksonModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public TypedJsonHttpMessageConverter typedJsonHttpMessageConverter(JsonMapper jsonMapper) {
+        return new TypedJsonHttpMessageConverter(jsonMapper);
+    }
+}
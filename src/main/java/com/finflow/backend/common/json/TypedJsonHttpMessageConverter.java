@@ -0,0 +1,45 @@
+package com.finflow.backend.common.json;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON converter that serializes response bodies through one shared, type-bound {@link ObjectWriter} per
+ * response type (root serializer resolved once), instead of an untyped writer per request. Output still goes
+ * straight from the generator to the response stream.
+ * <p>
+ * Only applies when the declared type is exactly what gets written (records, final classes, containers) and the
+ * request uses the default configuration (no JSON view / filters / SSE pretty printing).
+ */
+public class TypedJsonHttpMessageConverter extends JacksonJsonHttpMessageConverter {
+
+    private final SerializationConfig defaultConfig;
+    private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public TypedJsonHttpMessageConverter(JsonMapper jsonMapper) {
+        super(jsonMapper);
+        this.defaultConfig = jsonMapper.serializationConfig();
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+        if (javaType == null || writer.getConfig() != defaultConfig || !isExactType(javaType)) {
+            return writer;
+        }
+        return writers.computeIfAbsent(javaType, defaultMapper::writerFor);
+    }
+
+    // A writer bound to a non-final type would drop properties of a runtime subclass
+    private static boolean isExactType(JavaType javaType) {
+        Class<?> raw = javaType.getRawClass();
+        return javaType.isContainerType() || raw.isRecord() || Modifier.isFinal(raw.getModifiers());
+    }
+}
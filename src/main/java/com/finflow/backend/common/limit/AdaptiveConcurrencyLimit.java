@@ -0,0 +1,149 @@
+package com.finflow.backend.common.limit;
+
+import lombok.Builder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that adapts to observed latency (gradient, in the style of Netflix Gradient2) with
+ * multiplicative decrease when the protected work reports overload (AIMD).
+ * <p>
+ * Latency samples are aggregated per window. At the end of each window:
+ * <ul>
+ *   <li>dropped request seen (503/504) -> {@code limit * backoffRatio};</li>
+ *   <li>otherwise {@code gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1)} and
+ *   {@code limit = limit * gradient + sqrt(limit)}, smoothed. Latency at baseline keeps growing the limit,
+ *   queueing (shortRtt above the long-term average) shrinks it.</li>
+ * </ul>
+ * The limit never grows while the window's peak in-flight count stayed below half of it (app-limited).
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final int longWindow;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // Current window, updated lock-free by release(); folded into the limit under the lock
+    private final AtomicLong windowRttSum = new AtomicLong();
+    private final AtomicInteger windowSamples = new AtomicInteger();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private volatile boolean windowDropped;
+    private volatile long windowStart;
+
+    // Guarded by lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private double estimatedLimit;
+    private double longRtt;
+
+    @Builder
+    private AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing,
+                                     double backoffRatio, long windowMillis, int minWindowSamples, int longWindow,
+                                     LongSupplier nanoClock) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.tolerance = tolerance > 0 ? tolerance : 1.5;
+        this.smoothing = smoothing > 0 ? smoothing : 0.2;
+        this.backoffRatio = backoffRatio > 0 ? backoffRatio : 0.9;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis > 0 ? windowMillis : 1000);
+        this.minWindowSamples = Math.max(1, minWindowSamples);
+        this.longWindow = longWindow > 0 ? longWindow : 100;
+        this.nanoClock = nanoClock != null ? nanoClock : System::nanoTime;
+        this.estimatedLimit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+        this.limit = (int) estimatedLimit;
+        this.windowStart = this.nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes a slot if fewer than {@link #limit()} requests are in flight. A {@code true} must be followed by
+     * exactly one {@link #release}.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the slot and records the request's latency; {@code dropped} marks an overload outcome.
+     */
+    public void release(long rttNanos, boolean dropped) {
+        inFlight.decrementAndGet();
+        if (dropped) {
+            windowDropped = true;
+        } else {
+            windowRttSum.addAndGet(rttNanos);
+            windowSamples.incrementAndGet();
+        }
+        long now = nanoClock.getAsLong();
+        if (now - windowStart >= windowNanos && (windowDropped || windowSamples.get() >= minWindowSamples)
+                && lock.tryLock()) {
+            try {
+                if (now - windowStart >= windowNanos) {
+                    endWindow(now);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private void endWindow(long now) {
+        int samples = windowSamples.getAndSet(0);
+        long rttSum = windowRttSum.getAndSet(0);
+        int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+        boolean dropped = windowDropped;
+        windowDropped = false;
+        windowStart = now;
+
+        double newLimit;
+        if (dropped) {
+            newLimit = estimatedLimit * backoffRatio;
+        } else {
+            if (samples == 0) {
+                return;
+            }
+            double shortRtt = (double) rttSum / samples;
+            longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) / longWindow;
+            // Recovering from a long overload: let the baseline come back down faster
+            if (longRtt / shortRtt > 2) {
+                longRtt *= 0.95;
+            }
+            if (maxInFlight < estimatedLimit / 2) {
+                return;
+            }
+            double gradient = Math.clamp(tolerance * longRtt / shortRtt, 0.5, 1.0);
+            newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        }
+        estimatedLimit = Math.clamp(newLimit, minLimit, maxLimit);
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,55 @@
+package com.finflow.backend.common.limit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Registers {@link ConcurrencyLimitFilter} ahead of the security chain. Route groups come from
+ * {@code app.concurrency-limit.groups} and {@code app.concurrency-limit.<group>.*}
+ * (pattern, initial-limit, min-limit, max-limit, tolerance, window-ms).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(Environment environment,
+                                                                               MeterRegistry meterRegistry) {
+        String[] names = environment.getProperty("app.concurrency-limit.groups", String[].class, new String[0]);
+        List<ConcurrencyLimitFilter.RouteGroup> groups = Arrays.stream(names)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(name -> new ConcurrencyLimitFilter.RouteGroup(
+                        name,
+                        PathPatternParser.defaultInstance.parse(environment.getRequiredProperty(key(name, "pattern"))),
+                        AdaptiveConcurrencyLimit.builder()
+                                .initialLimit(environment.getProperty(key(name, "initial-limit"), Integer.class, 20))
+                                .minLimit(environment.getProperty(key(name, "min-limit"), Integer.class, 4))
+                                .maxLimit(environment.getProperty(key(name, "max-limit"), Integer.class, 200))
+                                .tolerance(environment.getProperty(key(name, "tolerance"), Double.class, 1.5))
+                                .windowMillis(environment.getProperty(key(name, "window-ms"), Long.class, 1000L))
+                                .minWindowSamples(10)
+                                .build()))
+                .toList();
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(groups, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        // Before Spring Security (-100): a shed request costs no JWT decoding
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private static String key(String group, String property) {
+        return "app.concurrency-limit." + group + "." + property;
+    }
+}
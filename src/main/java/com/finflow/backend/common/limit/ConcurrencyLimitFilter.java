@@ -0,0 +1,131 @@
+package com.finflow.backend.common.limit;
+
+import com.finflow.backend.common.exception.CommonErrorCode;
+import com.finflow.backend.common.exception.ProblemTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Sheds load per route group before any real work (security, JSON, DB) is done: a request over its group's
+ * {@link AdaptiveConcurrencyLimit} gets 503 immediately instead of queueing in Tomcat.
+ * Requests outside every group pass through unlimited.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] SHED_BODY = ProblemTemplate.of(CommonErrorCode.SERVER_OVERLOADED).body(null, null);
+
+    /**
+     * Requests whose path matches {@code pattern} share {@code limit}.
+     */
+    public record RouteGroup(String name, PathPattern pattern, AdaptiveConcurrencyLimit limit) {
+    }
+
+    private record Group(RouteGroup route, Counter rejected) {
+    }
+
+    private final List<Group> groups;
+
+    public ConcurrencyLimitFilter(List<RouteGroup> routeGroups, MeterRegistry meterRegistry) {
+        this.groups = routeGroups.stream().map(route -> {
+            Gauge.builder("http.concurrency.limit", route.limit(), AdaptiveConcurrencyLimit::limit)
+                    .tag("group", route.name()).register(meterRegistry);
+            Gauge.builder("http.concurrency.inflight", route.limit(), AdaptiveConcurrencyLimit::inFlight)
+                    .tag("group", route.name()).register(meterRegistry);
+            Counter rejected = Counter.builder("http.concurrency.rejected")
+                    .tag("group", route.name()).register(meterRegistry);
+            return new Group(route, rejected);
+        }).toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Group group = match(request);
+        if (group == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        AdaptiveConcurrencyLimit limit = group.route().limit();
+        if (!limit.tryAcquire()) {
+            group.rejected().increment();
+            shed(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(limit, start));
+            } else {
+                limit.release(System.nanoTime() - start, !completed || isOverload(response.getStatus()));
+            }
+        }
+    }
+
+    private Group match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (Group group : groups) {
+            if (group.route().pattern().matches(path)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private static void shed(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(SHED_BODY.length);
+        response.getOutputStream().write(SHED_BODY);
+    }
+
+    // 503 from a tripped dependency guard or 504 from a timeout: downstream is saturated
+    private static boolean isOverload(int status) {
+        return status == HttpStatus.SERVICE_UNAVAILABLE.value() || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+    private record ReleaseOnComplete(AdaptiveConcurrencyLimit limit, long start) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+            limit.release(System.nanoTime() - start, isOverload(response.getStatus()));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // onComplete follows and releases
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // onComplete follows and releases
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.finflow.backend.common.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes {@link LogPipelineStats}: {@code logging.async.dropped}, {@code logging.async.inline},
+ * {@code logging.async.queue} and {@code logging.sampling.suppressed}. All stay at 0 unless the prod
+ * logback configuration (async appender + sampling) is active.
+ */
+@Component
+public class LogPipelineMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("logging.async.dropped", LogPipelineStats.class, s -> LogPipelineStats.droppedCount())
+                .description("Log events dropped because the async buffer was full")
+                .register(registry);
+        FunctionCounter.builder("logging.async.inline", LogPipelineStats.class, s -> LogPipelineStats.inlineCount())
+                .description("WARN/ERROR events written on the caller thread because the async buffer was full")
+                .register(registry);
+        Gauge.builder("logging.async.queue", LogPipelineStats.class, s -> LogPipelineStats.queued())
+                .description("Log events waiting for the async writer")
+                .register(registry);
+        FunctionCounter.builder("logging.sampling.suppressed", LogPipelineStats.class, s -> LogPipelineStats.sampledOutCount())
+                .description("INFO/DEBUG events suppressed by per-logger sampling")
+                .register(registry);
+    }
+}
@@ -0,0 +1,73 @@
+package com.finflow.backend.common.logging;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters shared by the logging pipeline. Logback builds its appenders and turbo filters before the Spring
+ * context (and the MeterRegistry) exists, so they report here and {@link LogPipelineMetrics} reads it.
+ */
+public final class LogPipelineStats {
+
+    private static final LongAdder DROPPED = new LongAdder();
+    private static final LongAdder INLINE = new LongAdder();
+    private static final LongAdder SAMPLED_OUT = new LongAdder();
+    private static final Set<RingBufferAsyncAppender> APPENDERS = new CopyOnWriteArraySet<>();
+
+    private LogPipelineStats() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    static void dropped() {
+        DROPPED.increment();
+    }
+
+    static void appendedInline() {
+        INLINE.increment();
+    }
+
+    static void sampledOut() {
+        SAMPLED_OUT.increment();
+    }
+
+    static void register(RingBufferAsyncAppender appender) {
+        APPENDERS.add(appender);
+    }
+
+    static void unregister(RingBufferAsyncAppender appender) {
+        APPENDERS.remove(appender);
+    }
+
+    /**
+     * Events discarded because the async buffer was full.
+     */
+    public static long droppedCount() {
+        return DROPPED.sum();
+    }
+
+    /**
+     * Events at or above the never-drop level written on the caller thread because the buffer was full.
+     */
+    public static long inlineCount() {
+        return INLINE.sum();
+    }
+
+    /**
+     * Events suppressed by per-logger sampling.
+     */
+    public static long sampledOutCount() {
+        return SAMPLED_OUT.sum();
+    }
+
+    /**
+     * Events waiting in all running async appenders.
+     */
+    public static int queued() {
+        int queued = 0;
+        for (RingBufferAsyncAppender appender : APPENDERS) {
+            queued += appender.queued();
+        }
+        return queued;
+    }
+}
@@ -0,0 +1,57 @@
+package com.finflow.backend.common.logging;
+
+import java.util.regex.Pattern;
+
+/**
+ * Masks PII and credentials in log text before it leaves the process.
+ *
+ * - Emails keep the first character and the domain: {@code nguyen.an@gmail.com -> n***@gmail.com}.
+ * - JWTs (three base64url parts starting {@code eyJ}) are replaced whole.
+ * - Values of token / password / otp / authorization fields ({@code key=value}, {@code key: value},
+ *   {@code "key":"value"}) become {@code ***}.
+ * Most lines contain none of '@', "eyJ" or a secret key name; those return unchanged without touching a regex.
+ */
+public final class LogRedactor {
+
+    static final String MASK = "***";
+    static final String JWT_MASK = "[REDACTED_JWT]";
+
+    private static final Pattern EMAIL = Pattern.compile(
+            "([A-Za-z0-9._%+-])[A-Za-z0-9._%+-]*@([A-Za-z0-9-]+(?:\\.[A-Za-z0-9-]+)*\\.[A-Za-z]{2,})");
+    private static final Pattern JWT = Pattern.compile("eyJ[A-Za-z0-9_-]*\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]*");
+    private static final Pattern SECRET_FIELD = Pattern.compile(
+            "(?i)(\"?\\b(?:\\w*token|\\w*password|otp|authorization)\"?\\s*[:=]\\s*\"?)(?:Bearer\\s+)?[^\\s\",}&]+");
+    private static final String[] SECRET_KEYS = {"token", "password", "otp", "authorization"};
+
+    private LogRedactor() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static String redact(String text) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        String redacted = text;
+        if (redacted.contains("eyJ")) {
+            redacted = JWT.matcher(redacted).replaceAll(JWT_MASK);
+        }
+        if (containsSecretKey(redacted)) {
+            redacted = SECRET_FIELD.matcher(redacted).replaceAll("$1" + MASK);
+        }
+        if (redacted.indexOf('@') >= 0) {
+            redacted = EMAIL.matcher(redacted).replaceAll("$1" + MASK + "@$2");
+        }
+        return redacted;
+    }
+
+    private static boolean containsSecretKey(String text) {
+        for (String key : SECRET_KEYS) {
+            for (int i = 0, last = text.length() - key.length(); i <= last; i++) {
+                if (text.regionMatches(true, i, key, 0, key.length())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,16 @@
+package com.finflow.backend.common.logging;
+
+import org.springframework.boot.json.JsonWriter;
+import org.springframework.boot.logging.structured.StructuredLoggingJsonMembersCustomizer;
+
+/**
+ * Runs every string member of the structured JSON log line (message, MDC values, stack trace) through
+ * {@link LogRedactor}. Enabled with {@code logging.structured.json.customizer} (see application-prod.properties).
+ */
+public class RedactingJsonMembersCustomizer implements StructuredLoggingJsonMembersCustomizer<Object> {
+
+    @Override
+    public void customize(JsonWriter.Members<Object> members) {
+        members.applyingValueProcessor(JsonWriter.ValueProcessor.of(String.class, LogRedactor::redact));
+    }
+}
@@ -0,0 +1,183 @@
+package com.finflow.backend.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import com.finflow.backend.common.concurrent.MpscRingBuffer;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Async Logback appender on {@link MpscRingBuffer}: the request thread freezes the event and does one lock-free
+ * offer, a single worker thread encodes and writes through the attached appenders.
+ * <p>
+ * Unlike Logback's AsyncAppender (ArrayBlockingQueue, blocks when full unless neverBlock) a full buffer never
+ * blocks: events below {@code neverDropLevel} (default WARN) are dropped and counted, events at or above it are
+ * written on the caller thread, so errors survive a burst at the cost of ordering.
+ * Caller data (file/line) is not captured: it costs a stack walk per event.
+ * <pre>
+ * &lt;appender name="ASYNC" class="com.finflow.backend.common.logging.RingBufferAsyncAppender"&gt;
+ *     &lt;bufferCapacity&gt;8192&lt;/bufferCapacity&gt;
+ *     &lt;appender-ref ref="CONSOLE"/&gt;
+ * &lt;/appender&gt;
+ * </pre>
+ */
+public class RingBufferAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder dropped = new LongAdder();
+
+    private int bufferCapacity = 8192;
+    private int batchSize = 256;
+    private long idleWaitMillis = 10;
+    private long maxFlushTimeMillis = 1000;
+    private Level neverDropLevel = Level.WARN;
+
+    private MpscRingBuffer<ILoggingEvent> buffer;
+    private Thread worker;
+
+    public void setBufferCapacity(int bufferCapacity) {
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setIdleWaitMillis(long idleWaitMillis) {
+        this.idleWaitMillis = idleWaitMillis;
+    }
+
+    public void setMaxFlushTimeMillis(long maxFlushTimeMillis) {
+        this.maxFlushTimeMillis = maxFlushTimeMillis;
+    }
+
+    public void setNeverDropLevel(String neverDropLevel) {
+        this.neverDropLevel = Level.toLevel(neverDropLevel, Level.WARN);
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No appender attached to [" + name + "], nothing would be written");
+            return;
+        }
+        buffer = new MpscRingBuffer<>(bufferCapacity);
+        super.start();
+        worker = new Thread(this::drainLoop, "log-async-" + name);
+        worker.setDaemon(true);
+        worker.start();
+        LogPipelineStats.register(this);
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        LockSupport.unpark(worker);
+        try {
+            worker.join(maxFlushTimeMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            addWarn("[" + name + "] stopped with " + buffer.size() + " events unwritten after " + maxFlushTimeMillis + " ms");
+        }
+        LogPipelineStats.unregister(this);
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // Freeze message, MDC and thread name on the caller thread: the worker sees them later
+        event.prepareForDeferredProcessing();
+        if (buffer.offer(event)) {
+            return;
+        }
+        if (event.getLevel().isGreaterOrEqual(neverDropLevel)) {
+            appenders.appendLoopOnAppenders(event);
+            LogPipelineStats.appendedInline();
+        } else {
+            dropped.increment();
+            LogPipelineStats.dropped();
+        }
+    }
+
+    private void drainLoop() {
+        long idleParkNanos = TimeUnit.MILLISECONDS.toNanos(idleWaitMillis);
+        // Keep draining after stop() until the buffer is empty (bounded by maxFlushTimeMillis in stop)
+        while (isStarted() || !buffer.isEmpty()) {
+            int drained = buffer.drain(this::write, batchSize);
+            if (drained == 0) {
+                LockSupport.parkNanos(idleParkNanos);
+            }
+        }
+    }
+
+    private void write(ILoggingEvent event) {
+        try {
+            appenders.appendLoopOnAppenders(event);
+        } catch (RuntimeException e) {
+            // The worker must survive a broken downstream appender
+            addError("Failed to write event from [" + name + "]", e);
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    int queued() {
+        MpscRingBuffer<ILoggingEvent> current = buffer;
+        return current == null ? 0 : current.size();
+    }
+
+    // ---- AppenderAttachable ----
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
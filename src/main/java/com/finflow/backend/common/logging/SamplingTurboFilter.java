@@ -0,0 +1,87 @@
+package com.finflow.backend.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps a fraction of INFO-and-below events for high-volume loggers, e.g.
+ * {@code <rates>com.finflow.backend.modules.identity.application.usecase=0.1</rates>}
+ * (comma-separated {@code logger-prefix=rate}, longest prefix wins, unlisted loggers keep everything).
+ * <p>
+ * Turbo filters run before the event is created, so a sampled-out call costs a map lookup and a random draw:
+ * no formatting, no allocation, no trip through the appenders. WARN/ERROR and events carrying a throwable are
+ * never sampled, and {@code isXxxEnabled()} checks (no format) are left alone so guards stay stable.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String rates = "";
+    private List<Rule> rules = List.of();
+    private final Map<String, Double> rateByLogger = new ConcurrentHashMap<>();
+
+    private record Rule(String prefix, double rate) {
+    }
+
+    public void setRates(String rates) {
+        this.rates = rates == null ? "" : rates;
+    }
+
+    @Override
+    public void start() {
+        List<Rule> parsed = new ArrayList<>();
+        for (String entry : rates.split(",")) {
+            String trimmed = entry.strip();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int eq = trimmed.indexOf('=');
+            if (eq <= 0) {
+                addError("Sampling rule '" + trimmed + "' is not logger=rate, ignored");
+                continue;
+            }
+            try {
+                double rate = Double.parseDouble(trimmed.substring(eq + 1).strip());
+                parsed.add(new Rule(trimmed.substring(0, eq).strip(), Math.max(0, Math.min(1, rate))));
+            } catch (NumberFormatException e) {
+                addError("Sampling rule '" + trimmed + "' has no numeric rate, ignored");
+            }
+        }
+        parsed.sort(Comparator.comparingInt((Rule rule) -> rule.prefix().length()).reversed());
+        this.rules = List.copyOf(parsed);
+        rateByLogger.clear();
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || rules.isEmpty() || format == null || t != null
+                || level.levelInt > Level.INFO_INT || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        double rate = rateByLogger.computeIfAbsent(logger.getName(), this::rateFor);
+        if (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate) {
+            return FilterReply.NEUTRAL;
+        }
+        LogPipelineStats.sampledOut();
+        return FilterReply.DENY;
+    }
+
+    double rateFor(String loggerName) {
+        for (Rule rule : rules) {
+            if (loggerName.equals(rule.prefix())
+                    || (loggerName.startsWith(rule.prefix()) && loggerName.charAt(rule.prefix().length()) == '.')) {
+                return rule.rate();
+            }
+        }
+        return 1;
+    }
+}
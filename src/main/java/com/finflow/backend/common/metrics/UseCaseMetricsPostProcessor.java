@@ -0,0 +1,155 @@
+package com.finflow.backend.common.metrics;
+
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.common.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every use case: public {@code execute(..)} of a {@code *UseCase} class in a {@code .application.usecase}
+ * package. One timer {@code usecase.execution} tagged {@code module}, {@code usecase}, {@code outcome}
+ * (success / client_error / server_error, from the {@link ErrorCode} status) and {@code code} (ErrorCode name,
+ * exception class for non-business errors, "none" on success). Outermost advisor, so transaction and
+ * repository guard time are included. Timers are resolved once per use case + outcome, the hot path is
+ * two nanoTime reads and a record; client-side percentiles are the bulk of its cost (UseCaseMetricsBenchmark),
+ * set {@code app.metrics.usecase.percentiles} empty to rely on the SLO buckets alone.
+ */
+@Component
+public class UseCaseMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    static final String METRIC = "usecase.execution";
+    static final String OUTCOME_SUCCESS = "success";
+    static final String OUTCOME_CLIENT_ERROR = "client_error";
+    static final String OUTCOME_SERVER_ERROR = "server_error";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final double[] percentiles;
+    private final Duration[] slos;
+    private final Map<Class<?>, UseCaseTimers> timers = new ConcurrentHashMap<>();
+
+    public UseCaseMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                       @Value("${app.metrics.usecase.percentiles:0.5,0.95,0.99}") double[] percentiles,
+                                       @Value("${app.metrics.usecase.slo-ms:50,100,250,500,1000}") long[] sloMillis) {
+        this.meterRegistry = meterRegistry;
+        this.percentiles = percentiles;
+        this.slos = Arrays.stream(sloMillis).mapToObj(Duration::ofMillis).toArray(Duration[]::new);
+
+        MethodInterceptor interceptor = invocation -> {
+            UseCaseTimers useCase = timers.computeIfAbsent(AopUtils.getTargetClass(invocation.getThis()), this::timersFor);
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                useCase.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (Throwable e) {
+                useCase.failure(e).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        };
+        this.advisor = new DefaultPointcutAdvisor(new UseCasePointcut(), interceptor);
+        setBeforeExistingAdvisors(true);
+    }
+
+    private UseCaseTimers timersFor(Class<?> useCaseClass) {
+        return new UseCaseTimers(meterRegistry.getObject(), moduleOf(useCaseClass), useCaseClass.getSimpleName(),
+                percentiles, slos);
+    }
+
+    static boolean isUseCase(Class<?> type) {
+        return type.getSimpleName().endsWith("UseCase") && type.getPackageName().endsWith(".application.usecase");
+    }
+
+    // com.finflow.backend.modules.<module>.application.usecase -> <module>
+    static String moduleOf(Class<?> type) {
+        String pkg = type.getPackageName();
+        int modules = pkg.indexOf(".modules.");
+        if (modules < 0) {
+            return "common";
+        }
+        int start = modules + ".modules.".length();
+        int end = pkg.indexOf('.', start);
+        return end < 0 ? pkg.substring(start) : pkg.substring(start, end);
+    }
+
+    static String outcomeOf(Throwable e) {
+        if (e instanceof AppException appException) {
+            return appException.getErrorCode().getStatusCode().is5xxServerError() ? OUTCOME_SERVER_ERROR : OUTCOME_CLIENT_ERROR;
+        }
+        return e instanceof AuthenticationException ? OUTCOME_CLIENT_ERROR : OUTCOME_SERVER_ERROR;
+    }
+
+    static String codeOf(Throwable e) {
+        if (e instanceof AppException appException) {
+            ErrorCode errorCode = appException.getErrorCode();
+            return errorCode instanceof Enum<?> named ? named.name() : String.valueOf(errorCode.getCode());
+        }
+        return e.getClass().getSimpleName();
+    }
+
+    private static final class UseCasePointcut extends StaticMethodMatcherPointcut {
+
+        UseCasePointcut() {
+            setClassFilter(UseCaseMetricsPostProcessor::isUseCase);
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return "execute".equals(method.getName()) && Modifier.isPublic(method.getModifiers());
+        }
+    }
+
+    private static final class UseCaseTimers {
+
+        private final MeterRegistry registry;
+        private final String module;
+        private final String useCase;
+        private final double[] percentiles;
+        private final Duration[] slos;
+        private final Timer success;
+        // ErrorCode (business errors) or exception class -> timer; bounded by what a use case can throw
+        private final Map<Object, Timer> failures = new ConcurrentHashMap<>();
+
+        UseCaseTimers(MeterRegistry registry, String module, String useCase, double[] percentiles, Duration[] slos) {
+            this.registry = registry;
+            this.module = module;
+            this.useCase = useCase;
+            this.percentiles = percentiles;
+            this.slos = slos;
+            this.success = timer(OUTCOME_SUCCESS, "none");
+        }
+
+        Timer failure(Throwable e) {
+            Object key = e instanceof AppException appException ? appException.getErrorCode() : e.getClass();
+            return failures.computeIfAbsent(key, k -> timer(outcomeOf(e), codeOf(e)));
+        }
+
+        private Timer timer(String outcome, String code) {
+            return Timer.builder(METRIC)
+                    .description("Use case latency by outcome")
+                    .tag("module", module)
+                    .tag("usecase", useCase)
+                    .tag("outcome", outcome)
+                    .tag("code", code)
+                    .publishPercentiles(percentiles)
+                    .serviceLevelObjectives(slos)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.finflow.backend.common.pagination;
+
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.common.exception.CommonErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursors: the sort key of the last row on a page, URL-safe Base64 encoded.
+ * Clients must treat the value as a token; the layout may change between releases.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "\u001F"; // unit separator, never part of a sort key
+
+    private CursorCodec() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static String encode(String... keyParts) {
+        String joined = String.join(SEPARATOR, keyParts);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode} with the same number of parts.
+     * Null/blank means "first page" and returns null.
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = joined.split(SEPARATOR, -1);
+            if (parts.length != expectedParts) {
+                throw new AppException(CommonErrorCode.INVALID_CURSOR);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new AppException(CommonErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.finflow.backend.common.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.common.exception.CommonErrorCode;
+
+import java.io.IOException;
+
+/**
+ * Default codec: UTF-8 JSON, byte-for-byte what RedisService wrote before codecs existed.
+ * Reader/writer are bound to the type once instead of being resolved on every call.
+ */
+public class JsonRedisCodec<T> implements RedisCodec<T> {
+
+    private final Class<T> type;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    public JsonRedisCodec(ObjectMapper objectMapper, Class<T> type) {
+        this.type = type;
+        this.reader = objectMapper.readerFor(type);
+        this.writer = objectMapper.writerFor(type);
+    }
+
+    @Override
+    public Class<T> type() {
+        return type;
+    }
+
+    @Override
+    public byte[] encode(T value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new AppException(CommonErrorCode.CACHE_CODEC_ERROR, e);
+        }
+    }
+
+    @Override
+    public T decode(byte[] bytes) {
+        try {
+            return reader.readValue(bytes);
+        } catch (IOException e) {
+            throw new AppException(CommonErrorCode.CACHE_CODEC_ERROR, e);
+        }
+    }
+}
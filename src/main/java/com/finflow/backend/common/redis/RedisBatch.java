@@ -0,0 +1,108 @@
+package com.finflow.backend.common.redis;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Mixed commands queued for one pipelined round-trip (see {@link RedisService#pipeline}).
+ * Results come back in queue order; reads are decoded with the type's codec, everything else is
+ * the raw Redis reply (Boolean for SET/EXPIRE/HSET/ZADD/EXISTS, Long for DEL/HDEL).
+ * Not a transaction: other clients' commands can interleave.
+ */
+public final class RedisBatch {
+
+    private final RedisCodecRegistry codecs;
+    private final List<Consumer<RedisConnection>> commands = new ArrayList<>();
+    private final List<Function<Object, Object>> decoders = new ArrayList<>();
+    private final List<String> writtenKeys = new ArrayList<>();
+
+    RedisBatch(RedisCodecRegistry codecs) {
+        this.codecs = codecs;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> RedisBatch set(String key, T value, long timeout, TimeUnit unit) {
+        byte[] bytes = codecs.forType((Class<T>) value.getClass()).encode(value);
+        writtenKeys.add(key);
+        return add(c -> c.stringCommands().set(raw(key), bytes, Expiration.from(timeout, unit), SetOption.upsert()),
+                Function.identity());
+    }
+
+    public <T> RedisBatch get(String key, Class<T> type) {
+        RedisCodec<T> codec = codecs.forType(type);
+        return add(c -> c.stringCommands().get(raw(key)), reply -> reply != null ? codec.decode((byte[]) reply) : null);
+    }
+
+    public RedisBatch delete(String key) {
+        writtenKeys.add(key);
+        return add(c -> c.keyCommands().del(raw(key)), Function.identity());
+    }
+
+    public RedisBatch exists(String key) {
+        return add(c -> c.keyCommands().exists(raw(key)), Function.identity());
+    }
+
+    public RedisBatch expire(String key, long timeout, TimeUnit unit) {
+        return add(c -> c.keyCommands().pExpire(raw(key), unit.toMillis(timeout)), Function.identity());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> RedisBatch hSet(String key, String field, T value) {
+        byte[] bytes = codecs.forType((Class<T>) value.getClass()).encode(value);
+        return add(c -> c.hashCommands().hSet(raw(key), raw(field), bytes), Function.identity());
+    }
+
+    public <T> RedisBatch hGet(String key, String field, Class<T> type) {
+        RedisCodec<T> codec = codecs.forType(type);
+        return add(c -> c.hashCommands().hGet(raw(key), raw(field)),
+                reply -> reply != null ? codec.decode((byte[]) reply) : null);
+    }
+
+    public RedisBatch hDelete(String key, String field) {
+        return add(c -> c.hashCommands().hDel(raw(key), raw(field)), Function.identity());
+    }
+
+    public RedisBatch zAdd(String key, String member, double score) {
+        return add(c -> c.zSetCommands().zAdd(raw(key), score, raw(member)), Function.identity());
+    }
+
+    public int size() {
+        return commands.size();
+    }
+
+    List<String> writtenKeys() {
+        return writtenKeys;
+    }
+
+    void execute(RedisConnection connection) {
+        for (Consumer<RedisConnection> command : commands) {
+            command.accept(connection);
+        }
+    }
+
+    List<Object> decode(List<Object> replies) {
+        List<Object> results = new ArrayList<>(replies.size());
+        for (int i = 0; i < replies.size(); i++) {
+            results.add(decoders.get(i).apply(replies.get(i)));
+        }
+        return results;
+    }
+
+    private RedisBatch add(Consumer<RedisConnection> command, Function<Object, Object> decoder) {
+        commands.add(command);
+        decoders.add(decoder);
+        return this;
+    }
+
+    static byte[] raw(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,14 @@
+package com.finflow.backend.common.redis;
+
+/**
+ * Converts one value type to and from the bytes stored in Redis.
+ * Codec beans are picked up by {@link RedisCodecRegistry}; types without one are stored as JSON.
+ */
+public interface RedisCodec<T> {
+
+    Class<T> type();
+
+    byte[] encode(T value);
+
+    T decode(byte[] bytes);
+}
@@ -0,0 +1,32 @@
+package com.finflow.backend.common.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Codec per value type: registered {@link RedisCodec} beans win, everything else falls back to JSON.
+ */
+@Component
+public class RedisCodecRegistry {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, RedisCodec<?>> codecs = new ConcurrentHashMap<>();
+
+    public RedisCodecRegistry(ObjectMapper objectMapper, List<RedisCodec<?>> registered) {
+        this.objectMapper = objectMapper;
+        for (RedisCodec<?> codec : registered) {
+            if (codecs.putIfAbsent(codec.type(), codec) != null) {
+                throw new IllegalStateException("Duplicate Redis codec for " + codec.type().getName());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> RedisCodec<T> forType(Class<T> type) {
+        return (RedisCodec<T>) codecs.computeIfAbsent(type, t -> new JsonRedisCodec<>(objectMapper, t));
+    }
+}
@@ -0,0 +1,339 @@
+package com.finflow.backend.common.redis;
+
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Optional in-process copy of Redis values for opted-in key prefixes, kept coherent with RESP3
+ * client-side caching: a dedicated connection runs CLIENT TRACKING ON BCAST PREFIX ..., and Redis pushes
+ * an "invalidate" message for every write/expiry/eviction of a matching key, which drops the local copy.
+ * <p>
+ * Loads race against invalidations: a placeholder is put before reading from Redis and only replaced by the
+ * value if no invalidation removed it in between, so a stale read is never cached.
+ * While the tracking connection is down (no invalidations arrive) the cache is cleared and bypassed.
+ * The connection is opened off the startup path (with retries), so a slow or absent Redis never delays
+ * startup; reads simply bypass the cache until tracking is on.
+ * Entries also expire after {@code max-ttl-ms} as a safety net. Off by default.
+ */
+@Component
+@Slf4j
+public class RedisNearCache implements SmartLifecycle {
+
+    private final boolean enabled;
+    private final List<String> prefixes;
+    private final int maxEntries;
+    private final long maxTtlMillis;
+    private final RedisConnectionFactory connectionFactory;
+    private final Clock clock;
+
+    // key -> Entry, or a Loading placeholder while a read-through is in flight
+    private final Map<String, Object> entries = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+    private final Counter evictions;
+
+    private static final long MAX_CONNECT_BACKOFF_MILLIS = 30_000;
+
+    private volatile boolean tracking;
+    private volatile boolean running;
+    private StatefulRedisConnection<byte[], byte[]> trackingConnection;
+    private Thread connector;
+
+    @Autowired
+    public RedisNearCache(@Value("${app.redis.near-cache.enabled:false}") boolean enabled,
+                          @Value("${app.redis.near-cache.prefixes:}") List<String> prefixes,
+                          @Value("${app.redis.near-cache.max-entries:10000}") int maxEntries,
+                          @Value("${app.redis.near-cache.max-ttl-ms:60000}") long maxTtlMillis,
+                          RedisConnectionFactory connectionFactory,
+                          MeterRegistry meterRegistry) {
+        this(enabled, prefixes, maxEntries, maxTtlMillis, connectionFactory, meterRegistry, Clock.systemUTC());
+    }
+
+    RedisNearCache(boolean enabled, List<String> prefixes, int maxEntries, long maxTtlMillis,
+                   RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry, Clock clock) {
+        this.prefixes = prefixes.stream().filter(p -> !p.isBlank()).toList();
+        // No prefix left (e.g. prefixes=" "): BCAST tracking without PREFIX would invalidate every key
+        this.enabled = enabled && !this.prefixes.isEmpty();
+        this.maxEntries = maxEntries;
+        this.maxTtlMillis = maxTtlMillis;
+        this.connectionFactory = connectionFactory;
+        this.clock = clock;
+
+        Gauge.builder("redis.nearcache.size", entries, Map::size).register(meterRegistry);
+        this.hits = Counter.builder("redis.nearcache.hits").register(meterRegistry);
+        this.misses = Counter.builder("redis.nearcache.misses").register(meterRegistry);
+        this.invalidations = Counter.builder("redis.nearcache.invalidations")
+                .description("Local entries dropped because Redis reported the key changed")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("redis.nearcache.evictions")
+                .description("Local entries dropped to stay within max-entries")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Pass-through instance for code paths built without Spring (tests, tools).
+     */
+    public static RedisNearCache disabled() {
+        return new RedisNearCache(false, List.of(), 0, 0, null, new SimpleMeterRegistry(), Clock.systemUTC());
+    }
+
+    /**
+     * Local copy if present, otherwise {@code loader} (one Redis read) and remember the result.
+     * Keys outside the opted-in prefixes, and all keys while tracking is down, go straight to the loader.
+     */
+    public byte[] get(String key, Supplier<byte[]> loader) {
+        if (!tracking || !covers(key)) {
+            return loader.get();
+        }
+        long now = clock.millis();
+        Object current = entries.get(key);
+        if (current instanceof Entry entry && entry.expiresAt > now) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+
+        Loading marker = new Loading();
+        boolean claimed = current == null ? entries.putIfAbsent(key, marker) == null : entries.replace(key, current, marker);
+        if (!claimed) {
+            // Someone else is loading or just invalidated the key; don't cache this read
+            return loader.get();
+        }
+        byte[] value = null;
+        try {
+            value = loader.get();
+        } finally {
+            if (value != null && entries.replace(key, marker, new Entry(value, now + maxTtlMillis))) {
+                evictIfFull();
+            } else {
+                entries.remove(key, marker);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Drops the local copy right after this instance writes the key, without waiting for the push message.
+     */
+    public void invalidate(String key) {
+        if (enabled && entries.remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    public boolean covers(String key) {
+        if (!enabled) {
+            return false;
+        }
+        for (String prefix : prefixes) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isTracking() {
+        return tracking;
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public double hitCount() {
+        return hits.count();
+    }
+
+    public double invalidationCount() {
+        return invalidations.count();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            running = true;
+            return;
+        }
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuce)
+                || !(lettuce.getNativeClient() instanceof RedisClient client)) {
+            log.warn("[NearCache] Needs a standalone Lettuce connection; near cache stays disabled");
+            running = true;
+            return;
+        }
+        running = true;
+        connector = Thread.ofVirtual().name("redis-near-cache-connect").start(() -> connect(client));
+    }
+
+    /**
+     * Opens the tracking connection and switches tracking on, retrying with backoff until it works or
+     * the cache is stopped. Runs on its own thread: both steps block on Redis.
+     */
+    private void connect(RedisClient client) {
+        long backoffMillis = 1_000;
+        while (running) {
+            StatefulRedisConnection<byte[], byte[]> connection = null;
+            try {
+                connection = client.connect(ByteArrayCodec.INSTANCE);
+                connection.addListener(this::onPush);
+                connection.addListener(new RedisConnectionStateListener() {
+                    @Override
+                    public void onRedisDisconnected(RedisChannelHandler<?, ?> connection) {
+                        // Invalidations sent while we are disconnected are lost
+                        tracking = false;
+                        entries.clear();
+                    }
+
+                    @Override
+                    public void onRedisConnected(RedisChannelHandler<?, ?> connection, SocketAddress socketAddress) {
+                        // Tracking is per connection; after a reconnect it has to be switched on again.
+                        // Async: this callback runs on the I/O thread.
+                        if (running) {
+                            enableTracking(false);
+                        }
+                    }
+                });
+                synchronized (this) {
+                    if (!running) {
+                        connection.close();
+                        return;
+                    }
+                    trackingConnection = connection;
+                }
+                enableTracking(true);
+                log.info("[NearCache] Tracking prefixes {} (max {} entries, ttl {} ms)", prefixes, maxEntries, maxTtlMillis);
+                return;
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    if (connection != null) {
+                        connection.close();
+                    }
+                    trackingConnection = null;
+                }
+                if (!running) {
+                    return;
+                }
+                log.warn("[NearCache] Enabling tracking failed, cache bypassed; retrying in {} ms: {}",
+                        backoffMillis, e.getMessage());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(backoffMillis));
+                backoffMillis = Math.min(backoffMillis * 2, MAX_CONNECT_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        tracking = false;
+        if (connector != null) {
+            LockSupport.unpark(connector);
+            connector = null;
+        }
+        synchronized (this) {
+            if (trackingConnection != null) {
+                trackingConnection.close();
+                trackingConnection = null;
+            }
+        }
+        entries.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void enableTracking(boolean sync) {
+        TrackingArgs args = TrackingArgs.Builder.enabled().bcast().prefixes(prefixes.toArray(String[]::new));
+        if (sync) {
+            trackingConnection.sync().clientTracking(args);
+            entries.clear();
+            tracking = true;
+        } else {
+            trackingConnection.async().clientTracking(args).whenComplete((ok, error) -> {
+                if (error != null) {
+                    log.warn("[NearCache] Re-enabling tracking failed, cache bypassed", error);
+                    return;
+                }
+                entries.clear();
+                tracking = true;
+            });
+        }
+    }
+
+    private void onPush(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys instanceof List<?> list) {
+            for (Object key : list) {
+                if (entries.remove(String.valueOf(key)) != null) {
+                    invalidations.increment();
+                }
+            }
+        } else {
+            // Null key list: the server flushed (FLUSHALL/FLUSHDB), drop everything
+            invalidations.increment(entries.size());
+            entries.clear();
+        }
+    }
+
+    /**
+     * Size cap without LRU bookkeeping on the read path: drop arbitrary entries once over the limit.
+     */
+    private void evictIfFull() {
+        int excess = entries.size() - maxEntries;
+        if (excess <= 0) {
+            return;
+        }
+        Iterator<Map.Entry<String, Object>> it = entries.entrySet().iterator();
+        while (excess > 0 && it.hasNext()) {
+            if (it.next().getValue() instanceof Entry) {
+                it.remove();
+                evictions.increment();
+                excess--;
+            }
+        }
+    }
+
+    private record Entry(byte[] value, long expiresAt) {
+    }
+
+    private static final class Loading {
+    }
+}
@@ -1,55 +1,304 @@
 package com.finflow.backend.common.redis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.common.resilience.DependencyGuard;
+import com.finflow.backend.common.resilience.DependencyGuards;
+import com.finflow.backend.common.timing.RequestTiming;
+import com.finflow.backend.common.timing.TimingStage;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import static com.finflow.backend.common.redis.RedisBatch.raw;
+
+/**
+ * Values go through the codec registered for their type ({@link RedisCodecRegistry}, JSON by default)
+ * and are written as raw bytes, so binary codecs need no separate template.
+ * Batch variants (multiGet/multiSet/pipeline/hash multi-field) cost one round-trip for any number of keys.
+ * Single-key {@link #get} is served from {@link RedisNearCache} for opted-in prefixes when it is enabled.
+ * Every Redis call goes through the "redis" {@link DependencyGuard}: connection/timeout errors surface as
+ * {@link com.finflow.backend.common.resilience.DependencyUnavailableException} (503) and open the circuit.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class RedisService {
     
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisCodecRegistry codecs;
+    private final RedisNearCache nearCache;
+    private final DependencyGuard guard;
+
+    @Autowired
+    public RedisService(RedisTemplate<String, String> redisTemplate, RedisCodecRegistry codecs, RedisNearCache nearCache,
+                        DependencyGuards guards) {
+        this(redisTemplate, codecs, nearCache,
+                guards.get(DependencyGuards.REDIS, e -> e instanceof DataAccessException));
+    }
+
+    public RedisService(RedisTemplate<String, String> redisTemplate, RedisCodecRegistry codecs, RedisNearCache nearCache,
+                        DependencyGuard guard) {
+        this.redisTemplate = redisTemplate;
+        this.codecs = codecs;
+        this.nearCache = nearCache;
+        this.guard = guard;
+    }
+
+    public RedisService(RedisTemplate<String, String> redisTemplate, RedisCodecRegistry codecs, RedisNearCache nearCache) {
+        this(redisTemplate, codecs, nearCache, DependencyGuard.unguarded(DependencyGuards.REDIS));
+    }
+
+    public RedisService(RedisTemplate<String, String> redisTemplate, RedisCodecRegistry codecs) {
+        this(redisTemplate, codecs, RedisNearCache.disabled());
+    }
 
     public <T> void set(String key, T value, long timeout, TimeUnit unit) {
-        try {
-            String json = objectMapper.writeValueAsString(value);
-            redisTemplate.opsForValue().set(key, json, timeout, unit);
-            log.debug("Set Redis key: {} with TTL: {} {}", key, timeout, unit);
-        } catch (Exception e) {
-            log.error("Error writing to Redis for key: {}", key, e);
-            throw new RuntimeException("Failed to write to Redis: " + e.getMessage(), e);
-        }
+        byte[] bytes = encode(value);
+        redis(() -> redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.stringCommands().set(raw(key), bytes, Expiration.from(timeout, unit), SetOption.upsert())));
+        nearCache.invalidate(key);
+        log.debug("Set Redis key: {} with TTL: {} {}", key, timeout, unit);
     }
 
     public <T> T get(String key, Class<T> targetClass) {
-        String json = redisTemplate.opsForValue().get(key);
-        if (json == null) {
+        byte[] bytes = nearCache.get(key, () ->
+                redis(() -> redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(raw(key)))));
+        if (bytes == null) {
             log.debug("Redis key not found: {}", key);
             return null;
         }
-        
         try {
-            return objectMapper.readValue(json, targetClass);
-        } catch (Exception e) {
+            return codecs.forType(targetClass).decode(bytes);
+        } catch (AppException e) {
             log.error("Error reading from Redis for key: {}", key, e);
-            throw new RuntimeException("Failed to read from Redis: " + e.getMessage(), e);
+            throw e;
         }
     }
 
     public boolean delete(String key) {
-        Boolean result = redisTemplate.delete(key);
+        Boolean result = redis(() -> redisTemplate.delete(key));
+        nearCache.invalidate(key);
         log.debug("Deleted Redis key: {} - Result: {}", key, result);
         return Boolean.TRUE.equals(result);
     }
 
     public boolean exists(String key) {
-        Boolean result = redisTemplate.hasKey(key);
+        Boolean result = redis(() -> redisTemplate.hasKey(key));
         return Boolean.TRUE.equals(result);
     }
+
+    /**
+     * Values of several keys in one MGET round-trip; missing or undecodable keys come back as null (same order as keys).
+     */
+    public <T> List<T> multiGet(List<String> keys, Class<T> targetClass) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        byte[][] rawKeys = keys.stream().map(RedisBatch::raw).toArray(byte[][]::new);
+        List<byte[]> values = redis(() -> redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.stringCommands().mGet(rawKeys)));
+        return decodeAll(keys, values, targetClass);
+    }
+
+    /**
+     * SET with the same TTL for every entry, pipelined (MSET has no TTL).
+     */
+    public <T> void multiSet(Map<String, T> values, long timeout, TimeUnit unit) {
+        if (values.isEmpty()) {
+            return;
+        }
+        pipeline(batch -> values.forEach((key, value) -> batch.set(key, value, timeout, unit)));
+    }
+
+    /**
+     * Runs the queued commands in one pipelined round-trip and returns their results in queue order.
+     */
+    public List<Object> pipeline(Consumer<RedisBatch> commands) {
+        RedisBatch batch = new RedisBatch(codecs);
+        commands.accept(batch);
+        if (batch.size() == 0) {
+            return List.of();
+        }
+        List<Object> replies = redis(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            batch.execute(connection);
+            return null;
+        }, RedisSerializer.byteArray()));
+        batch.writtenKeys().forEach(nearCache::invalidate);
+        return batch.decode(replies);
+    }
+
+    public long delete(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long deleted = redis(() -> redisTemplate.delete(keys));
+        keys.forEach(nearCache::invalidate);
+        return deleted != null ? deleted : 0;
+    }
+
+    public boolean expire(String key, long timeout, TimeUnit unit) {
+        return Boolean.TRUE.equals(redis(() -> redisTemplate.expire(key, timeout, unit)));
+    }
+
+    // ---- Hashes: one key holding many small fields (values use the same codecs as plain keys) ----
+
+    public <T> void hSet(String key, String field, T value) {
+        byte[] bytes = encode(value);
+        redis(() -> redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.hashCommands().hSet(raw(key), raw(field), bytes)));
+    }
+
+    public <T> void hSetAll(String key, Map<String, T> fields) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        Map<byte[], byte[]> rawFields = new LinkedHashMap<>();
+        fields.forEach((field, value) -> rawFields.put(raw(field), encode(value)));
+        redis(() -> redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.hashCommands().hMSet(raw(key), rawFields);
+            return null;
+        }));
+    }
+
+    public <T> T hGet(String key, String field, Class<T> targetClass) {
+        byte[] bytes = redis(() -> redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.hashCommands().hGet(raw(key), raw(field))));
+        return bytes != null ? codecs.forType(targetClass).decode(bytes) : null;
+    }
+
+    /**
+     * HMGET: values of several fields in field order, null where missing or undecodable.
+     */
+    public <T> List<T> hMultiGet(String key, List<String> fields, Class<T> targetClass) {
+        if (fields.isEmpty()) {
+            return List.of();
+        }
+        byte[][] rawFields = fields.stream().map(RedisBatch::raw).toArray(byte[][]::new);
+        List<byte[]> values = redis(() -> redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.hashCommands().hMGet(raw(key), rawFields)));
+        return decodeAll(fields, values, targetClass);
+    }
+
+    public <T> Map<String, T> hGetAll(String key, Class<T> targetClass) {
+        Map<byte[], byte[]> entries = redis(() -> redisTemplate.execute((RedisCallback<Map<byte[], byte[]>>) connection ->
+                connection.hashCommands().hGetAll(raw(key))));
+        Map<String, T> result = new LinkedHashMap<>();
+        if (entries != null) {
+            RedisCodec<T> codec = codecs.forType(targetClass);
+            entries.forEach((field, value) -> result.put(new String(field, StandardCharsets.UTF_8), codec.decode(value)));
+        }
+        return result;
+    }
+
+    public long hDelete(String key, String... fields) {
+        if (fields.length == 0) {
+            return 0;
+        }
+        byte[][] rawFields = Arrays.stream(fields).map(RedisBatch::raw).toArray(byte[][]::new);
+        Long removed = redis(() -> redisTemplate.execute((RedisCallback<Long>) connection -> connection.hashCommands().hDel(raw(key), rawFields)));
+        return removed != null ? removed : 0;
+    }
+
+    /**
+     * HINCRBY on a plain integer field (not codec-encoded); returns the new value.
+     */
+    public long hIncrBy(String key, String field, long delta) {
+        Long value = redis(() -> redisTemplate.execute((RedisCallback<Long>) connection -> connection.hashCommands().hIncrBy(raw(key), raw(field), delta)));
+        return value != null ? value : 0;
+    }
+
+    // ---- Sorted sets: O(log n) add/remove/score, range reads cost O(log n + m) ----
+
+    public void zAdd(String key, String member, double score) {
+        redis(() -> redisTemplate.opsForZSet().add(key, member, score));
+    }
+
+    public Double zScore(String key, String member) {
+        return redis(() -> redisTemplate.opsForZSet().score(key, member));
+    }
+
+    public long zRemove(String key, Object... members) {
+        if (members.length == 0) {
+            return 0;
+        }
+        Long removed = redis(() -> redisTemplate.opsForZSet().remove(key, members));
+        return removed != null ? removed : 0;
+    }
+
+    public long zRemoveRangeByScore(String key, double min, double max) {
+        Long removed = redis(() -> redisTemplate.opsForZSet().removeRangeByScore(key, min, max));
+        return removed != null ? removed : 0;
+    }
+
+    public long zCard(String key) {
+        Long size = redis(() -> redisTemplate.opsForZSet().zCard(key));
+        return size != null ? size : 0;
+    }
+
+    /**
+     * Members by rank, lowest score first ({@code end} inclusive, negative counts from the end).
+     */
+    public List<String> zRange(String key, long start, long end) {
+        Set<String> members = redis(() -> redisTemplate.opsForZSet().range(key, start, end));
+        return members != null ? new ArrayList<>(members) : List.of();
+    }
+
+    /**
+     * Members with scores by rank, highest score first; iteration order follows the ranking.
+     */
+    public Map<String, Double> zRevRangeWithScores(String key, long start, long end) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redis(() -> redisTemplate.opsForZSet().reverseRangeWithScores(key, start, end));
+        Map<String, Double> result = new LinkedHashMap<>();
+        if (tuples != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                result.put(tuple.getValue(), tuple.getScore());
+            }
+        }
+        return result;
+    }
+
+    private <T> T redis(Supplier<T> call) {
+        long started = RequestTiming.begin(TimingStage.REDIS);
+        try {
+            return guard.call(call);
+        } finally {
+            RequestTiming.end(TimingStage.REDIS, started);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> byte[] encode(T value) {
+        return codecs.forType((Class<T>) value.getClass()).encode(value);
+    }
+
+    private <T> List<T> decodeAll(List<String> keys, List<byte[]> values, Class<T> targetClass) {
+        RedisCodec<T> codec = codecs.forType(targetClass);
+        List<T> result = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] bytes = values != null ? values.get(i) : null;
+            try {
+                result.add(bytes != null ? codec.decode(bytes) : null);
+            } catch (AppException e) {
+                log.error("Error reading from Redis for key: {}", keys.get(i), e);
+                result.add(null);
+            }
+        }
+        return result;
+    }
 }
@@ -0,0 +1,191 @@
+package com.finflow.backend.common.resilience;
+
+import com.finflow.backend.common.resilience.DependencyUnavailableException.Reason;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bulkhead + circuit breaker (+ optional hard timeout) for one external dependency.
+ * <ul>
+ *   <li>{@link #call}: runs on the caller's thread (keeps transactions/ThreadLocals); the latency bound comes from
+ *   the client's own timeouts (Lettuce command timeout, JDBC socketTimeout, SMTP timeouts).</li>
+ *   <li>{@link #callWithTimeout}: runs on a virtual thread and stops waiting after {@code timeoutMillis}, for clients
+ *   without a usable timeout. The permit is only returned when the call really ends, so hung calls stay bounded
+ *   by {@code maxConcurrent}.</li>
+ * </ul>
+ * Exceptions matching {@code isFailure} count against the circuit and are rethrown as
+ * {@link DependencyUnavailableException}; other exceptions (business errors) pass through unchanged.
+ */
+@Slf4j
+public class DependencyGuard {
+
+    private static final ExecutorService TIMEOUT_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final String name;
+    private final Semaphore bulkhead;
+    private final long maxWaitMillis;
+    private final long timeoutMillis;
+    private final CircuitBreaker circuitBreaker;
+    private final Predicate<Throwable> isFailure;
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter timeouts;
+    private final Counter rejections;
+
+    @Builder
+    private DependencyGuard(String name, int maxConcurrent, long maxWaitMillis, long timeoutMillis,
+                            int windowSize, int minimumCalls, int failureRateThreshold, long openDurationMillis,
+                            Predicate<Throwable> isFailure, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.maxWaitMillis = maxWaitMillis;
+        this.timeoutMillis = timeoutMillis;
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDurationMillis,
+                System::currentTimeMillis);
+        this.isFailure = isFailure != null ? isFailure : e -> true;
+
+        MeterRegistry registry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+        Gauge.builder("dependency.inflight", bulkhead, b -> maxConcurrent - b.availablePermits())
+                .tag("dependency", name).register(registry);
+        Gauge.builder("dependency.circuit.state", circuitBreaker, cb -> cb.state().ordinal())
+                .description("0 = closed, 1 = open, 2 = half-open")
+                .tag("dependency", name).register(registry);
+        this.successes = outcome(registry, "success");
+        this.failures = outcome(registry, "failure");
+        this.timeouts = outcome(registry, "timeout");
+        this.rejections = outcome(registry, "rejected");
+    }
+
+    /**
+     * Pass-through guard (no limit, never opens) for code paths built without Spring (tests, tools).
+     */
+    public static DependencyGuard unguarded(String name) {
+        return DependencyGuard.builder().name(name).maxConcurrent(Integer.MAX_VALUE)
+                .windowSize(1).minimumCalls(1).failureRateThreshold(101).openDurationMillis(0)
+                .isFailure(e -> false).build();
+    }
+
+    public <T> T call(Supplier<T> action) {
+        acquire();
+        try {
+            T result = action.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            throw onException(e);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T callWithTimeout(Supplier<T> action) {
+        acquire();
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return action.get();
+                } finally {
+                    bulkhead.release();
+                }
+            }, TIMEOUT_EXECUTOR);
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            circuitBreaker.release();
+            throw e;
+        }
+        try {
+            T result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeouts.increment();
+            circuitBreaker.onFailure();
+            log.warn("[Guard:{}] Call timed out after {} ms", name, timeoutMillis);
+            throw new DependencyUnavailableException(name, Reason.TIMEOUT, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw onException(runtime);
+            }
+            throw onException(new IllegalStateException(cause));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.release();
+            throw new DependencyUnavailableException(name, Reason.TIMEOUT, e);
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public CircuitBreaker.State state() {
+        return circuitBreaker.state();
+    }
+
+    private void acquire() {
+        if (!circuitBreaker.tryAcquire()) {
+            rejections.increment();
+            throw new DependencyUnavailableException(name, Reason.CIRCUIT_OPEN, null);
+        }
+        boolean permitted;
+        try {
+            permitted = maxWaitMillis > 0
+                    ? bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)
+                    : bulkhead.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            permitted = false;
+        }
+        if (!permitted) {
+            circuitBreaker.release();
+            rejections.increment();
+            throw new DependencyUnavailableException(name, Reason.BULKHEAD_FULL, null);
+        }
+    }
+
+    private void onSuccess() {
+        circuitBreaker.onSuccess();
+        successes.increment();
+    }
+
+    private RuntimeException onException(RuntimeException e) {
+        if (e instanceof DependencyUnavailableException || !isFailure.test(e)) {
+            // Business outcome (or already classified by an inner guard): the dependency itself answered
+            circuitBreaker.onSuccess();
+            return e;
+        }
+        circuitBreaker.onFailure();
+        failures.increment();
+        log.warn("[Guard:{}] Call failed: {}", name, e.toString());
+        return new DependencyUnavailableException(name, Reason.FAILURE, e);
+    }
+
+    private Counter outcome(MeterRegistry registry, String outcome) {
+        return Counter.builder("dependency.calls").tag("dependency", name).tag("outcome", outcome).register(registry);
+    }
+}
@@ -0,0 +1,50 @@
+package com.finflow.backend.common.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * One {@link DependencyGuard} per dependency name, configured from {@code app.resilience.<name>.*}
+ * (max-concurrent, max-wait-ms, timeout-ms, window-size, minimum-calls, failure-rate-threshold, open-duration-ms).
+ */
+@Component
+@RequiredArgsConstructor
+public class DependencyGuards {
+
+    public static final String REDIS = "redis";
+    public static final String MYSQL = "mysql";
+    public static final String MAIL = "mail";
+    public static final String GOOGLE = "google";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DependencyGuard> guards = new ConcurrentHashMap<>();
+
+    /**
+     * Guard for {@code name}; the failure predicate of the first caller wins.
+     */
+    public DependencyGuard get(String name, Predicate<Throwable> isFailure) {
+        return guards.computeIfAbsent(name, n -> DependencyGuard.builder()
+                .name(n)
+                .maxConcurrent(property(n, "max-concurrent", 50))
+                .maxWaitMillis(property(n, "max-wait-ms", 0))
+                .timeoutMillis(property(n, "timeout-ms", 2000))
+                .windowSize(property(n, "window-size", 20))
+                .minimumCalls(property(n, "minimum-calls", 10))
+                .failureRateThreshold(property(n, "failure-rate-threshold", 50))
+                .openDurationMillis(property(n, "open-duration-ms", 5000))
+                .isFailure(isFailure)
+                .meterRegistry(meterRegistry)
+                .build());
+    }
+
+    private int property(String name, String key, int defaultValue) {
+        return environment.getProperty("app.resilience." + name + "." + key, Integer.class, defaultValue);
+    }
+}
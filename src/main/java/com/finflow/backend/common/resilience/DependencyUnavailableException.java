@@ -0,0 +1,29 @@
+package com.finflow.backend.common.resilience;
+
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.common.exception.CommonErrorCode;
+import lombok.Getter;
+
+/**
+ * A guarded dependency could not serve the call: circuit open, bulkhead full, timed out or failed.
+ * Maps to 503 through {@link CommonErrorCode#DEPENDENCY_UNAVAILABLE}.
+ */
+@Getter
+public class DependencyUnavailableException extends AppException {
+
+    public enum Reason { CIRCUIT_OPEN, BULKHEAD_FULL, TIMEOUT, FAILURE }
+
+    private final String dependency;
+    private final Reason reason;
+
+    public DependencyUnavailableException(String dependency, Reason reason, Throwable cause) {
+        super(CommonErrorCode.DEPENDENCY_UNAVAILABLE, cause);
+        this.dependency = dependency;
+        this.reason = reason;
+    }
+
+    @Override
+    public String getMessage() {
+        return CommonErrorCode.DEPENDENCY_UNAVAILABLE.getMessage() + " (" + dependency + ": " + reason + ")";
+    }
+}
@@ -0,0 +1,55 @@
+package com.finflow.backend.common.resilience;
+
+import com.finflow.backend.common.timing.RequestTiming;
+import com.finflow.backend.common.timing.TimingStage;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+/**
+ * Puts every {@code @Repository} bean (Spring Data repositories via SimpleJpaRepository, and our JDBC repositories)
+ * behind the "mysql" {@link DependencyGuard}, outermost so it sees translated exceptions and connection acquisition.
+ * Only connectivity/timeout errors count as failures; constraint violations etc. pass through untouched.
+ * Latency is bounded by Hikari connection-timeout, JDBC connect/socket timeouts and the JPA query timeout.
+ * Each call is also the "db" span of the request timing (including waiting for a permit / connection).
+ */
+@Component
+public class RepositoryGuardPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public RepositoryGuardPostProcessor(ObjectProvider<DependencyGuards> guards) {
+        MethodInterceptor interceptor = invocation -> {
+            DependencyGuard guard = guards.getObject().get(DependencyGuards.MYSQL, RepositoryGuardPostProcessor::isFailure);
+            long started = RequestTiming.begin(TimingStage.DB);
+            try {
+                return guard.call(() -> {
+                    try {
+                        return invocation.proceed();
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+            } finally {
+                RequestTiming.end(TimingStage.DB, started);
+            }
+        };
+        this.advisor = new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Repository.class, true), interceptor);
+        setBeforeExistingAdvisors(true);
+    }
+
+    static boolean isFailure(Throwable e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+}
@@ -0,0 +1,118 @@
+package com.finflow.backend.common.timing;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Per-request stage timings (total time and call count per {@link TimingStage}), opened by
+ * {@link RequestTimingFilter} on the request thread. Outside a request (scheduled jobs, @Async, bulk import
+ * workers) every call is a no-op. A stage nested in itself (a repository calling a repository) counts once;
+ * different stages may overlap, e.g. jwt-decode includes the revocation lookup that also shows under db.
+ * <p>
+ * Instrumented code: {@code long t = RequestTiming.begin(stage); try { ... } finally { RequestTiming.end(stage, t); }}
+ * or {@link #time(TimingStage, Supplier)} where a lambda is already in the way.
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final TimingStage[] STAGES = TimingStage.values();
+    private static final long INACTIVE = -1L;
+
+    private final long startNanos = System.nanoTime();
+    private final long[] nanos = new long[STAGES.length];
+    private final int[] calls = new int[STAGES.length];
+    private final int[] depth = new int[STAGES.length];
+
+    private RequestTiming() {
+    }
+
+    static RequestTiming open() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Start of a span, or a negative value when there is no request or the stage is already open.
+     */
+    public static long begin(TimingStage stage) {
+        RequestTiming timing = CURRENT.get();
+        if (timing == null || timing.depth[stage.ordinal()]++ > 0) {
+            return INACTIVE;
+        }
+        return System.nanoTime();
+    }
+
+    public static void end(TimingStage stage, long started) {
+        RequestTiming timing = CURRENT.get();
+        if (timing == null) {
+            return;
+        }
+        int i = stage.ordinal();
+        timing.depth[i]--;
+        if (started != INACTIVE) {
+            timing.nanos[i] += System.nanoTime() - started;
+            timing.calls[i]++;
+        }
+    }
+
+    public static <T> T time(TimingStage stage, Supplier<T> call) {
+        long started = begin(stage);
+        try {
+            return call.get();
+        } finally {
+            end(stage, started);
+        }
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    long nanos(TimingStage stage) {
+        return nanos[stage.ordinal()];
+    }
+
+    int calls(TimingStage stage) {
+        return calls[stage.ordinal()];
+    }
+
+    /**
+     * {@code db;dur=12.4;desc="3", ..., total;dur=815.2}: stages with at least one call, desc = call count.
+     */
+    String serverTiming(long totalNanos) {
+        StringBuilder header = new StringBuilder(128);
+        for (TimingStage stage : STAGES) {
+            int i = stage.ordinal();
+            if (calls[i] > 0) {
+                header.append(stage.metricName()).append(";dur=").append(millis(nanos[i]))
+                        .append(";desc=\"").append(calls[i]).append("\", ");
+            }
+        }
+        return header.append("total;dur=").append(millis(totalNanos)).toString();
+    }
+
+    /**
+     * {@code db_ms=12.4 db_calls=3 ...}: key=value pairs for the slow request log line.
+     */
+    String logFields() {
+        StringBuilder fields = new StringBuilder(128);
+        for (TimingStage stage : STAGES) {
+            int i = stage.ordinal();
+            if (calls[i] > 0) {
+                String key = stage.metricName().replace('-', '_');
+                fields.append(' ').append(key).append("_ms=").append(millis(nanos[i]))
+                        .append(' ').append(key).append("_calls=").append(calls[i]);
+            }
+        }
+        return fields.toString();
+    }
+
+    static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
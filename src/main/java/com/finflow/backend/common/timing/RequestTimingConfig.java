@@ -0,0 +1,28 @@
+package com.finflow.backend.common.timing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers {@link RequestTimingFilter} first in the chain, so shed (503) and security-rejected requests are
+ * timed too. {@code app.timing.server-timing-header} exposes stage durations to the client: internal traffic only.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.timing.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestTimingConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(
+            @Value("${app.timing.server-timing-header:false}") boolean serverTimingHeader,
+            @Value("${app.timing.slow-request-ms:1000}") long slowRequestMillis) {
+        FilterRegistrationBean<RequestTimingFilter> registration =
+                new FilterRegistrationBean<>(new RequestTimingFilter(serverTimingHeader, slowRequestMillis));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
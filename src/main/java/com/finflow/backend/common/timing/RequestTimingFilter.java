@@ -0,0 +1,76 @@
+package com.finflow.backend.common.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a {@link RequestTiming} for the request. Optionally writes a {@code Server-Timing} header (just before
+ * the response commits, so it covers everything up to the first body byte that forces a commit), and logs one
+ * key=value line for requests slower than the threshold. Only the initial dispatch is timed: spans of async
+ * streaming (user export) run on other threads and are not attributed.
+ */
+@Slf4j
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+
+    private final boolean serverTimingHeader;
+    private final long slowRequestNanos;
+
+    public RequestTimingFilter(boolean serverTimingHeader, long slowRequestMillis) {
+        this.serverTimingHeader = serverTimingHeader;
+        this.slowRequestNanos = TimeUnit.MILLISECONDS.toNanos(slowRequestMillis);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.open();
+        HttpServletResponse timedResponse = serverTimingHeader ? new ServerTimingResponse(response, timing) : response;
+        try {
+            chain.doFilter(request, timedResponse);
+        } finally {
+            RequestTiming.close();
+            if (timedResponse instanceof ServerTimingResponse serverTiming && !response.isCommitted()) {
+                serverTiming.writeHeader();
+            }
+            long total = timing.elapsedNanos();
+            if (total >= slowRequestNanos) {
+                log.warn("[Timing] slow_request method={} path={} status={} total_ms={}{}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(),
+                        RequestTiming.millis(total), timing.logFields());
+            }
+        }
+    }
+
+    private static final class ServerTimingResponse extends OnCommittedResponseWrapper {
+
+        private final RequestTiming timing;
+        private boolean written;
+
+        ServerTimingResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeader();
+        }
+
+        void writeHeader() {
+            if (!written) {
+                written = true;
+                ((HttpServletResponse) getResponse()).setHeader(HEADER, timing.serverTiming(timing.elapsedNanos()));
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.finflow.backend.common.timing;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Reports hashing and matching as the "password" span of the request timing.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long started = RequestTiming.begin(TimingStage.PASSWORD);
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            RequestTiming.end(TimingStage.PASSWORD, started);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long started = RequestTiming.begin(TimingStage.PASSWORD);
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            RequestTiming.end(TimingStage.PASSWORD, started);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
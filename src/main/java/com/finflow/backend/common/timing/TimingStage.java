@@ -0,0 +1,23 @@
+package com.finflow.backend.common.timing;
+
+/**
+ * Stages timed inside a request; {@link #metricName()} is the Server-Timing metric / log key.
+ */
+public enum TimingStage {
+    DB("db"),
+    REDIS("redis"),
+    PASSWORD("password"),
+    JWT_ENCODE("jwt-encode"),
+    JWT_DECODE("jwt-decode"),
+    MAIL("mail");
+
+    private final String metricName;
+
+    TimingStage(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+}
@@ -8,35 +8,27 @@ import org.springframework.web.servlet.HandlerInterceptor;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.util.Set;
 
 /**
- * Simple API version guard using header-based versioning.
+ * Simple API version guard.
  *
- * - Header: API-Version
- * - Default: 1 (if header missing)
+ * - Header: API-Version, or media-type parameter (Accept: application/json;v=2)
+ * - Default: 1 (if both missing)
+ * - Negotiated once per request by {@link ApiVersions} (shared with ApiVersionRequestCondition)
  * - If version not in supported set -> 400 with ProblemDetail (handled by GlobalExceptionHandler)
  */
 @Component
 public class ApiVersionInterceptor implements HandlerInterceptor {
 
-    private static final String HEADER = "API-Version";
-    private static final String ATTR = "apiVersion";
-    private static final Set<String> SUPPORTED = Set.of("1"); // add "2" when a new version ships
+    private static final long SUPPORTED = 1L << 1; // add "| 1L << 2" when a new version ships
 
     @Override
     @NullMarked
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        String version = request.getHeader(HEADER);
-        if (version == null || version.isBlank()) {
-            version = "1";
-        }
-
-        if (!SUPPORTED.contains(version)) {
+        int version = ApiVersions.resolve(request);
+        if (version == ApiVersions.INVALID || (SUPPORTED & (1L << version)) == 0) {
             throw new AppException(CommonErrorCode.UNSUPPORTED_API_VERSION);
         }
-
-        request.setAttribute(ATTR, version);
         return true;
     }
 }
@@ -3,48 +3,75 @@ package com.finflow.backend.common.versioning;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.servlet.mvc.condition.RequestCondition;
 
-import java.util.Comparator;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * RequestCondition để Spring chọn handler theo version.
- * - Lấy version từ header "API-Version" (default "1" nếu thiếu).
+ * - Version của request lấy từ {@link ApiVersions#resolve} (header "API-Version" hoặc Accept ";v=", default 1),
+ *   chỉ parse một lần cho mỗi request.
  * - Match nếu version nằm trong danh sách annotation.
  * - Ưu tiên version cao hơn khi có nhiều match (chuẩn hơn khi có v2+).
+ * Conditions are immutable and shared: one per declared version set, built at startup, and one per single
+ * version for match results, so handler lookup allocates nothing here.
  */
-public class ApiVersionRequestCondition implements RequestCondition<ApiVersionRequestCondition> {
+public final class ApiVersionRequestCondition implements RequestCondition<ApiVersionRequestCondition> {
 
-    private final TreeSet<String> versions;
+    private static final Map<Long, ApiVersionRequestCondition> DECLARED = new ConcurrentHashMap<>();
+    private static final ApiVersionRequestCondition[] MATCHED = new ApiVersionRequestCondition[ApiVersions.MAX + 1];
 
-    public ApiVersionRequestCondition(Set<String> versions) {
-        this.versions = new TreeSet<>(Comparator.comparingInt(Integer::parseInt));
-        this.versions.addAll(versions);
+    static {
+        for (int version = 1; version <= ApiVersions.MAX; version++) {
+            MATCHED[version] = new ApiVersionRequestCondition(1L << version);
+        }
+    }
+
+    private final long versions;
+    private final int highest;
+
+    private ApiVersionRequestCondition(long versions) {
+        this.versions = versions;
+        this.highest = 63 - Long.numberOfLeadingZeros(versions);
+    }
+
+    /**
+     * Shared condition for the versions declared in an {@link ApiVersion} annotation.
+     */
+    public static ApiVersionRequestCondition of(String... declared) {
+        long mask = 0;
+        for (String value : declared) {
+            mask |= 1L << ApiVersions.parseDeclared(value);
+        }
+        if (mask == 0) {
+            throw new IllegalArgumentException("@ApiVersion needs at least one version");
+        }
+        return DECLARED.computeIfAbsent(mask, ApiVersionRequestCondition::new);
     }
 
     @Override
     public ApiVersionRequestCondition combine(ApiVersionRequestCondition other) {
         // method-level override class-level
-        return new ApiVersionRequestCondition(other.versions);
+        return other;
     }
 
     @Override
     public ApiVersionRequestCondition getMatchingCondition(HttpServletRequest request) {
-        String requested = request.getHeader("API-Version");
-        if (requested == null || requested.isBlank()) {
-            requested = "1";
-        }
-        return versions.contains(requested)
-                ? new ApiVersionRequestCondition(Set.of(requested))
-                : null;
+        int requested = ApiVersions.resolve(request);
+        return requested != ApiVersions.INVALID && (versions & (1L << requested)) != 0 ? MATCHED[requested] : null;
     }
 
     @Override
     public int compareTo(ApiVersionRequestCondition other, HttpServletRequest request) {
         // Prefer higher version if multiple match
-        String thisMax = versions.last();
-        String otherMax = other.versions.last();
-        return Integer.compare(Integer.parseInt(otherMax), Integer.parseInt(thisMax));
+        return Integer.compare(other.highest, highest);
     }
-}
 
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (long rest = versions; rest != 0; rest &= rest - 1) {
+            sb.append(sb.length() > 1 ? "," : "").append(Long.numberOfTrailingZeros(rest));
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -5,10 +5,10 @@ import org.springframework.web.servlet.mvc.condition.RequestCondition;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 import java.lang.reflect.Method;
-import java.util.Set;
 
 /**
  * Custom HandlerMapping để Spring áp dụng ApiVersionRequestCondition.
+ * Conditions are compiled here, once per mapping at startup; an invalid version fails the boot.
  */
 public class ApiVersionRequestMappingHandlerMapping extends RequestMappingHandlerMapping {
 
@@ -28,7 +28,7 @@ public class ApiVersionRequestMappingHandlerMapping extends RequestMappingHandle
         if (apiVersion == null) {
             return null;
         }
-        return new ApiVersionRequestCondition(Set.of(apiVersion.value()));
+        return ApiVersionRequestCondition.of(apiVersion.value());
     }
 }
 
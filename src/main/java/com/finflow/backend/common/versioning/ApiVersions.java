@@ -0,0 +1,98 @@
+package com.finflow.backend.common.versioning;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Version negotiation, done once per request and cached as an {@code Integer} request attribute
+ * (values are small, so {@code Integer.valueOf} always returns the shared boxed instance).
+ * <ul>
+ *   <li>Header {@code API-Version: 2}</li>
+ *   <li>or media-type parameter {@code Accept: application/json;v=2}</li>
+ *   <li>otherwise {@link #DEFAULT}.</li>
+ * </ul>
+ * Non-numeric or out-of-range values resolve to {@link #INVALID}.
+ */
+public final class ApiVersions {
+
+    public static final String HEADER = "API-Version";
+    public static final String ATTRIBUTE = "apiVersion";
+    public static final int DEFAULT = 1;
+    public static final int INVALID = 0;
+    // Versions are kept in a long bitmask
+    public static final int MAX = 63;
+
+    private ApiVersions() {
+    }
+
+    public static int resolve(HttpServletRequest request) {
+        if (request.getAttribute(ATTRIBUTE) instanceof Integer cached) {
+            return cached;
+        }
+        int version;
+        String header = request.getHeader(HEADER);
+        if (header != null && !header.isBlank()) {
+            version = parse(header, 0, header.length());
+        } else {
+            version = fromAccept(request.getHeader(HttpHeaders.ACCEPT));
+        }
+        request.setAttribute(ATTRIBUTE, version);
+        return version;
+    }
+
+    /**
+     * Parses an annotation value at startup; rejects anything a request could never match.
+     */
+    public static int parseDeclared(String value) {
+        int version = parse(value, 0, value.length());
+        if (version == INVALID) {
+            throw new IllegalArgumentException("@ApiVersion values must be integers in 1.." + MAX + ", got '" + value + "'");
+        }
+        return version;
+    }
+
+    // First "v=<n>" parameter of any media range in the Accept header
+    private static int fromAccept(String accept) {
+        if (accept == null) {
+            return DEFAULT;
+        }
+        int semicolon = accept.indexOf(';');
+        while (semicolon >= 0) {
+            int start = semicolon + 1;
+            while (start < accept.length() && accept.charAt(start) == ' ') {
+                start++;
+            }
+            int end = start;
+            while (end < accept.length() && accept.charAt(end) != ';' && accept.charAt(end) != ',') {
+                end++;
+            }
+            if (end - start > 2 && accept.charAt(start) == 'v' && accept.charAt(start + 1) == '=') {
+                return parse(accept, start + 2, end);
+            }
+            semicolon = accept.indexOf(';', start);
+        }
+        return DEFAULT;
+    }
+
+    // Digits only (surrounding spaces and quotes allowed), 1..MAX
+    private static int parse(String value, int start, int end) {
+        while (start < end && (value.charAt(start) == ' ' || value.charAt(start) == '"')) {
+            start++;
+        }
+        while (end > start && (value.charAt(end - 1) == ' ' || value.charAt(end - 1) == '"')) {
+            end--;
+        }
+        if (start == end || end - start > 2) {
+            return INVALID;
+        }
+        int version = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID;
+            }
+            version = version * 10 + (c - '0');
+        }
+        return version >= 1 && version <= MAX ? version : INVALID;
+    }
+}
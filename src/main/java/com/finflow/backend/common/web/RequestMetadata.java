@@ -0,0 +1,31 @@
+package com.finflow.backend.common.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Client details of the current HTTP request, for code below the controller layer (use cases, audit).
+ * Outside a request (scheduled jobs, tests) every field is null.
+ */
+public record RequestMetadata(String clientIp, String userAgent) {
+
+    private static final RequestMetadata NONE = new RequestMetadata(null, null);
+    private static final int MAX_USER_AGENT_LENGTH = 255;
+
+    public static RequestMetadata current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return NONE;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        // getRemoteAddr() is already the X-Forwarded-For client when the peer is a trusted proxy
+        // (server.forward-headers-strategy=native); the raw header is client-controlled and never read here
+        return new RequestMetadata(request.getRemoteAddr(), truncate(request.getHeader("User-Agent")));
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > MAX_USER_AGENT_LENGTH ? value.substring(0, MAX_USER_AGENT_LENGTH) : value;
+    }
+}
@@ -0,0 +1,41 @@
+package com.finflow.backend.modules.identity.application.bulk;
+
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.modules.identity.exception.IdentityErrorCode;
+import org.springframework.http.MediaType;
+
+public enum BulkUserFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    BulkUserFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public static BulkUserFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType parsed = MediaType.parseMediaType(contentType);
+            for (BulkUserFormat format : values()) {
+                if (parsed.isCompatibleWith(MediaType.parseMediaType(format.mediaType))) {
+                    return format;
+                }
+            }
+        }
+        throw new AppException(IdentityErrorCode.UNSUPPORTED_BULK_FORMAT);
+    }
+
+    public static BulkUserFormat fromName(String name) {
+        for (BulkUserFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new AppException(IdentityErrorCode.UNSUPPORTED_BULK_FORMAT);
+    }
+}
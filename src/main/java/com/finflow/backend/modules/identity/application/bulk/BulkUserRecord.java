@@ -0,0 +1,21 @@
+package com.finflow.backend.modules.identity.application.bulk;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * One user row of a bulk import, as read from CSV or NDJSON.
+ * Either {@code password} (plain text, will be hashed) or {@code passwordHash} (existing bcrypt hash) is set.
+ */
+public record BulkUserRecord(
+        long line,
+        String username,
+        String email,
+        String password,
+        String passwordHash,
+        String firstName,
+        String lastName,
+        LocalDate dob,
+        Set<String> roles
+) {
+}
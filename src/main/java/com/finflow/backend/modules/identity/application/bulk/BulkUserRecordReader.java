@@ -0,0 +1,87 @@
+package com.finflow.backend.modules.identity.application.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Forward-only reader over an import stream: one line in memory at a time.
+ * {@link #next()} throws {@link MalformedBulkRecordException} for a bad line; the following call continues.
+ */
+public abstract class BulkUserRecordReader implements Iterator<BulkUserRecord>, Closeable {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+    private String pendingLine;
+
+    protected BulkUserRecordReader(InputStream input) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    public static BulkUserRecordReader open(InputStream input, BulkUserFormat format, ObjectMapper objectMapper) {
+        return switch (format) {
+            case CSV -> new CsvBulkUserRecordReader(input);
+            case NDJSON -> new NdjsonBulkUserRecordReader(input, objectMapper);
+        };
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pendingLine != null) {
+            return true;
+        }
+        pendingLine = readDataLine();
+        return pendingLine != null;
+    }
+
+    @Override
+    public BulkUserRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String line = pendingLine;
+        pendingLine = null;
+        return parse(line, lineNumber);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    protected abstract BulkUserRecord parse(String line, long lineNumber);
+
+    /**
+     * Next non-blank line, or null at end of stream.
+     */
+    protected String readDataLine() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    return line;
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,126 @@
+package com.finflow.backend.modules.identity.application.bulk;
+
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.modules.identity.exception.IdentityErrorCode;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RFC 4180 CSV (quoted fields, "" escapes; no line breaks inside fields).
+ * First line is the header: username, email, password | passwordHash, firstName, lastName, dob, roles.
+ * Roles are separated by '|'.
+ */
+class CsvBulkUserRecordReader extends BulkUserRecordReader {
+
+    private final Map<String, Integer> columns = new HashMap<>();
+
+    CsvBulkUserRecordReader(InputStream input) {
+        super(input);
+        readHeader();
+    }
+
+    private void readHeader() {
+        String header = readDataLine();
+        if (header == null) {
+            return; // empty file -> nothing to import
+        }
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        List<String> names = split(header, 1);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("username") || !columns.containsKey("email")
+                || !(columns.containsKey("password") || columns.containsKey("passwordhash"))) {
+            throw new AppException(IdentityErrorCode.INVALID_BULK_HEADER);
+        }
+    }
+
+    @Override
+    protected BulkUserRecord parse(String line, long lineNumber) {
+        List<String> fields = split(line, lineNumber);
+        try {
+            return new BulkUserRecord(
+                    lineNumber,
+                    field(fields, "username"),
+                    field(fields, "email"),
+                    field(fields, "password"),
+                    field(fields, "passwordhash"),
+                    field(fields, "firstname"),
+                    field(fields, "lastname"),
+                    parseDate(field(fields, "dob")),
+                    parseRoles(field(fields, "roles"))
+            );
+        } catch (DateTimeParseException e) {
+            throw new MalformedBulkRecordException(lineNumber, "dob must be ISO yyyy-MM-dd");
+        }
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        return index != null && index < fields.size() ? trimToNull(fields.get(index)) : null;
+    }
+
+    private static LocalDate parseDate(String value) {
+        return value != null ? LocalDate.parse(value) : null;
+    }
+
+    private static Set<String> parseRoles(String value) {
+        if (value == null) {
+            return Set.of();
+        }
+        Set<String> roles = new LinkedHashSet<>();
+        for (String role : value.split("\\|")) {
+            String trimmed = role.trim();
+            if (!trimmed.isEmpty()) {
+                roles.add(trimmed);
+            }
+        }
+        return roles;
+    }
+
+    static List<String> split(String line, long lineNumber) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"' && current.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+            i++;
+        }
+        if (quoted) {
+            throw new MalformedBulkRecordException(lineNumber, "Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
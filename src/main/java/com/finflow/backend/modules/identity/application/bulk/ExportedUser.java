@@ -0,0 +1,24 @@
+package com.finflow.backend.modules.identity.application.bulk;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Export row. Password hashes are never exported.
+ */
+public record ExportedUser(
+        UUID id,
+        String username,
+        String email,
+        String firstName,
+        String lastName,
+        LocalDate dob,
+        Boolean isActive,
+        Boolean accountVerified,
+        LocalDateTime registerDate,
+        LocalDateTime lastLogin,
+        List<String> roles
+) {
+}
@@ -0,0 +1,17 @@
+package com.finflow.backend.modules.identity.application.bulk;
+
+import lombok.Getter;
+
+/**
+ * A single unreadable input line. The reader stays usable, so the import reports it and moves on.
+ */
+@Getter
+public class MalformedBulkRecordException extends RuntimeException {
+
+    private final long line;
+
+    public MalformedBulkRecordException(long line, String reason) {
+        super(reason, null, false, false);
+        this.line = line;
+    }
+}
@@ -0,0 +1,57 @@
+package com.finflow.backend.modules.identity.application.bulk;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Newline-delimited JSON: one user object per line, same field names as the CSV header.
+ */
+class NdjsonBulkUserRecordReader extends BulkUserRecordReader {
+
+    private final ObjectReader rowReader;
+
+    NdjsonBulkUserRecordReader(InputStream input, ObjectMapper objectMapper) {
+        super(input);
+        this.rowReader = objectMapper.readerFor(JsonRow.class);
+    }
+
+    @Override
+    protected BulkUserRecord parse(String line, long lineNumber) {
+        JsonRow row;
+        try {
+            row = rowReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new MalformedBulkRecordException(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+        }
+        return new BulkUserRecord(
+                lineNumber,
+                trimToNull(row.username()),
+                trimToNull(row.email()),
+                trimToNull(row.password()),
+                trimToNull(row.passwordHash()),
+                trimToNull(row.firstName()),
+                trimToNull(row.lastName()),
+                row.dob(),
+                row.roles() != null ? row.roles() : Set.of()
+        );
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record JsonRow(
+            String username,
+            String email,
+            String password,
+            String passwordHash,
+            String firstName,
+            String lastName,
+            LocalDate dob,
+            Set<String> roles
+    ) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.finflow.backend.modules.identity.application.bulk;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A validated, hashed row ready for the JDBC batch insert.
+ */
+public record PreparedBulkUser(
+        long line,
+        UUID id,
+        String username,
+        String email,
+        String passwordHash,
+        String firstName,
+        String lastName,
+        LocalDate dob,
+        Set<String> roles
+) {
+}
@@ -0,0 +1,45 @@
+package com.finflow.backend.modules.identity.application.directory;
+
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.common.exception.CommonErrorCode;
+import com.finflow.backend.common.pagination.CursorCodec;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * Sort key of the last row of a page. A cursor is only valid for the order it was issued for.
+ *
+ * - REGISTERED: registerDate + id
+ * - USERNAME / EMAIL: key (the unique column value)
+ */
+public record UserDirectoryCursor(UserDirectorySort sort, LocalDateTime registerDate, UUID id, String key) {
+
+    public String encode() {
+        return switch (sort) {
+            case REGISTERED -> CursorCodec.encode(sort.name(), registerDate.toString(), id.toString());
+            case USERNAME, EMAIL -> CursorCodec.encode(sort.name(), key, "");
+        };
+    }
+
+    public static UserDirectoryCursor decode(String cursor, UserDirectorySort expectedSort) {
+        String[] parts = CursorCodec.decode(cursor, 3);
+        if (parts == null) {
+            return null;
+        }
+        if (!expectedSort.name().equals(parts[0])) {
+            // Cursor từ một kiểu tìm kiếm khác -> không dùng được cho thứ tự hiện tại
+            throw new AppException(CommonErrorCode.INVALID_CURSOR);
+        }
+        try {
+            return switch (expectedSort) {
+                case REGISTERED -> new UserDirectoryCursor(expectedSort,
+                        LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]), null);
+                case USERNAME, EMAIL -> new UserDirectoryCursor(expectedSort, null, null, parts[1]);
+            };
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new AppException(CommonErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.finflow.backend.modules.identity.application.directory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a user for the admin directory (no password, no entity).
+ */
+public record UserDirectoryEntry(
+        UUID id,
+        String username,
+        String email,
+        String firstName,
+        String lastName,
+        boolean active,
+        boolean verified,
+        LocalDateTime registerDate,
+        LocalDateTime lastLogin,
+        List<String> roles
+) {
+}
@@ -0,0 +1,18 @@
+package com.finflow.backend.modules.identity.application.directory;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters of one directory page. Null fields are not applied.
+ * {@code prefix} is matched against username or email depending on {@code sort}.
+ */
+public record UserDirectoryQuery(
+        UserDirectorySort sort,
+        String prefix,
+        String role,
+        Boolean active,
+        Boolean verified,
+        LocalDateTime registeredFrom,
+        LocalDateTime registeredTo
+) {
+}
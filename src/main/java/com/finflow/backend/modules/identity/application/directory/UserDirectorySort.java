@@ -0,0 +1,14 @@
+package com.finflow.backend.modules.identity.application.directory;
+
+/**
+ * Keyset order of the admin user directory. Each order is backed by an index, so deep pages are
+ * an index range seek rather than an OFFSET scan.
+ */
+public enum UserDirectorySort {
+    /** Newest first on (register_date, id); used when there is no search term. */
+    REGISTERED,
+    /** Username prefix search, ordered by the unique username index. */
+    USERNAME,
+    /** Email prefix search (term contains '@'), ordered by the unique email index. */
+    EMAIL
+}
@@ -0,0 +1,106 @@
+package com.finflow.backend.modules.identity.application.usecase;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.finflow.backend.modules.identity.application.bulk.BulkUserFormat;
+import com.finflow.backend.modules.identity.application.bulk.ExportedUser;
+import com.finflow.backend.modules.identity.infrastructure.persistence.UserBulkJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams all users to the response as CSV or NDJSON. Rows are written as the cursor advances;
+ * nothing beyond the current row and the output buffer is held in memory.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BulkExportUsersUseCase {
+
+    private static final String CSV_HEADER =
+            "id,username,email,firstName,lastName,dob,isActive,accountVerified,registerDate,lastLogin,roles";
+
+    private final UserBulkJdbcRepository userBulkJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    public void execute(OutputStream output, BulkUserFormat format) throws IOException {
+        log.info("Starting bulk user export ({})", format);
+        long startNanos = System.nanoTime();
+        long[] rows = {0};
+
+        if (format == BulkUserFormat.NDJSON) {
+            ObjectWriter rowWriter = objectMapper.writerFor(ExportedUser.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+                userBulkJdbcRepository.streamAll(user -> {
+                    try {
+                        rowWriter.writeValue(generator, user);
+                        rows[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeRaw('\n');
+            }
+        } else {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            userBulkJdbcRepository.streamAll(user -> {
+                try {
+                    writeCsvRow(writer, user);
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        }
+
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        log.info("Bulk export finished: {} rows in {}ms ({} rows/sec)",
+                rows[0], Math.round(seconds * 1000), seconds > 0 ? Math.round(rows[0] / seconds) : 0);
+    }
+
+    private static void writeCsvRow(Writer writer, ExportedUser user) throws IOException {
+        writer.write(user.id().toString());
+        writeCsvField(writer, user.username());
+        writeCsvField(writer, user.email());
+        writeCsvField(writer, user.firstName());
+        writeCsvField(writer, user.lastName());
+        writeCsvField(writer, user.dob() != null ? user.dob().toString() : null);
+        writeCsvField(writer, user.isActive() != null ? user.isActive().toString() : null);
+        writeCsvField(writer, user.accountVerified() != null ? user.accountVerified().toString() : null);
+        writeCsvField(writer, user.registerDate() != null ? user.registerDate().toString() : null);
+        writeCsvField(writer, user.lastLogin() != null ? user.lastLogin().toString() : null);
+        writeCsvField(writer, String.join("|", user.roles()));
+        writer.write('\n');
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,271 @@
+package com.finflow.backend.modules.identity.application.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.common.id.UuidV7;
+import com.finflow.backend.modules.identity.application.bulk.BulkUserFormat;
+import com.finflow.backend.modules.identity.application.bulk.BulkUserRecord;
+import com.finflow.backend.modules.identity.application.bulk.BulkUserRecordReader;
+import com.finflow.backend.modules.identity.application.bulk.MalformedBulkRecordException;
+import com.finflow.backend.modules.identity.application.bulk.PreparedBulkUser;
+import com.finflow.backend.modules.identity.domain.entity.Role;
+import com.finflow.backend.modules.identity.domain.repository.RoleRepository;
+import com.finflow.backend.modules.identity.exception.IdentityErrorCode;
+import com.finflow.backend.modules.identity.infrastructure.persistence.UserBulkJdbcRepository;
+import com.finflow.backend.modules.identity.infrastructure.service.BulkPasswordHasher;
+import com.finflow.backend.modules.identity.presentation.response.BulkImportResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a CSV/NDJSON user file into the users table in fixed-size batches.
+ * Memory is bounded by one batch plus the capped error list, whatever the file size.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BulkImportUsersUseCase {
+
+    private static final Pattern EMAIL = Pattern.compile("^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$");
+    private static final Pattern BCRYPT = Pattern.compile("^\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+    private static final String DEFAULT_ROLE = "ROLE_USER";
+    private static final int PROGRESS_LOG_EVERY_BATCHES = 100;
+
+    private final UserBulkJdbcRepository userBulkJdbcRepository;
+    private final RoleRepository roleRepository;
+    private final BulkPasswordHasher bulkPasswordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.identity.bulk.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.identity.bulk.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    public BulkImportResponse execute(InputStream input, BulkUserFormat format) {
+        log.info("Starting bulk user import ({})", format);
+        long startNanos = System.nanoTime();
+
+        Set<String> knownRoles = roleRepository.findAll().stream()
+                .map(Role::getName)
+                .collect(Collectors.toSet());
+        ImportStats stats = new ImportStats(maxReportedErrors);
+
+        try (BulkUserRecordReader reader = BulkUserRecordReader.open(input, format, objectMapper)) {
+            List<BulkUserRecord> batch = new ArrayList<>(batchSize);
+            long batches = 0;
+            while (reader.hasNext()) {
+                stats.processed++;
+                try {
+                    BulkUserRecord record = reader.next();
+                    String violation = validate(record, knownRoles);
+                    if (violation != null) {
+                        stats.fail(record.line(), violation);
+                    } else {
+                        batch.add(record);
+                    }
+                } catch (MalformedBulkRecordException e) {
+                    stats.fail(e.getLine(), e.getMessage());
+                }
+
+                if (batch.size() >= batchSize) {
+                    importBatch(batch, stats);
+                    batch.clear();
+                    if (++batches % PROGRESS_LOG_EVERY_BATCHES == 0) {
+                        log.info("Bulk import progress: {} rows read, {} imported, {} rows/sec",
+                                stats.processed, stats.imported, Math.round(rowsPerSecond(stats.processed, startNanos)));
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                importBatch(batch, stats);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Bulk import aborted after {} rows: {}", stats.processed, e.getMessage());
+            throw new AppException(IdentityErrorCode.BULK_IMPORT_FAILED);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        double rate = rowsPerSecond(stats.processed, startNanos);
+        log.info("Bulk import finished: {} rows, {} imported, {} skipped, {} failed in {}ms ({} rows/sec)",
+                stats.processed, stats.imported, stats.skipped, stats.failed, elapsedMillis, Math.round(rate));
+
+        return BulkImportResponse.builder()
+                .processed(stats.processed)
+                .imported(stats.imported)
+                .skipped(stats.skipped)
+                .failed(stats.failed)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(rate)
+                .errors(stats.errors)
+                .errorsTruncated(stats.errorsTruncated)
+                .build();
+    }
+
+    private String validate(BulkUserRecord record, Set<String> knownRoles) {
+        if (record.username() == null || record.username().length() < 3) {
+            return "username must be at least 3 characters";
+        }
+        if (record.email() == null || !EMAIL.matcher(record.email()).matches()) {
+            return "email invalid format";
+        }
+        if (record.passwordHash() != null) {
+            if (!BCRYPT.matcher(record.passwordHash()).matches()) {
+                return "passwordHash must be a bcrypt hash";
+            }
+        } else if (record.password() == null || record.password().length() < 6) {
+            return "password must be at least 6 characters";
+        }
+        for (String role : record.roles()) {
+            if (!knownRoles.contains(role)) {
+                return "unknown role " + role;
+            }
+        }
+        return null;
+    }
+
+    private void importBatch(List<BulkUserRecord> batch, ImportStats stats) {
+        // 1. Uniqueness: inside the batch, then against the table with two IN queries
+        List<BulkUserRecord> unique = new ArrayList<>(batch.size());
+        Set<String> batchUsernames = new HashSet<>();
+        Set<String> batchEmails = new HashSet<>();
+        for (BulkUserRecord record : batch) {
+            if (!batchUsernames.add(normalize(record.username()))) {
+                stats.skip(record.line(), "duplicate username in file");
+            } else if (!batchEmails.add(normalize(record.email()))) {
+                stats.skip(record.line(), "duplicate email in file");
+            } else {
+                unique.add(record);
+            }
+        }
+
+        Set<String> existingUsernames = normalizeAll(userBulkJdbcRepository.findExistingUsernames(
+                unique.stream().map(BulkUserRecord::username).toList()));
+        Set<String> existingEmails = normalizeAll(userBulkJdbcRepository.findExistingEmails(
+                unique.stream().map(BulkUserRecord::email).toList()));
+
+        List<BulkUserRecord> accepted = new ArrayList<>(unique.size());
+        for (BulkUserRecord record : unique) {
+            if (existingUsernames.contains(normalize(record.username()))) {
+                stats.skip(record.line(), "username already exists");
+            } else if (existingEmails.contains(normalize(record.email()))) {
+                stats.skip(record.line(), "email already exists");
+            } else {
+                accepted.add(record);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // 2. Hash plain-text passwords in parallel (pre-hashed rows are passed through)
+        List<String> rawPasswords = accepted.stream()
+                .filter(record -> record.passwordHash() == null)
+                .map(BulkUserRecord::password)
+                .toList();
+        List<String> hashes = bulkPasswordHasher.hashAll(rawPasswords);
+
+        List<PreparedBulkUser> prepared = new ArrayList<>(accepted.size());
+        int hashIndex = 0;
+        for (BulkUserRecord record : accepted) {
+            String hash = record.passwordHash() != null ? record.passwordHash() : hashes.get(hashIndex++);
+            prepared.add(new PreparedBulkUser(
+                    record.line(),
+                    UuidV7.generate(),
+                    record.username(),
+                    record.email(),
+                    hash,
+                    record.firstName(),
+                    record.lastName(),
+                    record.dob(),
+                    record.roles().isEmpty() ? Set.of(DEFAULT_ROLE) : record.roles()
+            ));
+        }
+
+        // 3. One transaction per batch
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> userBulkJdbcRepository.insertBatch(prepared, now));
+            stats.imported += prepared.size();
+        } catch (DataIntegrityViolationException e) {
+            // Someone registered a colliding user between the check and the insert: isolate row by row
+            log.warn("Batch insert hit a constraint violation, retrying {} rows individually", prepared.size());
+            for (PreparedBulkUser user : prepared) {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            userBulkJdbcRepository.insertBatch(List.of(user), now));
+                    stats.imported++;
+                } catch (DataIntegrityViolationException rowError) {
+                    stats.skip(user.line(), "username or email already exists");
+                }
+            }
+        }
+    }
+
+    private static double rowsPerSecond(long rows, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        return seconds > 0 ? rows / seconds : 0;
+    }
+
+    private static String normalize(String value) {
+        // users.username / users.email use MySQL's case-insensitive collation
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> normalizeAll(Set<String> values) {
+        Set<String> normalized = new HashSet<>(values.size() * 2);
+        for (String value : values) {
+            normalized.add(normalize(value));
+        }
+        return normalized;
+    }
+
+    private static final class ImportStats {
+        private final int maxErrors;
+        private final List<BulkImportResponse.RowError> errors = new ArrayList<>();
+        private boolean errorsTruncated;
+        private long processed;
+        private long imported;
+        private long skipped;
+        private long failed;
+
+        private ImportStats(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void fail(long line, String reason) {
+            failed++;
+            report(line, reason);
+        }
+
+        void skip(long line, String reason) {
+            skipped++;
+            report(line, reason);
+        }
+
+        private void report(long line, String reason) {
+            if (errors.size() < maxErrors) {
+                errors.add(new BulkImportResponse.RowError(line, reason));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.finflow.backend.modules.identity.presentation.request.CheckUserExiste
 import com.finflow.backend.modules.identity.presentation.response.CheckUserExistenceResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
@@ -12,6 +13,7 @@ public class CheckUserExistenceUseCase {
 
     private final UserRepository userRepository;
 
+    @Transactional(readOnly = true)
     public CheckUserExistenceResponse execute(CheckUserExistenceRequest request) {
         boolean exists = userRepository.existsByEmail(request.getEmail());
         return new CheckUserExistenceResponse(exists);
@@ -9,6 +9,7 @@ import com.finflow.backend.modules.identity.application.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.stream.Collectors;
 
@@ -20,6 +21,7 @@ public class GetProfileUseCase {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
 
+    @Transactional(readOnly = true)
     public UserResponse execute(String username) {
         log.info("Executing GetProfileUseCase for user: {}", username);
 
@@ -1,5 +1,6 @@
 package com.finflow.backend.modules.identity.application.usecase;
 
+import com.finflow.backend.common.id.UuidV7;
 import com.finflow.backend.modules.identity.infrastructure.configuration.TokenConfig;
 import com.finflow.backend.modules.identity.presentation.response.AuthResponse;
 import com.finflow.backend.modules.identity.presentation.request.GoogleLoginRequest;
@@ -7,7 +8,11 @@ import com.finflow.backend.modules.identity.domain.entity.Role;
 import com.finflow.backend.modules.identity.domain.entity.User;
 import com.finflow.backend.modules.identity.domain.repository.RoleRepository;
 import com.finflow.backend.modules.identity.domain.repository.UserRepository;
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+import com.finflow.backend.modules.identity.infrastructure.audit.AuthAuditRecorder;
 import com.finflow.backend.modules.identity.infrastructure.configuration.GoogleTokenVerifier;
+import com.finflow.backend.modules.identity.infrastructure.service.UserActivityRecorder;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -31,16 +36,27 @@ public class GoogleLoginUseCase {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final JwtEncoder jwtEncoder;
+    private final UserActivityRecorder userActivityRecorder;
+    private final AuthAuditRecorder authAuditRecorder;
+    private final SessionRegistry sessionRegistry;
 
     @Transactional
     public AuthResponse execute(GoogleLoginRequest request) {
         // 1. Verify Google Token
-        GoogleIdToken.Payload payload = googleTokenVerifier.verify(request.getIdToken());
+        GoogleIdToken.Payload payload;
+        try {
+            payload = googleTokenVerifier.verify(request.getIdToken());
+        } catch (IllegalArgumentException e) {
+            authAuditRecorder.failure(AuthEventType.GOOGLE_LOGIN, null, "INVALID_ID_TOKEN");
+            throw e;
+        }
         String email = payload.getEmail();
 
     // 2. Find or Create User
         User user = userRepository.findByEmail(email)
                 .orElseGet(() -> createNewUser(email, payload));
+        userActivityRecorder.recordLogin(user.getUsername());
+        authAuditRecorder.success(AuthEventType.GOOGLE_LOGIN, user.getUsername());
 
         // 3. Generate Tokens
         // Convert Set<Role> to space-separated String for scope
@@ -48,8 +64,9 @@ public class GoogleLoginUseCase {
                 .map(Role::getName)
                 .collect(Collectors.joining(" "));
 
-        String accessToken = generateToken(user.getId(), user.getUsername(), scope, TokenConfig.ACCESS_TOKEN_EXPIRY_SECONDS, "access");
-        String refreshToken = generateToken(user.getId(), user.getUsername(), scope, TokenConfig.REFRESH_TOKEN_EXPIRY_SECONDS, "refresh");
+        String sessionId = sessionRegistry.start(user.getUsername(), AuthEventType.GOOGLE_LOGIN.name());
+        String accessToken = generateToken(user.getId().toString(), user.getUsername(), scope, TokenConfig.ACCESS_TOKEN_EXPIRY_SECONDS, "access", sessionId);
+        String refreshToken = generateToken(user.getId().toString(), user.getUsername(), scope, TokenConfig.REFRESH_TOKEN_EXPIRY_SECONDS, "refresh", sessionId);
 
         return AuthResponse.builder()
                 .token(accessToken)
@@ -85,7 +102,7 @@ public class GoogleLoginUseCase {
         return userRepository.save(user);
     }
     
-    private String generateToken(String subject, String username, String scope, long expirySeconds, String type) {
+    private String generateToken(String subject, String username, String scope, long expirySeconds, String type, String sessionId) {
         Instant now = Instant.now();
 
         JwtClaimsSet claims = JwtClaimsSet.builder()
@@ -95,7 +112,13 @@ public class GoogleLoginUseCase {
                 .subject(username)
                 .claim("scope", scope)
                 .claim("type", type)
-                .id(UUID.randomUUID().toString())
+                // Same as password login: no sid if Redis was down during this Google sign-in
+                .claims(c -> {
+                    if (sessionId != null) {
+                        c.put(TokenConfig.SESSION_ID_CLAIM, sessionId);
+                    }
+                })
+                .id(UuidV7.generate().toString())
                 .build();
 
         return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
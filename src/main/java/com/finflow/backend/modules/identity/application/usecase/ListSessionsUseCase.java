@@ -0,0 +1,37 @@
+package com.finflow.backend.modules.identity.application.usecase;
+
+import com.finflow.backend.modules.identity.infrastructure.session.ActiveSession;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionMetadata;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
+import com.finflow.backend.modules.identity.presentation.response.SessionResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ListSessionsUseCase {
+
+    private final SessionRegistry sessionRegistry;
+
+    public List<SessionResponse> execute(String username, String currentSessionId) {
+        return sessionRegistry.list(username).stream()
+                .map(session -> toResponse(session, currentSessionId))
+                .toList();
+    }
+
+    private static SessionResponse toResponse(ActiveSession session, String currentSessionId) {
+        SessionMetadata metadata = session.metadata();
+        return SessionResponse.builder()
+                .sessionId(session.sessionId())
+                .current(session.sessionId().equals(currentSessionId))
+                .loginMethod(metadata != null ? metadata.loginMethod() : null)
+                .clientIp(metadata != null ? metadata.clientIp() : null)
+                .userAgent(metadata != null ? metadata.userAgent() : null)
+                .createdAt(metadata != null ? Instant.ofEpochMilli(metadata.createdAtMillis()) : null)
+                .lastActiveAt(session.lastActiveAt())
+                .build();
+    }
+}
@@ -1,15 +1,22 @@
 package com.finflow.backend.modules.identity.application.usecase;
 
+import com.finflow.backend.common.id.UuidV7;
 import com.finflow.backend.modules.identity.infrastructure.configuration.TokenConfig;
 import com.finflow.backend.modules.identity.presentation.request.LoginRequest;
 import com.finflow.backend.modules.identity.presentation.response.AuthResponse;
 import com.finflow.backend.modules.identity.domain.entity.User;
 import com.finflow.backend.modules.identity.domain.repository.UserRepository;
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+import com.finflow.backend.modules.identity.infrastructure.audit.AuthAuditRecorder;
+import com.finflow.backend.modules.identity.infrastructure.service.UserActivityRecorder;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
@@ -18,7 +25,6 @@ import org.springframework.stereotype.Component;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
@@ -29,31 +35,46 @@ public class LoginUseCase {
     private final AuthenticationManager authenticationManager;
     private final JwtEncoder jwtEncoder;
     private final UserRepository userRepository;
+    private final UserActivityRecorder userActivityRecorder;
+    private final AuthAuditRecorder authAuditRecorder;
+    private final SessionRegistry sessionRegistry;
 
    
     public AuthResponse execute(LoginRequest request) {
         log.info("Executing login use case for user: {}", request.getUsername());
 
         // 1. Authenticate user (will throw AuthenticationException if invalid)
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getUsername(), 
-                        request.getPassword()
-                )
-        );
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            request.getUsername(),
+                            request.getPassword()
+                    )
+            );
+        } catch (AuthenticationException e) {
+            // Stable detail: the provider throws a (stackless) BadCredentialsException subclass
+            String detail = e instanceof BadCredentialsException
+                    ? BadCredentialsException.class.getSimpleName() : e.getClass().getSimpleName();
+            authAuditRecorder.failure(AuthEventType.LOGIN, request.getUsername(), detail);
+            throw e;
+        }
 
-        // 2. Generate Access & Refresh Tokens
+        // 2. Register the session, then generate Access & Refresh Tokens bound to it
+        String sessionId = sessionRegistry.start(authentication.getName(), AuthEventType.LOGIN.name());
         String accessToken = generateToken(
                 authentication.getName(),
                 getScope(authentication),
                 TokenConfig.ACCESS_TOKEN_EXPIRY_SECONDS,
-                "access"
+                "access",
+                sessionId
         );
         String refreshToken = generateToken(
                 authentication.getName(),
                 getScope(authentication),
                 TokenConfig.REFRESH_TOKEN_EXPIRY_SECONDS,
-                "refresh"
+                "refresh",
+                sessionId
         );
 
         // 3. Get user details from database
@@ -61,6 +82,9 @@ public class LoginUseCase {
                 .or(() -> userRepository.findByEmail(request.getUsername()))
                 .orElseThrow(); // This should never throw since authentication succeeded
 
+        userActivityRecorder.recordLogin(user.getUsername());
+        authAuditRecorder.success(AuthEventType.LOGIN, user.getUsername());
+
         // 4. Build and return response
         AuthResponse response = AuthResponse.builder()
                 .token(accessToken)
@@ -88,7 +112,7 @@ public class LoginUseCase {
     /**
      * Generate JWT token with type and expiry
      */
-    private String generateToken(String subject, String scope, long expirySeconds, String type) {
+    private String generateToken(String subject, String scope, long expirySeconds, String type, String sessionId) {
         Instant now = Instant.now();
 
         JwtClaimsSet claims = JwtClaimsSet.builder()
@@ -98,7 +122,13 @@ public class LoginUseCase {
                 .subject(subject)
                 .claim("scope", scope)
                 .claim("type", type)
-                .id(UUID.randomUUID().toString())
+                // sid is null when SessionRegistry.start could not reach Redis; the first refresh registers it
+                .claims(c -> {
+                    if (sessionId != null) {
+                        c.put(TokenConfig.SESSION_ID_CLAIM, sessionId);
+                    }
+                })
+                .id(UuidV7.generate().toString())
                 .build();
 
         return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
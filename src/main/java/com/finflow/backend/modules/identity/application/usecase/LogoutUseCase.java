@@ -1,14 +1,25 @@
 package com.finflow.backend.modules.identity.application.usecase;
 
+import com.finflow.backend.common.id.UuidV7;
+import com.finflow.backend.common.resilience.DependencyUnavailableException;
 import com.finflow.backend.modules.identity.domain.entity.InvalidatedToken;
 import com.finflow.backend.modules.identity.domain.repository.InvalidatedTokenRepository;
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+import com.finflow.backend.modules.identity.infrastructure.audit.AuthAuditRecorder;
+import com.finflow.backend.modules.identity.infrastructure.configuration.TokenConfig;
+import com.finflow.backend.modules.identity.infrastructure.metrics.IdentityMetrics;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
 import com.nimbusds.jwt.SignedJWT;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Component;
 
 import java.text.ParseException;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -16,6 +27,10 @@ import java.util.Date;
 public class LogoutUseCase {
 
     private final InvalidatedTokenRepository invalidatedTokenRepository;
+    private final AuthAuditRecorder authAuditRecorder;
+    private final SessionRegistry sessionRegistry;
+    private final IdentityMetrics identityMetrics;
+    private final JwtDecoder jwtDecoder;
 
     public void execute(String token) {
         log.info("Executing logout use case");
@@ -25,23 +40,62 @@ public class LogoutUseCase {
             SignedJWT signedJWT = SignedJWT.parse(token);
 
             // 2. Extract token ID and expiration
-            String jti = signedJWT.getJWTClaimsSet().getJWTID();
+            UUID jti = UuidV7.parseOrNull(signedJWT.getJWTClaimsSet().getJWTID());
             Date expiryTime = signedJWT.getJWTClaimsSet().getExpirationTime();
+            if (jti == null) {
+                log.warn("Token has no UUID jti, nothing to invalidate");
+                return;
+            }
 
-            // 3. Add to invalidated tokens (blacklist)
+            // 3. Verify signature (before blacklisting, else the decoder rejects it as blacklisted).
+            // /logout is public: an unverified token may only blacklist its own jti, never end a session
+            Jwt verified = verify(token);
+
+            // 4. Add to invalidated tokens (blacklist)
             InvalidatedToken invalidatedToken = InvalidatedToken.builder()
                     .id(jti)
                     .expiryTime(expiryTime)
                     .build();
 
             invalidatedTokenRepository.save(invalidatedToken);
+            identityMetrics.tokensRevoked(IdentityMetrics.RevokeReason.LOGOUT, 1);
+
+            if (verified == null) {
+                authAuditRecorder.failure(AuthEventType.LOGOUT, null, "INVALID_TOKEN");
+                return;
+            }
+
+            // 5. End the session so its refresh token (and other access tokens) stop working too
+            String sessionId = verified.getClaimAsString(TokenConfig.SESSION_ID_CLAIM);
+            if (sessionId != null) {
+                try {
+                    sessionRegistry.revoke(verified.getSubject(), sessionId);
+                } catch (DependencyUnavailableException e) {
+                    // The access token is blacklisted above; the session (and its refresh token) stays until
+                    // it is revoked from the device list or expires. Logout itself still succeeds.
+                    log.warn("[Sessions] Redis unavailable, session {} not revoked on logout ({})",
+                            sessionId, e.getReason());
+                }
+            }
+            authAuditRecorder.success(AuthEventType.LOGOUT, verified.getSubject());
             
             log.info("Token ID {} has been invalidated successfully", jti);
 
         } catch (ParseException e) {
             log.error("Failed to parse token during logout", e);
+            authAuditRecorder.failure(AuthEventType.LOGOUT, null, "MALFORMED_TOKEN");
             // Note: We don't throw exception to ensure client always gets 200 OK
             // This is a design choice - invalid tokens are effectively "logged out"
         }
     }
+
+    // null when the signature, expiry or revocation check fails (forged, expired or already logged out)
+    private Jwt verify(String token) {
+        try {
+            return jwtDecoder.decode(token);
+        } catch (JwtException e) {
+            log.warn("Logout token not verified, session left untouched: {}", e.getMessage());
+            return null;
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package com.finflow.backend.modules.identity.application.usecase;
+
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.common.exception.CommonErrorCode;
+import com.finflow.backend.common.pagination.CursorCodec;
+import com.finflow.backend.common.pagination.CursorPage;
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+import com.finflow.backend.modules.identity.infrastructure.audit.AuthAuditEvent;
+import com.finflow.backend.modules.identity.infrastructure.audit.AuthAuditJdbcRepository;
+import com.finflow.backend.modules.identity.presentation.response.AuthAuditEventResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class QueryAuthAuditUseCase {
+
+    private static final Duration DEFAULT_WINDOW = Duration.ofDays(7);
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final AuthAuditJdbcRepository authAuditJdbcRepository;
+
+    public CursorPage<AuthAuditEventResponse> execute(String username, AuthEventType type,
+                                                      Instant from, Instant to, String cursor, int size) {
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(DEFAULT_WINDOW);
+        int limit = Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        Instant afterOccurredAt = null;
+        Long afterId = null;
+        String[] key = CursorCodec.decode(cursor, 2);
+        if (key != null) {
+            try {
+                afterOccurredAt = Instant.ofEpochMilli(Long.parseLong(key[0]));
+                afterId = Long.parseLong(key[1]);
+            } catch (NumberFormatException e) {
+                throw new AppException(CommonErrorCode.INVALID_CURSOR);
+            }
+        }
+
+        // Fetch one extra row to know whether another page exists
+        List<AuthAuditEvent> rows = authAuditJdbcRepository.findPage(
+                start, end, username, type, afterOccurredAt, afterId, limit + 1);
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            AuthAuditEvent last = rows.getLast();
+            nextCursor = CursorCodec.encode(String.valueOf(last.occurredAt().toEpochMilli()), String.valueOf(last.id()));
+        }
+
+        return new CursorPage<>(rows.stream().map(QueryAuthAuditUseCase::toResponse).toList(), nextCursor);
+    }
+
+    private static AuthAuditEventResponse toResponse(AuthAuditEvent event) {
+        return AuthAuditEventResponse.builder()
+                .id(event.id())
+                .occurredAt(event.occurredAt())
+                .type(event.type())
+                .username(event.username())
+                .success(event.success())
+                .detail(event.detail())
+                .clientIp(event.clientIp())
+                .userAgent(event.userAgent())
+                .build();
+    }
+}
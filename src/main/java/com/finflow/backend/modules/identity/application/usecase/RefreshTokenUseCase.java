@@ -1,6 +1,8 @@
 package com.finflow.backend.modules.identity.application.usecase;
 
 import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.common.resilience.DependencyUnavailableException;
+import com.finflow.backend.common.id.UuidV7;
 import com.finflow.backend.modules.identity.infrastructure.configuration.TokenConfig;
 import com.finflow.backend.modules.identity.presentation.response.AuthResponse;
 import com.finflow.backend.modules.identity.exception.IdentityErrorCode;
@@ -9,6 +11,11 @@ import com.finflow.backend.modules.identity.domain.entity.Role;
 import com.finflow.backend.modules.identity.domain.repository.InvalidatedTokenRepository;
 import com.finflow.backend.modules.identity.domain.entity.User;
 import com.finflow.backend.modules.identity.domain.repository.UserRepository;
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+import com.finflow.backend.modules.identity.infrastructure.audit.AuthAuditRecorder;
+import com.finflow.backend.modules.identity.infrastructure.metrics.IdentityMetrics;
+import com.finflow.backend.modules.identity.infrastructure.service.UserActivityRecorder;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -33,6 +40,10 @@ public class RefreshTokenUseCase {
     private final JwtEncoder jwtEncoder;
     private final UserRepository userRepository;
     private final InvalidatedTokenRepository invalidatedTokenRepository;
+    private final UserActivityRecorder userActivityRecorder;
+    private final AuthAuditRecorder authAuditRecorder;
+    private final SessionRegistry sessionRegistry;
+    private final IdentityMetrics identityMetrics;
 
     public AuthResponse execute(String refreshToken) {
         log.info("Executing refresh token use case");
@@ -43,6 +54,7 @@ public class RefreshTokenUseCase {
             jwt = jwtDecoder.decode(refreshToken);
         } catch (Exception ex) {
             log.warn("Refresh token invalid: {}", ex.getMessage());
+            authAuditRecorder.failure(AuthEventType.TOKEN_REFRESH, null, IdentityErrorCode.INVALID_TOKEN.name());
             throw new AppException(IdentityErrorCode.INVALID_TOKEN);
         }
 
@@ -50,20 +62,35 @@ public class RefreshTokenUseCase {
         String type = jwt.getClaimAsString("type");
         if (!"refresh".equals(type)) {
             log.warn("Token type is not refresh");
+            authAuditRecorder.failure(AuthEventType.TOKEN_REFRESH, jwt.getSubject(), "WRONG_TOKEN_TYPE");
             throw new AppException(IdentityErrorCode.INVALID_TOKEN);
         }
 
         String username = jwt.getSubject();
         User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new AppException(IdentityErrorCode.USER_NOT_FOUND));
+                .orElseThrow(() -> {
+                    authAuditRecorder.failure(AuthEventType.TOKEN_REFRESH, username, IdentityErrorCode.USER_NOT_FOUND.name());
+                    return new AppException(IdentityErrorCode.USER_NOT_FOUND);
+                });
+
+        // Same session continues across rotations; tokens issued before sessions existed get one now
+        String sessionId = jwt.getClaimAsString(TokenConfig.SESSION_ID_CLAIM);
+        if (sessionId == null) {
+            sessionId = sessionRegistry.start(username, AuthEventType.TOKEN_REFRESH.name());
+        } else if (!touchSession(username, sessionId)) {
+            authAuditRecorder.failure(AuthEventType.TOKEN_REFRESH, username, IdentityErrorCode.SESSION_REVOKED.name());
+            throw new AppException(IdentityErrorCode.SESSION_REVOKED);
+        }
 
         String scope = buildScope(user);
 
         // Rotate refresh token: blacklist old token
         blacklistToken(jwt);
+        userActivityRecorder.recordActivity(username);
+        authAuditRecorder.success(AuthEventType.TOKEN_REFRESH, username);
 
-        String newAccessToken = generateToken(username, scope, TokenConfig.ACCESS_TOKEN_EXPIRY_SECONDS, "access");
-        String newRefreshToken = generateToken(username, scope, TokenConfig.REFRESH_TOKEN_EXPIRY_SECONDS, "refresh");
+        String newAccessToken = generateToken(username, scope, TokenConfig.ACCESS_TOKEN_EXPIRY_SECONDS, "access", sessionId);
+        String newRefreshToken = generateToken(username, scope, TokenConfig.REFRESH_TOKEN_EXPIRY_SECONDS, "refresh", sessionId);
 
         return AuthResponse.builder()
                 .token(newAccessToken)
@@ -83,7 +110,7 @@ public class RefreshTokenUseCase {
     }
 
     private void blacklistToken(Jwt jwt) {
-        String jti = jwt.getId();
+        UUID jti = UuidV7.parseOrNull(jwt.getId());
         Instant expiry = jwt.getExpiresAt();
         if (jti != null && expiry != null) {
             invalidatedTokenRepository.save(
@@ -92,11 +119,12 @@ public class RefreshTokenUseCase {
                             .expiryTime(Date.from(expiry))
                             .build()
             );
+            identityMetrics.tokensRevoked(IdentityMetrics.RevokeReason.REFRESH_ROTATION, 1);
             log.info("Refresh token jti {} blacklisted until {}", jti, expiry);
         }
     }
 
-    private String generateToken(String subject, String scope, long expirySeconds, String type) {
+    private String generateToken(String subject, String scope, long expirySeconds, String type, String sessionId) {
         Instant now = Instant.now();
 
         JwtClaimsSet claims = JwtClaimsSet.builder()
@@ -106,10 +134,26 @@ public class RefreshTokenUseCase {
                 .subject(subject)
                 .claim("scope", scope)
                 .claim("type", type)
-                .id(UUID.randomUUID().toString())
+                // Still no sid if the old refresh token had none and start() failed again; a later refresh retries
+                .claims(c -> {
+                    if (sessionId != null) {
+                        c.put(TokenConfig.SESSION_ID_CLAIM, sessionId);
+                    }
+                })
+                .id(UuidV7.generate().toString())
                 .build();
 
         return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
     }
-}
 
+    // Redis down: the session cannot be checked, the refresh token already passed the DB blacklist (degraded)
+    private boolean touchSession(String username, String sessionId) {
+        try {
+            return sessionRegistry.touch(username, sessionId);
+        } catch (DependencyUnavailableException e) {
+            identityMetrics.sessionCheckSkipped();
+            log.warn("[Sessions] Redis unavailable, session {} not checked on refresh ({})", sessionId, e.getReason());
+            return true;
+        }
+    }
+}
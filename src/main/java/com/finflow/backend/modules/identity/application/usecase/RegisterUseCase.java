@@ -1,5 +1,6 @@
 package com.finflow.backend.modules.identity.application.usecase;
 
+import com.finflow.backend.common.datasource.ReadYourWritesTracker;
 import com.finflow.backend.common.exception.AppException;
 import com.finflow.backend.modules.identity.presentation.request.RegisterRequest;
 import com.finflow.backend.modules.identity.exception.IdentityErrorCode;
@@ -7,6 +8,8 @@ import com.finflow.backend.modules.identity.domain.entity.Role;
 import com.finflow.backend.modules.identity.domain.entity.User;
 import com.finflow.backend.modules.identity.domain.repository.RoleRepository;
 import com.finflow.backend.modules.identity.domain.repository.UserRepository;
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+import com.finflow.backend.modules.identity.infrastructure.audit.AuthAuditRecorder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -24,6 +27,8 @@ public class RegisterUseCase {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthAuditRecorder authAuditRecorder;
+    private final ReadYourWritesTracker readYourWritesTracker;
     private final org.springframework.security.oauth2.jwt.JwtDecoder jwtDecoder;
 
     @Transactional
@@ -63,7 +68,10 @@ public class RegisterUseCase {
 
         // 6. Save to database
         userRepository.save(newUser);
+        // Login ngay sau khi đăng ký phải đọc từ primary (có thể login bằng username hoặc email)
+        readYourWritesTracker.recordWrite(request.getUsername(), request.getEmail());
         
+        authAuditRecorder.success(AuthEventType.REGISTER, request.getUsername());
         log.info("User {} registered successfully", request.getUsername());
     }
 
@@ -89,6 +97,7 @@ public class RegisterUseCase {
             
         } catch (Exception e) {
             log.warn("Token validation failed: {}", e.getMessage());
+            authAuditRecorder.failure(AuthEventType.REGISTER, email, IdentityErrorCode.INVALID_TOKEN.name());
             throw new AppException(IdentityErrorCode.INVALID_TOKEN);
         }
     }
@@ -1,10 +1,13 @@
 package com.finflow.backend.modules.identity.application.usecase;
 
+import com.finflow.backend.common.datasource.ReadYourWritesTracker;
 import com.finflow.backend.common.exception.AppException;
 import com.finflow.backend.modules.identity.domain.repository.UserRepository;
 import com.finflow.backend.modules.identity.presentation.request.ResetPasswordRequest;
 import com.finflow.backend.modules.identity.exception.IdentityErrorCode;
 import com.finflow.backend.modules.identity.domain.entity.User;
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+import com.finflow.backend.modules.identity.infrastructure.audit.AuthAuditRecorder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -18,6 +21,8 @@ public class ResetPasswordUseCase {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthAuditRecorder authAuditRecorder;
+    private final ReadYourWritesTracker readYourWritesTracker;
     private final org.springframework.security.oauth2.jwt.JwtDecoder jwtDecoder;
 
     @Transactional
@@ -37,7 +42,9 @@ public class ResetPasswordUseCase {
         // 4. Update Password
         user.setPassword(passwordEncoder.encode(request.getPassword()));
         userRepository.save(user); // JPA implicit save, but explicit is fine
+        readYourWritesTracker.recordWrite(user.getUsername(), email);
         
+        authAuditRecorder.success(AuthEventType.PASSWORD_RESET, email);
         log.info("Password reset successfully for user: {}", email);
     }
     
@@ -55,6 +62,7 @@ public class ResetPasswordUseCase {
             return jwt.getSubject();
         } catch (Exception e) {
             log.warn("Reset password token validation failed: {}", e.getMessage());
+            authAuditRecorder.failure(AuthEventType.PASSWORD_RESET, null, IdentityErrorCode.INVALID_TOKEN.name());
             throw new AppException(IdentityErrorCode.INVALID_TOKEN);
         }
     }
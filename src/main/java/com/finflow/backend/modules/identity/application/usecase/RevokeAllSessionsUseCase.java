@@ -0,0 +1,33 @@
+package com.finflow.backend.modules.identity.application.usecase;
+
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.modules.identity.exception.IdentityErrorCode;
+import com.finflow.backend.modules.identity.infrastructure.metrics.IdentityMetrics;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevokeAllSessionsUseCase {
+
+    private final SessionRegistry sessionRegistry;
+    private final IdentityMetrics identityMetrics;
+
+    /**
+     * Signs the user out everywhere; with {@code keepCurrent} the calling device stays signed in.
+     * Tokens without a sid claim cannot name the session to keep, so keepCurrent is rejected for them
+     * instead of silently revoking every session.
+     */
+    public int execute(String username, String currentSessionId, boolean keepCurrent) {
+        if (keepCurrent && currentSessionId == null) {
+            throw new AppException(IdentityErrorCode.CURRENT_SESSION_UNKNOWN);
+        }
+        int revoked = sessionRegistry.revokeAll(username, keepCurrent ? currentSessionId : null);
+        identityMetrics.tokensRevoked(IdentityMetrics.RevokeReason.ALL_SESSIONS_REVOKED, revoked);
+        log.info("Revoked {} sessions of user {} (keepCurrent={})", revoked, username, keepCurrent);
+        return revoked;
+    }
+}
@@ -0,0 +1,26 @@
+package com.finflow.backend.modules.identity.application.usecase;
+
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.modules.identity.exception.IdentityErrorCode;
+import com.finflow.backend.modules.identity.infrastructure.metrics.IdentityMetrics;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevokeSessionUseCase {
+
+    private final SessionRegistry sessionRegistry;
+    private final IdentityMetrics identityMetrics;
+
+    public void execute(String username, String sessionId) {
+        if (!sessionRegistry.revoke(username, sessionId)) {
+            throw new AppException(IdentityErrorCode.SESSION_NOT_FOUND);
+        }
+        identityMetrics.tokensRevoked(IdentityMetrics.RevokeReason.SESSION_REVOKED, 1);
+        log.info("Session {} of user {} revoked", sessionId, username);
+    }
+}
@@ -0,0 +1,75 @@
+package com.finflow.backend.modules.identity.application.usecase;
+
+import com.finflow.backend.common.pagination.CursorPage;
+import com.finflow.backend.modules.identity.application.directory.UserDirectoryCursor;
+import com.finflow.backend.modules.identity.application.directory.UserDirectoryEntry;
+import com.finflow.backend.modules.identity.application.directory.UserDirectoryQuery;
+import com.finflow.backend.modules.identity.application.directory.UserDirectorySort;
+import com.finflow.backend.modules.identity.infrastructure.persistence.UserDirectoryJdbcRepository;
+import com.finflow.backend.modules.identity.presentation.response.UserDirectoryEntryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class SearchUserDirectoryUseCase {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final UserDirectoryJdbcRepository userDirectoryJdbcRepository;
+
+    /**
+     * {@code search} is a prefix: matched against email when it contains '@', otherwise against username.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserDirectoryEntryResponse> execute(String search, String role, Boolean active, Boolean verified,
+                                                          LocalDateTime registeredFrom, LocalDateTime registeredTo,
+                                                          String cursor, int size) {
+        String prefix = search != null && !search.isBlank() ? search.trim() : null;
+        UserDirectorySort sort = prefix == null ? UserDirectorySort.REGISTERED
+                : prefix.contains("@") ? UserDirectorySort.EMAIL
+                : UserDirectorySort.USERNAME;
+        String roleName = role == null || role.isBlank() ? null
+                : role.startsWith("ROLE_") ? role : "ROLE_" + role;
+
+        UserDirectoryQuery query = new UserDirectoryQuery(
+                sort, prefix, roleName, active, verified, registeredFrom, registeredTo);
+        int limit = Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        // Fetch one extra row to know whether another page exists
+        List<UserDirectoryEntry> rows = userDirectoryJdbcRepository.findPage(
+                query, UserDirectoryCursor.decode(cursor, sort), limit + 1);
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            UserDirectoryEntry last = rows.getLast();
+            nextCursor = new UserDirectoryCursor(sort, last.registerDate(), last.id(), switch (sort) {
+                case USERNAME -> last.username();
+                case EMAIL -> last.email();
+                case REGISTERED -> null;
+            }).encode();
+        }
+
+        return new CursorPage<>(rows.stream().map(SearchUserDirectoryUseCase::toResponse).toList(), nextCursor);
+    }
+
+    private static UserDirectoryEntryResponse toResponse(UserDirectoryEntry entry) {
+        return UserDirectoryEntryResponse.builder()
+                .id(entry.id().toString())
+                .username(entry.username())
+                .email(entry.email())
+                .firstName(entry.firstName())
+                .lastName(entry.lastName())
+                .active(entry.active())
+                .verified(entry.verified())
+                .registerDate(entry.registerDate())
+                .lastLogin(entry.lastLogin())
+                .roles(entry.roles())
+                .build();
+    }
+}
@@ -5,6 +5,10 @@ import com.finflow.backend.common.redis.RedisService;
 import com.finflow.backend.modules.identity.application.event.OtpRequestedEvent;
 import com.finflow.backend.modules.identity.domain.enums.OtpPurpose;
 import com.finflow.backend.modules.identity.domain.repository.UserRepository;
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+import com.finflow.backend.modules.identity.infrastructure.audit.AuthAuditRecorder;
+import com.finflow.backend.modules.identity.infrastructure.jfr.OtpIssueEvent;
+import com.finflow.backend.modules.identity.infrastructure.metrics.IdentityMetrics;
 import com.finflow.backend.modules.identity.exception.IdentityErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,17 +26,38 @@ public class SendOtpUseCase {
     private final ApplicationEventPublisher eventPublisher;
     private final UserRepository userRepository;
     private final RedisService redisService;
+    private final AuthAuditRecorder authAuditRecorder;
+    private final IdentityMetrics identityMetrics;
     
     private static final SecureRandom random = new SecureRandom();
     private static final int EXPIRATION_MINUTES = 5;
     private static final String OTP_KEY_PREFIX = "otp:";
 
     public void execute(String email, OtpPurpose purpose) {
+        OtpIssueEvent event = new OtpIssueEvent();
+        event.begin();
+        event.purpose = purpose.name();
+        String outcome = "error";
+        try {
+            issue(email, purpose);
+            outcome = "issued";
+        } catch (AppException e) {
+            // EMAIL_ALREADY_EXISTS, USER_NOT_FOUND, DEPENDENCY_UNAVAILABLE (Redis)
+            outcome = e.getErrorCode() instanceof Enum<?> code ? code.name() : outcome;
+            throw e;
+        } finally {
+            event.end(outcome);
+        }
+    }
+
+    private void issue(String email, OtpPurpose purpose) {
         boolean emailExists = userRepository.existsByEmail(email);
         
         if (purpose == OtpPurpose.REGISTER && emailExists) {
+            authAuditRecorder.failure(AuthEventType.OTP_SEND, email, IdentityErrorCode.EMAIL_ALREADY_EXISTS.name());
             throw new AppException(IdentityErrorCode.EMAIL_ALREADY_EXISTS);
         } else if (purpose == OtpPurpose.RESET_PASSWORD && !emailExists) {
+            authAuditRecorder.failure(AuthEventType.OTP_SEND, email, IdentityErrorCode.USER_NOT_FOUND.name());
             throw new AppException(IdentityErrorCode.USER_NOT_FOUND); 
         }
 
@@ -41,12 +66,15 @@ public class SendOtpUseCase {
         String redisKey = OTP_KEY_PREFIX + email;
         OtpData otpData = new OtpData(otp, LocalDateTime.now().plusMinutes(EXPIRATION_MINUTES), purpose);
         
+        // Redis down -> DependencyUnavailableException (503) before any email goes out: OTP fails closed
         redisService.set(redisKey, otpData, EXPIRATION_MINUTES, TimeUnit.MINUTES);
         
-        log.info("Stored OTP in Redis for: {} with TTL: {} minutes", email, EXPIRATION_MINUTES);
+        log.debug("Stored OTP in Redis for: {} with TTL: {} minutes", email, EXPIRATION_MINUTES);
         log.info("Publishing OTP event for: {}", email);
         
         eventPublisher.publishEvent(new OtpRequestedEvent(email, otp));
+        authAuditRecorder.success(AuthEventType.OTP_SEND, email);
+        identityMetrics.otpSent(purpose);
     }
     
     public record OtpData(
@@ -1,7 +1,6 @@
 package com.finflow.backend.modules.identity.application.usecase;
 
 import com.finflow.backend.common.exception.AppException;
-import com.finflow.backend.modules.identity.domain.entity.User;
 import com.finflow.backend.modules.identity.domain.repository.UserRepository;
 import com.finflow.backend.modules.identity.presentation.request.ToggleBiometricRequest;
 import com.finflow.backend.modules.identity.exception.IdentityErrorCode;
@@ -19,11 +18,11 @@ public class ToggleBiometricUseCase {
 
     @Transactional
     public void execute(String username, ToggleBiometricRequest request) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new AppException(IdentityErrorCode.USER_NOT_FOUND));
-
-        user.setIsBiometricEnabled(request.getEnabled());
-        userRepository.save(user);
+        // Single UPDATE ... WHERE username = ?, no SELECT of the user/roles first
+        int updated = userRepository.updateBiometricEnabled(username, request.getEnabled());
+        if (updated == 0) {
+            throw new AppException(IdentityErrorCode.USER_NOT_FOUND);
+        }
 
         log.info("Biometric authentication {} for user: {}", 
             request.getEnabled() ? "enabled" : "disabled", username);
@@ -1,49 +1,49 @@
 package com.finflow.backend.modules.identity.application.usecase;
 
 import com.finflow.backend.common.exception.AppException;
-import com.finflow.backend.modules.identity.domain.entity.User;
 import com.finflow.backend.modules.identity.domain.repository.UserRepository;
 import com.finflow.backend.modules.identity.presentation.request.UpdateProfileRequest;
 import com.finflow.backend.modules.identity.presentation.response.UserResponse;
 import com.finflow.backend.modules.identity.exception.IdentityErrorCode;
-import com.finflow.backend.modules.identity.application.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.stream.Collectors;
+import java.util.Set;
 
+/**
+ * Partial profile update: one UPDATE with only the fields the client sent, nothing read back.
+ * The response carries the username, the fields that were sent and the roles of the authenticated
+ * principal (ROLE_* from the token scope); fields not sent are null.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class UpdateProfileUseCase {
 
     private final UserRepository userRepository;
-    private final UserMapper userMapper;
 
     @Transactional
-    public UserResponse execute(String username, UpdateProfileRequest request) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new AppException(IdentityErrorCode.USER_NOT_FOUND));
-
-        if (request.getFirstName() != null) {
-            user.setFirstName(request.getFirstName());
-        }
-        if (request.getLastName() != null) {
-            user.setLastName(request.getLastName());
-        }
-        if (request.getDob() != null) {
-            user.setDob(request.getDob());
+    public UserResponse execute(String username, Set<String> roles, UpdateProfileRequest request) {
+        boolean hasChanges = request.getFirstName() != null
+                || request.getLastName() != null
+                || request.getDob() != null;
+
+        if (hasChanges) {
+            int updated = userRepository.updateProfile(
+                    username, request.getFirstName(), request.getLastName(), request.getDob());
+            if (updated == 0) {
+                throw new AppException(IdentityErrorCode.USER_NOT_FOUND);
+            }
         }
 
-        User savedUser = userRepository.save(user);
-
-        UserResponse response = userMapper.toUserResponse(savedUser);
-        response.setRoles(savedUser.getRoles().stream()
-                .map(role -> role.getName())
-                .collect(Collectors.toSet()));
-
-        return response;
+        return UserResponse.builder()
+                .username(username)
+                .firstName(request.getFirstName())
+                .lastName(request.getLastName())
+                .dob(request.getDob())
+                .roles(roles)
+                .build();
     }
 }
@@ -1,9 +1,13 @@
 package com.finflow.backend.modules.identity.application.usecase;
 
 import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.common.id.UuidV7;
 import com.finflow.backend.common.redis.RedisService;
 import com.finflow.backend.modules.identity.application.usecase.SendOtpUseCase.OtpData;
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
 import com.finflow.backend.modules.identity.domain.enums.OtpPurpose;
+import com.finflow.backend.modules.identity.infrastructure.audit.AuthAuditRecorder;
+import com.finflow.backend.modules.identity.infrastructure.jfr.OtpVerifyEvent;
 import com.finflow.backend.modules.identity.exception.IdentityErrorCode;
 import com.finflow.backend.modules.identity.presentation.response.VerifyOtpResponse;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +20,6 @@ import org.springframework.stereotype.Component;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -24,47 +27,75 @@ import java.util.UUID;
 public class VerifyOtpUseCase {
     private final RedisService redisService;
     private final JwtEncoder jwtEncoder;
+    private final AuthAuditRecorder authAuditRecorder;
     
     private static final String OTP_KEY_PREFIX = "otp:";
 
     public VerifyOtpResponse execute(String email, String code, OtpPurpose purpose) {
+        OtpVerifyEvent event = new OtpVerifyEvent();
+        event.begin();
+        event.purpose = purpose.name();
+        String outcome = "error";
+        try {
+            String rejection = check(email, code, purpose);
+            if (rejection != null) {
+                // Every rejection looks the same to the client; the reason goes to the audit log and the JFR event
+                outcome = rejection;
+                authAuditRecorder.failure(AuthEventType.OTP_VERIFY, email, rejection);
+                throw new AppException(IdentityErrorCode.INVALID_CREDENTIALS);
+            }
+            log.info("OTP verified successfully for email: {}", email);
+            authAuditRecorder.success(AuthEventType.OTP_VERIFY, email);
+
+            String tokenType = purpose == OtpPurpose.REGISTER
+                ? "REGISTRATION_TOKEN"
+                : "RESET_PASSWORD_TOKEN";
+
+            String token = generateToken(email, tokenType);
+            outcome = "verified";
+
+            return VerifyOtpResponse.builder()
+                .message("OTP Verified Successfully")
+                .registrationToken(token)
+                .build();
+        } catch (AppException e) {
+            // DEPENDENCY_UNAVAILABLE (Redis) when no rejection reason was set
+            if (outcome.equals("error") && e.getErrorCode() instanceof Enum<?> errorCode) {
+                outcome = errorCode.name();
+            }
+            throw e;
+        } finally {
+            event.end(outcome);
+        }
+    }
+
+    // null when the code matches (and is consumed), otherwise the rejection reason
+    private String check(String email, String code, OtpPurpose purpose) {
         String redisKey = OTP_KEY_PREFIX + email;
         
         OtpData data = redisService.get(redisKey, OtpData.class);
         
         if (data == null) {
             log.warn("OTP not found or expired for email: {}", email);
-            throw new AppException(IdentityErrorCode.INVALID_CREDENTIALS);
+            return "OTP_NOT_FOUND";
         }
         
         if (data.purpose() != purpose) {
             log.warn("OTP purpose mismatch for email: {}", email);
-            throw new AppException(IdentityErrorCode.INVALID_CREDENTIALS);
+            return "OTP_PURPOSE_MISMATCH";
         }
 
         if (data.expiryTime().isBefore(LocalDateTime.now())) {
             redisService.delete(redisKey);
             log.warn("OTP expired for email: {}", email);
-            throw new AppException(IdentityErrorCode.INVALID_CREDENTIALS);
+            return "OTP_EXPIRED";
         }
         
-        if (data.code().equals(code)) {
-            redisService.delete(redisKey);
-            log.info("OTP verified successfully for email: {}", email);
-            
-            String tokenType = purpose == OtpPurpose.REGISTER 
-                ? "REGISTRATION_TOKEN" 
-                : "RESET_PASSWORD_TOKEN";
-                
-            String token = generateToken(email, tokenType);
-            
-            return VerifyOtpResponse.builder()
-                .message("OTP Verified Successfully")
-                .registrationToken(token)
-                .build();
+        if (!data.code().equals(code)) {
+            return "OTP_MISMATCH";
         }
-        
-        throw new AppException(IdentityErrorCode.INVALID_CREDENTIALS);
+        redisService.delete(redisKey);
+        return null;
     }
 
     private String generateToken(String email, String type) {
@@ -74,7 +105,7 @@ public class VerifyOtpUseCase {
                 .issuedAt(now)
                 .expiresAt(now.plus(15, ChronoUnit.MINUTES))
                 .subject(email)
-                .id(UUID.randomUUID().toString())
+                .id(UuidV7.generate().toString())
                 .claim("type", type)
                 .build();
         return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
@@ -1,12 +1,17 @@
 package com.finflow.backend.modules.identity.domain.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.util.Date;
+import java.util.UUID;
 
 @Getter
 @Setter
@@ -15,10 +20,13 @@ import java.util.Date;
 @AllArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Entity
-@Table(name = "invalidated_tokens")
+@Table(name = "invalidated_tokens",
+        indexes = @Index(name = "idx_invalidated_tokens_expiry_time", columnList = "expiry_time"))
 public class InvalidatedToken {
     @Id
-    String id;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(columnDefinition = "BINARY(16)")
+    UUID id; // JWT "jti"
 
     Date expiryTime;
 }
\ No newline at end of file
@@ -3,12 +3,17 @@ package com.finflow.backend.modules.identity.domain.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Set;
+import java.util.UUID;
 
 @Getter
 @Setter
@@ -17,12 +22,19 @@ import java.util.Set;
 @AllArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // Covering indexes for the admin directory keyset (InnoDB appends the PK id to each)
+        @Index(name = "idx_users_register_date", columnList = "register_date, id"),
+        @Index(name = "idx_users_status_register_date", columnList = "is_active, account_verified, register_date, id")
+})
 @EntityListeners(AuditingEntityListener.class) // Để tự động điền registerDate
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    String id;
+    @GeneratedValue
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7) // Time-ordered -> insert luôn vào cuối clustered index
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(columnDefinition = "BINARY(16)")
+    UUID id;
 
     @Column(unique = true, nullable = false)
     String username;
@@ -53,11 +65,20 @@ public class User {
 
     LocalDateTime lastLogin;
 
+    // lastLogin / loginCount / lastActiveAt chỉ được ghi bởi UserActivityRecorder (write-behind, batch UPDATE)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    Long loginCount = 0L;
+
+    LocalDateTime lastActiveAt;
+
     @ManyToMany(fetch = FetchType.EAGER) // Load user là load luôn role để check quyền login
     @JoinTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
-            inverseJoinColumns = @JoinColumn(name = "role_name")
+            inverseJoinColumns = @JoinColumn(name = "role_name"),
+            indexes = @Index(name = "idx_user_roles_role", columnList = "role_name, user_id")
     )
     Set<Role> roles;
 }
\ No newline at end of file
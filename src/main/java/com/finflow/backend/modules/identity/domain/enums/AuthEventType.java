@@ -0,0 +1,12 @@
+package com.finflow.backend.modules.identity.domain.enums;
+
+public enum AuthEventType {
+    LOGIN,
+    GOOGLE_LOGIN,
+    TOKEN_REFRESH,
+    LOGOUT,
+    OTP_SEND,
+    OTP_VERIFY,
+    REGISTER,
+    PASSWORD_RESET
+}
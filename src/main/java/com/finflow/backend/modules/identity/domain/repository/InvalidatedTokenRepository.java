@@ -5,9 +5,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Date;
+import java.util.UUID;
 
 @Repository
-public interface InvalidatedTokenRepository extends JpaRepository<InvalidatedToken, String> {
+public interface InvalidatedTokenRepository extends JpaRepository<InvalidatedToken, UUID> {
     void deleteByExpiryTimeBefore(Date now);
     long countByExpiryTimeBefore(Date now);
 }
\ No newline at end of file
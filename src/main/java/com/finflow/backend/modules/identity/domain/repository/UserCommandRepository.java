@@ -0,0 +1,15 @@
+package com.finflow.backend.modules.identity.domain.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Targeted write commands on users, keyed by username.
+ * Each method is a single UPDATE touching only the given columns and returns the affected row count.
+ */
+public interface UserCommandRepository {
+
+    /**
+     * Null arguments leave the column unchanged; at least one must be non-null.
+     */
+    int updateProfile(String username, String firstName, String lastName, LocalDate dob);
+}
@@ -2,14 +2,22 @@ package com.finflow.backend.modules.identity.domain.repository;
 
 import com.finflow.backend.modules.identity.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, String> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserCommandRepository {
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
+
+    @Modifying
+    @Query("update User u set u.isBiometricEnabled = :enabled where u.username = :username")
+    int updateBiometricEnabled(@Param("username") String username, @Param("enabled") boolean enabled);
 }
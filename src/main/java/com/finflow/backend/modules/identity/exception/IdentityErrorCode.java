@@ -22,6 +22,16 @@ public enum IdentityErrorCode implements ErrorCode {
     USERNAME_ALREADY_EXISTS(1021, "Username is already taken", HttpStatus.BAD_REQUEST),
     ROLE_NOT_FOUND(1022, "Role not found", HttpStatus.NOT_FOUND),
     EMAIL_NOT_VERIFIED(1023, "Email has not been verified", HttpStatus.BAD_REQUEST),
+
+    // Bulk import/export errors (1030-1039)
+    UNSUPPORTED_BULK_FORMAT(1030, "Unsupported bulk format, use text/csv or application/x-ndjson", HttpStatus.UNSUPPORTED_MEDIA_TYPE),
+    INVALID_BULK_HEADER(1031, "CSV header must contain username, email and password or passwordHash", HttpStatus.BAD_REQUEST),
+    BULK_IMPORT_FAILED(1032, "Bulk import failed", HttpStatus.INTERNAL_SERVER_ERROR),
+
+    // Session errors (1040-1049)
+    SESSION_NOT_FOUND(1040, "Session not found or already revoked", HttpStatus.NOT_FOUND),
+    SESSION_REVOKED(1041, "Session has been revoked", HttpStatus.UNAUTHORIZED),
+    CURRENT_SESSION_UNKNOWN(1042, "This token has no session id, so the current session cannot be kept; use keepCurrent=false", HttpStatus.BAD_REQUEST),
     ;
 
     private final int code;
@@ -0,0 +1,20 @@
+package com.finflow.backend.modules.identity.infrastructure.audit;
+
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+
+import java.time.Instant;
+
+/**
+ * One row of auth_audit_log. {@code detail} holds the failure reason (error code or exception type).
+ */
+public record AuthAuditEvent(
+        long id,
+        Instant occurredAt,
+        AuthEventType type,
+        String username,
+        boolean success,
+        String detail,
+        String clientIp,
+        String userAgent
+) {
+}
@@ -0,0 +1,164 @@
+package com.finflow.backend.modules.identity.infrastructure.audit;
+
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * auth_audit_log is append-only (INSERT + SELECT only) and RANGE partitioned by month on occurred_at.
+ * Time-bounded queries prune to the partitions they touch; retention drops whole partitions
+ * instead of running DELETEs.
+ * occurred_at holds UTC wall-clock time: values are bound as LocalDateTime in UTC (no conversion through the
+ * JVM or session time zone), the same zone the monthly partition bounds are computed in.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class AuthAuditJdbcRepository {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final String FUTURE_PARTITION = "p_future";
+
+    private static final String CREATE_TABLE = """
+            CREATE TABLE IF NOT EXISTS auth_audit_log (
+                id          BIGINT       NOT NULL AUTO_INCREMENT,
+                occurred_at DATETIME(3)  NOT NULL,
+                event_type  VARCHAR(32)  NOT NULL,
+                username    VARCHAR(255) NULL,
+                success     BOOLEAN      NOT NULL,
+                detail      VARCHAR(255) NULL,
+                client_ip   VARCHAR(45)  NULL,
+                user_agent  VARCHAR(255) NULL,
+                PRIMARY KEY (id, occurred_at),
+                KEY idx_auth_audit_occurred (occurred_at),
+                KEY idx_auth_audit_user_occurred (username, occurred_at)
+            ) ENGINE = InnoDB
+            PARTITION BY RANGE COLUMNS (occurred_at) (
+                PARTITION p_future VALUES LESS THAN (MAXVALUE)
+            )
+            """;
+
+    private static final String INSERT = """
+            INSERT INTO auth_audit_log (occurred_at, event_type, username, success, detail, client_ip, user_agent)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final RowMapper<AuthAuditEvent> ROW_MAPPER = (rs, rowNum) -> new AuthAuditEvent(
+            rs.getLong("id"),
+            rs.getObject("occurred_at", LocalDateTime.class).toInstant(ZoneOffset.UTC),
+            AuthEventType.valueOf(rs.getString("event_type")),
+            rs.getString("username"),
+            rs.getBoolean("success"),
+            rs.getString("detail"),
+            rs.getString("client_ip"),
+            rs.getString("user_agent")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void createTableIfMissing() {
+        jdbcTemplate.execute(CREATE_TABLE);
+    }
+
+    public void insertBatch(List<AuthAuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT, events, events.size(), (ps, event) -> {
+            ps.setObject(1, utc(event.occurredAt()));
+            ps.setString(2, event.type().name());
+            ps.setString(3, event.username());
+            ps.setBoolean(4, event.success());
+            ps.setString(5, event.detail());
+            ps.setString(6, event.clientIp());
+            ps.setString(7, event.userAgent());
+        });
+    }
+
+    /**
+     * Newest first, keyset on (occurred_at, id). {@code from}/{@code to} are required so the
+     * query only touches the partitions in range.
+     */
+    public List<AuthAuditEvent> findPage(Instant from, Instant to, String username, AuthEventType type,
+                                         Instant afterOccurredAt, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT id, occurred_at, event_type, username, success, detail, client_ip, user_agent
+                FROM auth_audit_log
+                WHERE occurred_at >= :from AND occurred_at < :to
+                """);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", utc(from))
+                .addValue("to", utc(to))
+                .addValue("limit", limit);
+        if (username != null) {
+            sql.append(" AND username = :username");
+            params.addValue("username", username);
+        }
+        if (type != null) {
+            sql.append(" AND event_type = :type");
+            params.addValue("type", type.name());
+        }
+        if (afterOccurredAt != null && afterId != null) {
+            sql.append(" AND (occurred_at < :cursorAt OR (occurred_at = :cursorAt AND id < :cursorId))");
+            params.addValue("cursorAt", utc(afterOccurredAt));
+            params.addValue("cursorId", afterId);
+        }
+        sql.append(" ORDER BY occurred_at DESC, id DESC LIMIT :limit");
+        return namedParameterJdbcTemplate.query(sql.toString(), params, ROW_MAPPER);
+    }
+
+    /**
+     * Makes sure monthly partitions exist from the current month up to {@code monthsAhead} months ahead
+     * by splitting p_future, and drops monthly partitions older than {@code retentionMonths}.
+     */
+    public void maintainPartitions(int monthsAhead, int retentionMonths) {
+        Set<String> existing = new TreeSet<>(jdbcTemplate.queryForList("""
+                SELECT PARTITION_NAME FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'auth_audit_log' AND PARTITION_NAME IS NOT NULL
+                """, String.class));
+
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        // p_future can only be split above the highest monthly partition ("p_future" sorts after "pYYYYMM")
+        String highest = existing.stream().filter(name -> !FUTURE_PARTITION.equals(name)).reduce((a, b) -> b).orElse("");
+        StringBuilder newPartitions = new StringBuilder();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = month.format(PARTITION_NAME);
+            if (name.compareTo(highest) > 0) {
+                LocalDate upperBound = month.plusMonths(1).atDay(1);
+                newPartitions.append("PARTITION ").append(name)
+                        .append(" VALUES LESS THAN ('").append(upperBound).append(" 00:00:00'), ");
+            }
+        }
+        if (!newPartitions.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE auth_audit_log REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO ("
+                    + newPartitions + "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            log.info("[AuthAudit] Added partitions up to {}", current.plusMonths(monthsAhead));
+        }
+
+        String oldest = current.minusMonths(retentionMonths).format(PARTITION_NAME);
+        for (String name : existing) {
+            if (!FUTURE_PARTITION.equals(name) && name.compareTo(oldest) < 0) {
+                jdbcTemplate.execute("ALTER TABLE auth_audit_log DROP PARTITION " + name);
+                log.info("[AuthAudit] Dropped partition {} (retention {} months)", name, retentionMonths);
+            }
+        }
+    }
+
+    private static LocalDateTime utc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
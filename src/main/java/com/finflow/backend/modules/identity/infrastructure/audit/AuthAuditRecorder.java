@@ -0,0 +1,162 @@
+package com.finflow.backend.modules.identity.infrastructure.audit;
+
+import com.finflow.backend.common.concurrent.MpscRingBuffer;
+import com.finflow.backend.common.web.RequestMetadata;
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Authentication audit trail, kept off the request path.
+ *
+ * - Use cases call {@link #success}/{@link #failure}: one allocation and a lock-free ring buffer offer.
+ *   Budget: p99 publish overhead under 20 µs (see AuthAuditRecorderTest); a full buffer drops and counts.
+ * - A single writer thread drains the buffer and inserts JDBC batches into auth_audit_log.
+ */
+@Service
+@Slf4j
+public class AuthAuditRecorder implements SmartLifecycle {
+
+    private final MpscRingBuffer<AuthAuditEvent> buffer;
+    private final AuthAuditJdbcRepository repository;
+    private final int batchSize;
+    private final long idleParkNanos;
+    private final boolean createTable;
+    private final int partitionMonthsAhead;
+    private final int retentionMonths;
+
+    private final Counter published;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter writeFailures;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AuthAuditRecorder(AuthAuditJdbcRepository repository,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.identity.audit.buffer-capacity:65536}") int bufferCapacity,
+                             @Value("${app.identity.audit.batch-size:500}") int batchSize,
+                             @Value("${app.identity.audit.idle-wait-ms:50}") long idleWaitMillis,
+                             @Value("${app.identity.audit.create-table:true}") boolean createTable,
+                             @Value("${app.identity.audit.partition-months-ahead:2}") int partitionMonthsAhead,
+                             @Value("${app.identity.audit.retention-months:12}") int retentionMonths) {
+        this.repository = repository;
+        this.buffer = new MpscRingBuffer<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.idleParkNanos = TimeUnit.MILLISECONDS.toNanos(idleWaitMillis);
+        this.createTable = createTable;
+        this.partitionMonthsAhead = partitionMonthsAhead;
+        this.retentionMonths = retentionMonths;
+
+        Gauge.builder("identity.audit.queue", buffer, MpscRingBuffer::size)
+                .description("Audit events waiting for the writer")
+                .register(meterRegistry);
+        this.published = Counter.builder("identity.audit.published").register(meterRegistry);
+        this.dropped = Counter.builder("identity.audit.dropped")
+                .description("Audit events dropped because the ring buffer was full")
+                .register(meterRegistry);
+        this.written = Counter.builder("identity.audit.written").register(meterRegistry);
+        this.writeFailures = Counter.builder("identity.audit.write.failures").register(meterRegistry);
+        this.batchTimer = Timer.builder("identity.audit.batch")
+                .description("Latency of one audit batch insert")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public void success(AuthEventType type, String username) {
+        record(type, username, true, null);
+    }
+
+    public void failure(AuthEventType type, String username, String detail) {
+        record(type, username, false, detail);
+    }
+
+    private void record(AuthEventType type, String username, boolean success, String detail) {
+        RequestMetadata metadata = RequestMetadata.current();
+        AuthAuditEvent event = new AuthAuditEvent(0L, Instant.now(), type, username, success, detail,
+                metadata.clientIp(), metadata.userAgent());
+        if (buffer.offer(event)) {
+            published.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (createTable) {
+            repository.createTableIfMissing();
+        }
+        maintainPartitions();
+
+        running = true;
+        writer = new Thread(this::writeLoop, "auth-audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("[AuthAudit] Writer started (buffer {}, batch {})", buffer.capacity(), batchSize);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("[AuthAudit] Writer stopped, {} events left unwritten", buffer.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Scheduled(cron = "0 30 1 * * *")
+    public void maintainPartitions() {
+        try {
+            repository.maintainPartitions(partitionMonthsAhead, retentionMonths);
+        } catch (Exception e) {
+            log.error("[AuthAudit] Partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void writeLoop() {
+        List<AuthAuditEvent> batch = new ArrayList<>(batchSize);
+        // Keep draining after stop() until the buffer is empty
+        while (running || !buffer.isEmpty()) {
+            buffer.drain(batch::add, batchSize);
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(idleParkNanos);
+                continue;
+            }
+            try {
+                batchTimer.record(() -> repository.insertBatch(batch));
+                written.increment(batch.size());
+            } catch (Exception e) {
+                // Never block producers on a broken database: count and move on
+                writeFailures.increment(batch.size());
+                log.error("[AuthAudit] Failed to write {} events: {}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.finflow.backend.modules.identity.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.common.exception.CommonErrorCode;
+import com.finflow.backend.common.redis.JsonRedisCodec;
+import com.finflow.backend.common.redis.RedisCodec;
+import com.finflow.backend.modules.identity.application.usecase.SendOtpUseCase.OtpData;
+import com.finflow.backend.modules.identity.domain.enums.OtpPurpose;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Compact binary layout for OTP entries (~37 bytes vs ~90 bytes of JSON):
+ * version byte, code (modified UTF-8), expiry as epoch seconds + nanos of the LocalDateTime read as UTC,
+ * purpose name. Purpose is stored by name so reordering the enum cannot change meaning.
+ * Entries written as JSON before this codec existed (first byte '{') are still readable.
+ */
+@Component
+public class OtpDataCodec implements RedisCodec<OtpData> {
+
+    private static final byte VERSION = 1;
+
+    private final JsonRedisCodec<OtpData> legacyJson;
+
+    public OtpDataCodec(ObjectMapper objectMapper) {
+        this.legacyJson = new JsonRedisCodec<>(objectMapper, OtpData.class);
+    }
+
+    @Override
+    public Class<OtpData> type() {
+        return OtpData.class;
+    }
+
+    @Override
+    public byte[] encode(OtpData value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(value.code());
+            out.writeLong(value.expiryTime().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.expiryTime().getNano());
+            out.writeUTF(value.purpose().name());
+        } catch (IOException e) {
+            throw new AppException(CommonErrorCode.CACHE_CODEC_ERROR, e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public OtpData decode(byte[] bytes) {
+        if (bytes.length > 0 && bytes[0] == '{') {
+            return legacyJson.decode(bytes);
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unknown OtpData version " + version);
+            }
+            String code = in.readUTF();
+            LocalDateTime expiry = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            OtpPurpose purpose = OtpPurpose.valueOf(in.readUTF());
+            return new OtpData(code, expiry, purpose);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new AppException(CommonErrorCode.CACHE_CODEC_ERROR, e);
+        }
+    }
+}
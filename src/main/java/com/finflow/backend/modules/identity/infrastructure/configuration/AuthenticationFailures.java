@@ -0,0 +1,44 @@
+package com.finflow.backend.modules.identity.infrastructure.configuration;
+
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+/**
+ * Stack-trace-free variants of the exceptions thrown for wrong usernames/passwords. Login failures are the
+ * bulk of credential-stuffing traffic and the trace (tens of Spring frames) is never looked at.
+ */
+final class AuthenticationFailures {
+
+    private AuthenticationFailures() {
+    }
+
+    static BadCredentialsException badCredentials(String message) {
+        return new StacklessBadCredentialsException(message);
+    }
+
+    static UsernameNotFoundException userNotFound(String message) {
+        return new StacklessUsernameNotFoundException(message);
+    }
+
+    private static final class StacklessBadCredentialsException extends BadCredentialsException {
+        StacklessBadCredentialsException(String message) {
+            super(message);
+        }
+
+        @Override
+        public Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    private static final class StacklessUsernameNotFoundException extends UsernameNotFoundException {
+        StacklessUsernameNotFoundException(String message) {
+            super(message);
+        }
+
+        @Override
+        public Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
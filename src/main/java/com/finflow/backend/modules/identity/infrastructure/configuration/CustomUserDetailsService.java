@@ -1,5 +1,6 @@
 package com.finflow.backend.modules.identity.infrastructure.configuration;
 
+import com.finflow.backend.common.datasource.ReadYourWritesTracker;
 import com.finflow.backend.modules.identity.domain.entity.User;
 import com.finflow.backend.modules.identity.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +9,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.stream.Collectors;
 
@@ -16,22 +18,27 @@ import java.util.stream.Collectors;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        // 1. Find user in database
         // 1. Find user in database by Username OR Email
-        User user = userRepository.findByUsername(username)
-                .or(() -> userRepository.findByEmail(username))
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        // Login chưa có SecurityContext -> route theo identifier để vừa đăng ký/đổi mật khẩu vẫn đọc primary
+        User user;
+        try (var ignored = readYourWritesTracker.withSubject(username)) {
+            user = userRepository.findByUsername(username)
+                    .or(() -> userRepository.findByEmail(username))
+                    .orElseThrow(() -> AuthenticationFailures.userNotFound("User not found: " + username));
+        }
 
         // 2. Transform our User entity to Spring Security UserDetails
-        // Add "ROLE_" prefix as per Spring Security convention
+        // Role name đã có sẵn prefix "ROLE_" (ROLE_USER, ROLE_ADMIN) nên dùng trực tiếp
         return org.springframework.security.core.userdetails.User
                 .withUsername(user.getUsername())
                 .password(user.getPassword())
                 .authorities(user.getRoles().stream()
-                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getName()))
+                        .map(role -> new SimpleGrantedAuthority(role.getName()))
                         .collect(Collectors.toList()))
                 .accountLocked(!user.getIsActive())
                 .build();
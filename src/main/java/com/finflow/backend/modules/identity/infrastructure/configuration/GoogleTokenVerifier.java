@@ -1,35 +1,64 @@
 package com.finflow.backend.modules.identity.infrastructure.configuration;
 
+import com.finflow.backend.common.resilience.DependencyGuard;
+import com.finflow.backend.common.resilience.DependencyGuards;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GoogleOAuthConstants;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
 import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.json.gson.GsonFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.security.GeneralSecurityException;
 import java.util.Collections;
 
+/**
+ * Verifier is built once so Google's public keys are cached between logins (they were refetched on every call).
+ * Key fetches go through the "google" guard with a hard timeout: the HTTP client has no usable timeout here.
+ * The certs URL is configurable so the offline load harness can point it at a local signer.
+ */
 @Component
 public class GoogleTokenVerifier {
 
-    @Value("${app.security.google.client-id}")
-    private String clientId;
+    private final GoogleIdTokenVerifier verifier;
+    private final DependencyGuard guard;
 
-    public GoogleIdToken.Payload verify(String idTokenString) {
-        GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(new NetHttpTransport(), new GsonFactory())
-                .setAudience(Collections.singletonList(clientId))
-                .build();
+    @Autowired
+    public GoogleTokenVerifier(@Value("${app.security.google.client-id}") String clientId,
+                               @Value("${app.security.google.certs-url:" + GoogleOAuthConstants.DEFAULT_PUBLIC_CERTS_ENCODED_URL + "}") String certsUrl,
+                               DependencyGuards guards) {
+        this(new GoogleIdTokenVerifier.Builder(new GooglePublicKeysManager.Builder(new NetHttpTransport(), new GsonFactory())
+                        .setPublicCertsEncodedUrl(certsUrl)
+                        .build())
+                        .setAudience(Collections.singletonList(clientId))
+                        .build(),
+                guards.get(DependencyGuards.GOOGLE, e -> e instanceof UncheckedIOException));
+    }
 
-        try {
-            GoogleIdToken idToken = verifier.verify(idTokenString);
-            if (idToken != null) {
-                return idToken.getPayload();
+    GoogleTokenVerifier(GoogleIdTokenVerifier verifier, DependencyGuard guard) {
+        this.verifier = verifier;
+        this.guard = guard;
+    }
+
+    public GoogleIdToken.Payload verify(String idTokenString) {
+        GoogleIdToken idToken = guard.callWithTimeout(() -> {
+            try {
+                return verifier.verify(idTokenString);
+            } catch (IOException e) {
+                // Google unreachable: dependency failure (503), not a bad token
+                throw new UncheckedIOException(e);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalArgumentException("Token verification failed: " + e.getMessage());
             }
-            throw new IllegalArgumentException("Invalid ID token.");
-        } catch (GeneralSecurityException | IOException e) {
-            throw new IllegalArgumentException("Token verification failed: " + e.getMessage());
+        });
+        if (idToken != null) {
+            return idToken.getPayload();
         }
+        throw new IllegalArgumentException("Invalid ID token.");
     }
 }
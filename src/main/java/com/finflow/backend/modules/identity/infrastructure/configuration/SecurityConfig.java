@@ -2,7 +2,17 @@ package com.finflow.backend.modules.identity.infrastructure.configuration;
 
 import com.finflow.backend.common.exception.AppException;
 import com.finflow.backend.common.exception.CommonErrorCode;
+import com.finflow.backend.common.id.UuidV7;
+import com.finflow.backend.common.resilience.DependencyUnavailableException;
+import com.finflow.backend.common.timing.RequestTiming;
+import com.finflow.backend.common.timing.TimedPasswordEncoder;
+import com.finflow.backend.common.timing.TimingStage;
 import com.finflow.backend.modules.identity.domain.repository.InvalidatedTokenRepository;
+import com.finflow.backend.modules.identity.infrastructure.jfr.JwtSignEvent;
+import com.finflow.backend.modules.identity.infrastructure.jfr.JwtVerifyEvent;
+import com.finflow.backend.modules.identity.infrastructure.jfr.RevocationLookupEvent;
+import com.finflow.backend.modules.identity.infrastructure.metrics.IdentityMetrics;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
 import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
@@ -10,8 +20,10 @@ import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -27,21 +39,28 @@ import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.OAuth2TokenValidator;
 import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
 import org.springframework.security.oauth2.jwt.*;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.util.UUID;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
+@Slf4j
 public class SecurityConfig {
 
     private final CustomUserDetailsService customUserDetailsService;
     private final InvalidatedTokenRepository invalidatedTokenRepository;
+    private final SessionRegistry sessionRegistry;
+    private final IdentityMetrics identityMetrics;
 
     // --- 1. KEY MANAGEMENT (RSA) ---
     @Bean
@@ -61,7 +80,20 @@ public class SecurityConfig {
                 .privateKey((RSAPrivateKey) keyPair.getPrivate())
                 .build();
         JWKSource<SecurityContext> jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+        NimbusJwtEncoder encoder = new NimbusJwtEncoder(jwks);
+        // Ký RSA: span "jwt-encode" của request timing + JFR event finflow.auth.JwtSign
+        return parameters -> RequestTiming.time(TimingStage.JWT_ENCODE, () -> {
+            JwtSignEvent event = new JwtSignEvent();
+            event.begin();
+            String outcome = "error";
+            try {
+                Jwt jwt = encoder.encode(parameters);
+                outcome = "signed";
+                return jwt;
+            } finally {
+                event.end(outcome);
+            }
+        });
     }
 
     @Bean
@@ -69,15 +101,58 @@ public class SecurityConfig {
         NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withPublicKey((RSAPublicKey) keyPair.getPublic()).build();
 
         // Định nghĩa Validator check blacklist
-        OAuth2TokenValidator<Jwt> withBlacklist = token -> {
-            String jti = token.getId(); // Lấy ID của token đang gửi lên
-            if (invalidatedTokenRepository.existsById(jti)) {
+        OAuth2TokenValidator<Jwt> revocationCheck = token -> {
+            UUID jti = UuidV7.parseOrNull(token.getId()); // Lấy ID của token đang gửi lên
+            if (jti == null) {
+                // Mọi token do hệ thống phát hành đều có jti dạng UUID
+                return OAuth2TokenValidatorResult.failure(
+                        new OAuth2Error("invalid_token", "Token id is missing or malformed", null)
+                );
+            }
+            boolean blacklisted;
+            try {
+                blacklisted = invalidatedTokenRepository.existsById(jti);
+            } catch (DependencyUnavailableException e) {
+                // DB không truy cập được: không xác minh được thu hồi -> từ chối (fail closed)
+                return OAuth2TokenValidatorResult.failure(
+                        new OAuth2Error("revocation_check_unavailable", "Token revocation cannot be verified", null)
+                );
+            }
+            if (blacklisted) {
                 return OAuth2TokenValidatorResult.failure(
                         new OAuth2Error("token_blacklisted", "Token has been invalidated", null)
                 );
             }
+            // Token thuộc một session đã bị thu hồi (revoke thiết bị / đăng xuất tất cả)
+            String sessionId = token.getClaimAsString(TokenConfig.SESSION_ID_CLAIM);
+            if (sessionId != null) {
+                boolean active;
+                try {
+                    active = sessionRegistry.isActive(token.getSubject(), sessionId);
+                } catch (DependencyUnavailableException e) {
+                    // Redis lỗi: bỏ qua kiểm tra session, chỉ dựa vào blacklist DB ở trên (degraded, có đếm).
+                    // Redis không được là phụ thuộc bắt buộc của toàn bộ API.
+                    identityMetrics.sessionCheckSkipped();
+                    log.debug("[Sessions] Redis unavailable, session check skipped for {} ({})",
+                            sessionId, e.getReason());
+                    active = true;
+                }
+                if (!active) {
+                    return OAuth2TokenValidatorResult.failure(
+                            new OAuth2Error("session_revoked", "Session has been revoked", null)
+                    );
+                }
+            }
             return OAuth2TokenValidatorResult.success();
         };
+        // JFR event finflow.auth.RevocationLookup: outcome "active" hoặc mã lỗi OAuth2
+        OAuth2TokenValidator<Jwt> withBlacklist = token -> {
+            RevocationLookupEvent event = new RevocationLookupEvent();
+            event.begin();
+            OAuth2TokenValidatorResult result = revocationCheck.validate(token);
+            event.end(result.hasErrors() ? result.getErrors().iterator().next().getErrorCode() : "active");
+            return result;
+        };
 
         // Kết hợp: Check Hạn sử dụng (mặc định) + Check Blacklist (vừa viết)
         jwtDecoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
@@ -85,18 +160,34 @@ public class SecurityConfig {
                 withBlacklist
         ));
 
-        return jwtDecoder;
+        // Verify chữ ký + validator (gồm cả truy vấn blacklist, cũng được tính vào span "db")
+        return token -> RequestTiming.time(TimingStage.JWT_DECODE, () -> {
+            JwtVerifyEvent event = new JwtVerifyEvent();
+            event.begin();
+            String outcome = "error";
+            try {
+                Jwt jwt = jwtDecoder.decode(token);
+                outcome = "valid";
+                return jwt;
+            } catch (BadJwtException e) {
+                outcome = "invalid";
+                throw e;
+            } finally {
+                event.end(outcome);
+            }
+        });
     }
 
     // --- 2. AUTHENTICATION MANAGER ---
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder());
     }
 
     @Bean
     public AuthenticationProvider authenticationProvider() {
-        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(customUserDetailsService);
+        // Sai mật khẩu / user không tồn tại -> BadCredentialsException không có stack trace
+        DaoAuthenticationProvider authProvider = new StacklessDaoAuthenticationProvider(customUserDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
         return authProvider;
     }
@@ -108,18 +199,46 @@ public class SecurityConfig {
 
     // --- 3. FILTER CHAIN (Quy định đường đi của Request) ---
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, Environment environment) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 // Vì dùng Token nên không cần Session (Stateless)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll() // Cho phép Login/Register
+                        .requestMatchers("/actuator/health").permitAll() // Health probe
+                        // Prometheus scrape: chỉ mở trên management port (mạng nội bộ); cổng public phải có token
+                        .requestMatchers(onManagementPort(environment)).permitAll()
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN") // Chỉ Admin
                         .anyRequest().authenticated() // Còn lại phải có Token
                 )
                 // Kích hoạt tính năng OAuth2 Resource Server (Tự động check Token)
-                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> {}));
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt
+                        .jwtAuthenticationConverter(jwtAuthenticationConverter())));
 
         return http.build();
     }
+
+    /**
+     * Request đến management port (management.server.port). Khi actuator dùng chung cổng với API thì
+     * local.management.port không tồn tại và matcher không bao giờ khớp.
+     */
+    static RequestMatcher onManagementPort(Environment environment) {
+        return request -> Integer.valueOf(request.getLocalPort())
+                .equals(environment.getProperty("local.management.port", Integer.class));
+    }
+
+    /**
+     * Claim "scope" chứa role name (VD: "ROLE_USER ROLE_ADMIN").
+     * Bỏ prefix mặc định "SCOPE_" để hasRole("ADMIN") hoạt động trực tiếp.
+     */
+    @Bean
+    public JwtAuthenticationConverter jwtAuthenticationConverter() {
+        JwtGrantedAuthoritiesConverter authoritiesConverter = new JwtGrantedAuthoritiesConverter();
+        authoritiesConverter.setAuthorityPrefix("");
+
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(authoritiesConverter);
+        return converter;
+    }
 }
\ No newline at end of file
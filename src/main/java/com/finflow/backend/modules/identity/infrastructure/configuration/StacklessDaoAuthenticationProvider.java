@@ -0,0 +1,52 @@
+package com.finflow.backend.modules.identity.infrastructure.configuration;
+
+import com.finflow.backend.modules.identity.infrastructure.jfr.PasswordMatchEvent;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+/**
+ * {@link DaoAuthenticationProvider} whose wrong-username / wrong-password failures are stackless
+ * {@code BadCredentialsException}s. Behaviour is otherwise unchanged: unknown users still pay for a password
+ * hash (timing-attack mitigation) and surface as bad credentials, never as "user not found".
+ */
+public class StacklessDaoAuthenticationProvider extends DaoAuthenticationProvider {
+
+    public StacklessDaoAuthenticationProvider(UserDetailsService userDetailsService) {
+        super(userDetailsService);
+        // Hidden below instead, without the parent allocating a second exception with a full trace
+        setHideUserNotFoundExceptions(false);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        try {
+            return super.authenticate(authentication);
+        } catch (UsernameNotFoundException e) {
+            throw badCredentials();
+        }
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails,
+                                                  UsernamePasswordAuthenticationToken authentication) {
+        Object credentials = authentication.getCredentials();
+        PasswordMatchEvent event = new PasswordMatchEvent();
+        event.begin();
+        boolean matched = credentials != null
+                && getPasswordEncoder().matches(credentials.toString(), userDetails.getPassword());
+        event.end(matched ? "matched" : "mismatch");
+        if (!matched) {
+            throw badCredentials();
+        }
+    }
+
+    private AuthenticationException badCredentials() {
+        return AuthenticationFailures.badCredentials(
+                messages.getMessage("AbstractUserDetailsAuthenticationProvider.badCredentials", "Bad credentials"));
+    }
+}
@@ -15,4 +15,9 @@ public final class TokenConfig {
      * Refresh token expiration time in seconds
      */
     public static final long REFRESH_TOKEN_EXPIRY_SECONDS = 7 * 24 * 3600;
+
+    /**
+     * Session id claim shared by the access and refresh tokens of one login (see SessionRegistry)
+     */
+    public static final String SESSION_ID_CLAIM = "sid";
 }
@@ -0,0 +1,16 @@
+package com.finflow.backend.modules.identity.infrastructure.jfr;
+
+import com.finflow.backend.common.jfr.OutcomeEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("finflow.auth.JwtSign")
+@Label("JWT Sign")
+@Description("RSA signing of an access, refresh or OTP token; outcome signed / error")
+@Category({"FinFlow", "Authentication"})
+@StackTrace(false)
+public class JwtSignEvent extends OutcomeEvent {
+}
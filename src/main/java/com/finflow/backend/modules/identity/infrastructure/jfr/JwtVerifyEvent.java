@@ -0,0 +1,16 @@
+package com.finflow.backend.modules.identity.infrastructure.jfr;
+
+import com.finflow.backend.common.jfr.OutcomeEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("finflow.auth.JwtVerify")
+@Label("JWT Verify")
+@Description("Signature check plus validators (expiry, revocation); outcome valid / invalid / error")
+@Category({"FinFlow", "Authentication"})
+@StackTrace(false)
+public class JwtVerifyEvent extends OutcomeEvent {
+}
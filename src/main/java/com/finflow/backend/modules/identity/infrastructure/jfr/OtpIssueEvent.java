@@ -0,0 +1,19 @@
+package com.finflow.backend.modules.identity.infrastructure.jfr;
+
+import com.finflow.backend.common.jfr.OutcomeEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("finflow.auth.OtpIssue")
+@Label("OTP Issue")
+@Description("OTP generated, stored and handed to the mailer; outcome issued or the error code")
+@Category({"FinFlow", "Authentication"})
+@StackTrace(false)
+public class OtpIssueEvent extends OutcomeEvent {
+
+    @Label("Purpose")
+    public String purpose;
+}
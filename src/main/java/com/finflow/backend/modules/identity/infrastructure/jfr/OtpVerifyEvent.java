@@ -0,0 +1,19 @@
+package com.finflow.backend.modules.identity.infrastructure.jfr;
+
+import com.finflow.backend.common.jfr.OutcomeEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("finflow.auth.OtpVerify")
+@Label("OTP Verify")
+@Description("OTP check against Redis; outcome verified or the rejection reason")
+@Category({"FinFlow", "Authentication"})
+@StackTrace(false)
+public class OtpVerifyEvent extends OutcomeEvent {
+
+    @Label("Purpose")
+    public String purpose;
+}
@@ -0,0 +1,16 @@
+package com.finflow.backend.modules.identity.infrastructure.jfr;
+
+import com.finflow.backend.common.jfr.OutcomeEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("finflow.auth.PasswordMatch")
+@Label("Password Match")
+@Description("BCrypt comparison at login; outcome matched / mismatch")
+@Category({"FinFlow", "Authentication"})
+@StackTrace(false)
+public class PasswordMatchEvent extends OutcomeEvent {
+}
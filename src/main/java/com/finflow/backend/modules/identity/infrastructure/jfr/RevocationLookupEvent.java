@@ -0,0 +1,16 @@
+package com.finflow.backend.modules.identity.infrastructure.jfr;
+
+import com.finflow.backend.common.jfr.OutcomeEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("finflow.auth.RevocationLookup")
+@Label("Token Revocation Lookup")
+@Description("Blacklist + session check of the JWT validator; outcome active or the OAuth2 error code")
+@Category({"FinFlow", "Authentication"})
+@StackTrace(false)
+public class RevocationLookupEvent extends OutcomeEvent {
+}
@@ -0,0 +1,72 @@
+package com.finflow.backend.modules.identity.infrastructure.metrics;
+
+import com.finflow.backend.modules.identity.domain.enums.OtpPurpose;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain event counters of the identity module (latency of the use cases themselves is timed by
+ * UseCaseMetricsPostProcessor). All counters are registered up front so the hot path is a single increment.
+ */
+@Component
+public class IdentityMetrics {
+
+    public enum RevokeReason {
+        LOGOUT, REFRESH_ROTATION, SESSION_REVOKED, ALL_SESSIONS_REVOKED
+    }
+
+    private final Map<OtpPurpose, Counter> otpSent = new EnumMap<>(OtpPurpose.class);
+    private final Map<RevokeReason, Counter> revoked = new EnumMap<>(RevokeReason.class);
+    private final Counter tokensPurged;
+    private final Counter sessionChecksSkipped;
+    private final Timer cleanupTimer;
+
+    public IdentityMetrics(MeterRegistry meterRegistry) {
+        for (OtpPurpose purpose : OtpPurpose.values()) {
+            otpSent.put(purpose, Counter.builder("identity.otp.sent")
+                    .description("OTP codes issued (stored and handed to the mailer)")
+                    .tag("purpose", purpose.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        for (RevokeReason reason : RevokeReason.values()) {
+            revoked.put(reason, Counter.builder("identity.tokens.revoked")
+                    .description("Tokens blacklisted or sessions ended")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.tokensPurged = Counter.builder("identity.tokens.purged")
+                .description("Expired blacklist entries deleted by the nightly cleanup")
+                .register(meterRegistry);
+        this.sessionChecksSkipped = Counter.builder("identity.sessions.check.skipped")
+                .description("Session checks skipped because Redis was unavailable (DB blacklist only)")
+                .register(meterRegistry);
+        this.cleanupTimer = Timer.builder("identity.tokens.cleanup")
+                .description("Duration of the expired token cleanup job")
+                .register(meterRegistry);
+    }
+
+    public void otpSent(OtpPurpose purpose) {
+        otpSent.get(purpose).increment();
+    }
+
+    public void tokensRevoked(RevokeReason reason, int count) {
+        if (count > 0) {
+            revoked.get(reason).increment(count);
+        }
+    }
+
+    public void sessionCheckSkipped() {
+        sessionChecksSkipped.increment();
+    }
+
+    public void tokensPurged(long count, long elapsedMillis) {
+        tokensPurged.increment(count);
+        cleanupTimer.record(elapsedMillis, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,164 @@
+package com.finflow.backend.modules.identity.infrastructure.persistence;
+
+import com.finflow.backend.common.id.UuidV7;
+import com.finflow.backend.modules.identity.application.bulk.ExportedUser;
+import com.finflow.backend.modules.identity.application.bulk.PreparedBulkUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC access for bulk paths where JPA would materialize entities
+ * (persistence context, dirty checking, eager roles) for every row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBulkJdbcRepository {
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (id, username, email, password, first_name, last_name, dob,
+                               is_active, account_verified, is_biometric_enabled, register_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, TRUE, TRUE, FALSE, ?)
+            """;
+
+    private static final String INSERT_USER_ROLE = "INSERT INTO user_roles (user_id, role_name) VALUES (?, ?)";
+
+    // ORDER BY the clustered key + LEFT JOIN keeps it a single forward pass, no GROUP BY temp table
+    private static final String EXPORT_USERS = """
+            SELECT u.id, u.username, u.email, u.first_name, u.last_name, u.dob,
+                   u.is_active, u.account_verified, u.register_date, u.last_login, ur.role_name
+            FROM users u
+            LEFT JOIN user_roles ur ON ur.user_id = u.id
+            ORDER BY u.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        return findExisting("SELECT username FROM users WHERE username IN (:values)", usernames);
+    }
+
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return findExisting("SELECT email FROM users WHERE email IN (:values)", emails);
+    }
+
+    private Set<String> findExisting(String sql, Collection<String> values) {
+        if (values.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                sql, new MapSqlParameterSource("values", values), String.class));
+    }
+
+    /**
+     * Inserts users and their role links with two JDBC batches. Caller owns the transaction.
+     */
+    public void insertBatch(List<PreparedBulkUser> users, LocalDateTime registerDate) {
+        Timestamp registeredAt = Timestamp.valueOf(registerDate);
+        jdbcTemplate.batchUpdate(INSERT_USER, users, users.size(), (ps, user) -> {
+            ps.setBytes(1, UuidV7.toBytes(user.id()));
+            ps.setString(2, user.username());
+            ps.setString(3, user.email());
+            ps.setString(4, user.passwordHash());
+            ps.setString(5, user.firstName());
+            ps.setString(6, user.lastName());
+            if (user.dob() != null) {
+                ps.setDate(7, Date.valueOf(user.dob()));
+            } else {
+                ps.setNull(7, Types.DATE);
+            }
+            ps.setTimestamp(8, registeredAt);
+        });
+
+        List<Object[]> links = new ArrayList<>(users.size());
+        for (PreparedBulkUser user : users) {
+            byte[] userId = UuidV7.toBytes(user.id());
+            for (String role : user.roles()) {
+                links.add(new Object[]{userId, role});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER_ROLE, links);
+    }
+
+    /**
+     * Streams every user through {@code sink} with a forward-only, read-only cursor.
+     * MySQL Connector/J streams row by row only when fetchSize is Integer.MIN_VALUE.
+     */
+    public void streamAll(Consumer<ExportedUser> sink) {
+        RowMerger merger = new RowMerger(sink);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    EXPORT_USERS, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            return ps;
+        }, merger::accept);
+        merger.flush();
+    }
+
+    /**
+     * Folds the one-row-per-role join back into one ExportedUser per id, holding only the current user.
+     */
+    private static final class RowMerger {
+
+        private final Consumer<ExportedUser> sink;
+        private ExportedUser current;
+        private List<String> roles;
+
+        private RowMerger(Consumer<ExportedUser> sink) {
+            this.sink = sink;
+        }
+
+        void accept(ResultSet rs) throws SQLException {
+            UUID id = UuidV7.fromBytes(rs.getBytes("id"));
+            if (current == null || !current.id().equals(id)) {
+                flush();
+                roles = new ArrayList<>(2);
+                Date dob = rs.getDate("dob");
+                Timestamp registerDate = rs.getTimestamp("register_date");
+                Timestamp lastLogin = rs.getTimestamp("last_login");
+                current = new ExportedUser(
+                        id,
+                        rs.getString("username"),
+                        rs.getString("email"),
+                        rs.getString("first_name"),
+                        rs.getString("last_name"),
+                        dob != null ? dob.toLocalDate() : null,
+                        rs.getObject("is_active", Boolean.class),
+                        rs.getObject("account_verified", Boolean.class),
+                        registerDate != null ? registerDate.toLocalDateTime() : null,
+                        lastLogin != null ? lastLogin.toLocalDateTime() : null,
+                        roles
+                );
+            }
+            String role = rs.getString("role_name");
+            if (role != null) {
+                roles.add(role);
+            }
+        }
+
+        void flush() {
+            if (current != null) {
+                sink.accept(current);
+                current = null;
+            }
+        }
+    }
+}
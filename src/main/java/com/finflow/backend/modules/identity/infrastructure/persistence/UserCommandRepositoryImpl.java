@@ -0,0 +1,49 @@
+package com.finflow.backend.modules.identity.infrastructure.persistence;
+
+import com.finflow.backend.modules.identity.domain.entity.User;
+import com.finflow.backend.modules.identity.domain.repository.UserCommandRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * Implementation of the {@link UserCommandRepository} methods of UserRepository. Spring Data only scans the
+ * repository's own package (domain.repository) for "Impl" classes, so this one is registered under the bean name
+ * it looks up for UserRepository's custom implementation instead.
+ */
+@Repository("userRepositoryImpl")
+public class UserCommandRepositoryImpl implements UserCommandRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateProfile(String username, String firstName, String lastName, LocalDate dob) {
+        if (firstName == null && lastName == null && dob == null) {
+            throw new IllegalArgumentException("No profile column to update");
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<User> update = cb.createCriteriaUpdate(User.class);
+        Root<User> user = update.from(User.class);
+
+        // Chỉ SET những cột client gửi lên -> UPDATE users SET first_name=? WHERE username=?
+        if (firstName != null) {
+            update.set(user.<String>get("firstName"), firstName);
+        }
+        if (lastName != null) {
+            update.set(user.<String>get("lastName"), lastName);
+        }
+        if (dob != null) {
+            update.set(user.<LocalDate>get("dob"), dob);
+        }
+        update.where(cb.equal(user.get("username"), username));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
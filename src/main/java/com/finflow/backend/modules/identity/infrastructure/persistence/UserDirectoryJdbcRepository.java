@@ -0,0 +1,134 @@
+package com.finflow.backend.modules.identity.infrastructure.persistence;
+
+import com.finflow.backend.common.id.UuidV7;
+import com.finflow.backend.modules.identity.application.directory.UserDirectoryCursor;
+import com.finflow.backend.modules.identity.application.directory.UserDirectoryEntry;
+import com.finflow.backend.modules.identity.application.directory.UserDirectoryQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Admin user directory: keyset pagination with a deferred join.
+ *
+ * - The inner query walks only an index (register_date / username / email, plus the implicit PK)
+ *   to pick the ids of one page; MySQL never reads and discards OFFSET rows.
+ * - The outer query fetches the projected columns for those ids and the roles with a correlated
+ *   subquery, so at most one page of rows is ever touched in users/user_roles.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserDirectoryJdbcRepository {
+
+    private static final RowMapper<UserDirectoryEntry> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp registerDate = rs.getTimestamp("register_date");
+        Timestamp lastLogin = rs.getTimestamp("last_login");
+        String roles = rs.getString("roles");
+        return new UserDirectoryEntry(
+                UuidV7.fromBytes(rs.getBytes("id")),
+                rs.getString("username"),
+                rs.getString("email"),
+                rs.getString("first_name"),
+                rs.getString("last_name"),
+                rs.getBoolean("is_active"),
+                rs.getBoolean("account_verified"),
+                registerDate != null ? registerDate.toLocalDateTime() : null,
+                lastLogin != null ? lastLogin.toLocalDateTime() : null,
+                roles != null ? Arrays.asList(roles.split(",")) : List.of());
+    };
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public List<UserDirectoryEntry> findPage(UserDirectoryQuery query, UserDirectoryCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+
+        if (query.prefix() != null) {
+            String column = switch (query.sort()) {
+                case USERNAME -> "k.username";
+                case EMAIL -> "k.email";
+                case REGISTERED -> throw new IllegalArgumentException("Prefix search needs USERNAME or EMAIL order");
+            };
+            where.append(" AND ").append(column).append(" LIKE :prefix");
+            params.addValue("prefix", escapeLike(query.prefix()) + "%");
+        }
+        if (query.active() != null) {
+            where.append(" AND k.is_active = :active");
+            params.addValue("active", query.active());
+        }
+        if (query.verified() != null) {
+            where.append(" AND k.account_verified = :verified");
+            params.addValue("verified", query.verified());
+        }
+        if (query.registeredFrom() != null) {
+            where.append(" AND k.register_date >= :registeredFrom");
+            params.addValue("registeredFrom", Timestamp.valueOf(query.registeredFrom()));
+        }
+        if (query.registeredTo() != null) {
+            where.append(" AND k.register_date < :registeredTo");
+            params.addValue("registeredTo", Timestamp.valueOf(query.registeredTo()));
+        }
+        if (query.role() != null) {
+            // Semi-join on the user_roles PK (user_id, role_name): one index probe per candidate row
+            where.append(" AND EXISTS (SELECT 1 FROM user_roles ur WHERE ur.user_id = k.id AND ur.role_name = :role)");
+            params.addValue("role", query.role());
+        }
+
+        String innerOrder;
+        String outerOrder;
+        switch (query.sort()) {
+            case REGISTERED -> {
+                if (after != null) {
+                    where.append(" AND (k.register_date < :afterDate OR (k.register_date = :afterDate AND k.id < :afterId))");
+                    params.addValue("afterDate", Timestamp.valueOf(after.registerDate()));
+                    params.addValue("afterId", UuidV7.toBytes(after.id()));
+                }
+                innerOrder = "k.register_date DESC, k.id DESC";
+                outerOrder = "u.register_date DESC, u.id DESC";
+            }
+            case USERNAME -> {
+                if (after != null) {
+                    where.append(" AND k.username > :afterKey");
+                    params.addValue("afterKey", after.key());
+                }
+                innerOrder = "k.username";
+                outerOrder = "u.username";
+            }
+            case EMAIL -> {
+                if (after != null) {
+                    where.append(" AND k.email > :afterKey");
+                    params.addValue("afterKey", after.key());
+                }
+                innerOrder = "k.email";
+                outerOrder = "u.email";
+            }
+            default -> throw new IllegalStateException("Unexpected sort: " + query.sort());
+        }
+
+        String sql = """
+                SELECT u.id, u.username, u.email, u.first_name, u.last_name,
+                       u.is_active, u.account_verified, u.register_date, u.last_login,
+                       (SELECT GROUP_CONCAT(r.role_name ORDER BY r.role_name SEPARATOR ',')
+                        FROM user_roles r WHERE r.user_id = u.id) AS roles
+                FROM (
+                    SELECT k.id FROM users k%s
+                    ORDER BY %s
+                    LIMIT :limit
+                ) page
+                JOIN users u ON u.id = page.id
+                ORDER BY %s
+                """.formatted(where, innerOrder, outerOrder);
+        return namedParameterJdbcTemplate.query(sql, params, ROW_MAPPER);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
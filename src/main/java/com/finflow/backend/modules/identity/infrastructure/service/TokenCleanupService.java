@@ -1,6 +1,7 @@
 package com.finflow.backend.modules.identity.infrastructure.service;
 
 import com.finflow.backend.modules.identity.domain.repository.InvalidatedTokenRepository;
+import com.finflow.backend.modules.identity.infrastructure.metrics.IdentityMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -15,6 +16,7 @@ import java.util.Date;
 public class TokenCleanupService {
 
     private final InvalidatedTokenRepository invalidatedTokenRepository;
+    private final IdentityMetrics identityMetrics;
 
     @Scheduled(cron = "0 0 2 * * *")  // 2 AM to avoid peak hours
     @Transactional
@@ -41,7 +43,7 @@ public class TokenCleanupService {
             log.info("[TokenCleanup] Successfully cleaned up {} expired tokens in {}ms", 
                 expiredCount, executionTime);
             
-            // ✅ Add metrics for monitoring (can be extended with Micrometer)
+            identityMetrics.tokensPurged(expiredCount, executionTime);
             if (executionTime > 5000) {
                 log.warn("[TokenCleanup] Cleanup took longer than expected: {}ms", executionTime);
             }
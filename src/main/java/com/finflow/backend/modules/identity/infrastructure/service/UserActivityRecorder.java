@@ -0,0 +1,227 @@
+package com.finflow.backend.modules.identity.infrastructure.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind recorder for users.last_login, users.login_count and users.last_active_at.
+ *
+ * - Login/refresh only touch an in-memory map; repeated events of the same user coalesce into one entry.
+ * - A scheduled flush drains the map and applies one batched UPDATE per user, so the hot user row
+ *   is locked once per interval instead of once per request.
+ * - A batch the database rejects is merged back into the map (within max-pending-users) and retried
+ *   on the next flush; what does not fit is counted as dropped. A retried batch may already be partially
+ *   applied, so login_count can over-count in that case; the timestamps are idempotent.
+ * - Remaining entries are flushed on shutdown. A crash loses at most one interval of activity,
+ *   which is acceptable for this (non-security) data.
+ */
+@Service
+@Slf4j
+public class UserActivityRecorder {
+
+    // GREATEST(NULL, x) is NULL in MySQL, hence COALESCE(GREATEST(col, ?), ?, col)
+    private static final String FLUSH_SQL = """
+            UPDATE users
+            SET last_login = COALESCE(GREATEST(last_login, ?), ?, last_login),
+                login_count = COALESCE(login_count, 0) + ?,
+                last_active_at = COALESCE(GREATEST(last_active_at, ?), ?, last_active_at)
+            WHERE username = ?
+            """;
+
+    private final ConcurrentHashMap<String, PendingActivity> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxPendingUsers;
+    private final int flushBatchSize;
+    private final Timer flushTimer;
+    private final Counter flushedRows;
+    private final Counter requeued;
+    private final Counter dropped;
+
+    public UserActivityRecorder(JdbcTemplate jdbcTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.identity.activity.max-pending-users:100000}") int maxPendingUsers,
+                                @Value("${app.identity.activity.flush-batch-size:500}") int flushBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxPendingUsers = maxPendingUsers;
+        this.flushBatchSize = flushBatchSize;
+        Gauge.builder("identity.activity.pending", pending, Map::size)
+                .description("Users with activity waiting to be flushed")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("identity.activity.flush")
+                .description("Latency of one activity flush (all batches)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.flushedRows = Counter.builder("identity.activity.flushed")
+                .description("User rows updated by activity flushes")
+                .register(meterRegistry);
+        this.requeued = Counter.builder("identity.activity.requeued")
+                .description("User rows put back for the next flush after a failed batch")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("identity.activity.dropped")
+                .description("Activity events dropped because the pending map was full or the final flush failed")
+                .register(meterRegistry);
+    }
+
+    public void recordLogin(String username) {
+        record(username, new PendingActivity(LocalDateTime.now(), 1, null));
+    }
+
+    public void recordActivity(String username) {
+        record(username, new PendingActivity(null, 0, LocalDateTime.now()));
+    }
+
+    private void record(String username, PendingActivity activity) {
+        if (username == null) {
+            return;
+        }
+        // Bound memory: new users are refused when full, existing entries still coalesce
+        if (pending.size() >= maxPendingUsers && !pending.containsKey(username)) {
+            dropped.increment();
+            return;
+        }
+        pending.merge(username, activity, PendingActivity::merge);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.identity.activity.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty() || !flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushTimer.record(this::drainAndWrite);
+        } catch (Exception e) {
+            log.error("[UserActivity] Flush failed: {}", e.getMessage(), e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void drainOnShutdown() {
+        flushLock.lock();
+        try {
+            int count = pending.size();
+            if (count > 0) {
+                log.info("[UserActivity] Draining {} pending users before shutdown", count);
+                drainAndWrite();
+            }
+            // No later flush will pick up what a failed batch put back
+            int lost = pending.size();
+            if (lost > 0) {
+                dropped.increment(lost);
+                pending.clear();
+                log.error("[UserActivity] Lost activity of {} users on shutdown: database write failed", lost);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void drainAndWrite() {
+        // Sorted by username so concurrent instances lock rows in the same order (no deadlocks)
+        TreeMap<String, PendingActivity> drained = new TreeMap<>();
+        for (String username : pending.keySet()) {
+            PendingActivity activity = pending.remove(username);
+            if (activity != null) {
+                drained.put(username, activity);
+            }
+        }
+
+        List<Map.Entry<String, PendingActivity>> batch = new ArrayList<>(flushBatchSize);
+        for (Map.Entry<String, PendingActivity> entry : drained.entrySet()) {
+            batch.add(entry);
+            if (batch.size() == flushBatchSize) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+        log.debug("[UserActivity] Flushed activity of {} users", drained.size());
+    }
+
+    private void write(List<Map.Entry<String, PendingActivity>> batch) {
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch, batch.size(), (ps, entry) -> {
+                PendingActivity activity = entry.getValue();
+                setTimestamp(ps, 1, activity.lastLogin());
+                setTimestamp(ps, 2, activity.lastLogin());
+                ps.setLong(3, activity.logins());
+                setTimestamp(ps, 4, activity.lastActiveAt());
+                setTimestamp(ps, 5, activity.lastActiveAt());
+                ps.setString(6, entry.getKey());
+            });
+            flushedRows.increment(batch.size());
+        } catch (DataAccessException e) {
+            requeue(batch);
+            log.warn("[UserActivity] Batch of {} users failed, kept for the next flush: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private void requeue(List<Map.Entry<String, PendingActivity>> batch) {
+        int lost = 0;
+        for (Map.Entry<String, PendingActivity> entry : batch) {
+            // Same bound as record(): users that gained new activity meanwhile always fit
+            if (pending.size() >= maxPendingUsers && !pending.containsKey(entry.getKey())) {
+                lost++;
+                continue;
+            }
+            pending.merge(entry.getKey(), entry.getValue(), PendingActivity::merge);
+        }
+        requeued.increment(batch.size() - lost);
+        if (lost > 0) {
+            dropped.increment(lost);
+            log.error("[UserActivity] Lost activity of {} users: pending map full while re-queuing a failed batch", lost);
+        }
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value != null) {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        } else {
+            ps.setNull(index, Types.TIMESTAMP);
+        }
+    }
+
+    record PendingActivity(LocalDateTime lastLogin, long logins, LocalDateTime lastActiveAt) {
+
+        static PendingActivity merge(PendingActivity a, PendingActivity b) {
+            return new PendingActivity(latest(a.lastLogin, b.lastLogin), a.logins + b.logins,
+                    latest(a.lastActiveAt, b.lastActiveAt));
+        }
+
+        private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+            if (a == null) {
+                return b;
+            }
+            return b == null || a.isAfter(b) ? a : b;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.finflow.backend.modules.identity.infrastructure.session;
+
+import java.time.Instant;
+
+/**
+ * One entry of a user's session list. {@code metadata} is null if it expired before the set was trimmed.
+ */
+public record ActiveSession(String sessionId, Instant lastActiveAt, SessionMetadata metadata) {
+}
@@ -0,0 +1,12 @@
+package com.finflow.backend.modules.identity.infrastructure.session;
+
+/**
+ * Device details captured when a session starts (stored as JSON next to the per-user sorted set).
+ */
+public record SessionMetadata(
+        String loginMethod,
+        String clientIp,
+        String userAgent,
+        long createdAtMillis
+) {
+}
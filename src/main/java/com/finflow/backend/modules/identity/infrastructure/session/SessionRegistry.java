@@ -0,0 +1,172 @@
+package com.finflow.backend.modules.identity.infrastructure.session;
+
+import com.finflow.backend.common.id.UuidV7;
+import com.finflow.backend.common.redis.RedisService;
+import com.finflow.backend.common.resilience.DependencyUnavailableException;
+import com.finflow.backend.common.web.RequestMetadata;
+import com.finflow.backend.modules.identity.infrastructure.configuration.TokenConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Active sessions per user, keyed by the "sid" claim shared by a login's access and refresh tokens.
+ *
+ * - sessions:{username} is a sorted set of sids scored by last activity (epoch millis).
+ * - session:{username}:{sid} holds the device metadata with the refresh token lifetime as TTL.
+ * - Every write trims members idle longer than the refresh lifetime and renews the set's TTL,
+ *   so stale sessions disappear on their own and idle users' keys expire entirely; no cleanup job.
+ * - At most max-per-user sessions are kept; the least recently active ones are evicted (= revoked).
+ * - Redis unavailable (guard open / timed out): logins get tokens without a sid (checked against the DB
+ *   blacklist only). isActive/touch throw; the access token check and refresh then skip the session check
+ *   and rely on the DB blacklist (counted as identity.sessions.check.skipped), so a session revoked only
+ *   here stays usable until Redis recovers. Listing/revoking fails with 503.
+ */
+@Service
+@Slf4j
+public class SessionRegistry {
+
+    private static final String SESSIONS_KEY_PREFIX = "sessions:";
+    private static final String SESSION_KEY_PREFIX = "session:";
+    private static final long SESSION_TTL_MILLIS = TimeUnit.SECONDS.toMillis(TokenConfig.REFRESH_TOKEN_EXPIRY_SECONDS);
+
+    private final RedisService redisService;
+    private final int maxSessionsPerUser;
+    private final Clock clock;
+
+    @Autowired
+    public SessionRegistry(RedisService redisService,
+                           @Value("${app.identity.sessions.max-per-user:20}") int maxSessionsPerUser) {
+        this(redisService, maxSessionsPerUser, Clock.systemUTC());
+    }
+
+    SessionRegistry(RedisService redisService, int maxSessionsPerUser, Clock clock) {
+        this.redisService = redisService;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+        this.clock = clock;
+    }
+
+    /**
+     * Registers a new session for the current request's device and returns its sid.
+     */
+    public String start(String username, String loginMethod) {
+        String sid = UuidV7.generate().toString();
+        long now = clock.millis();
+        RequestMetadata request = RequestMetadata.current();
+
+        try {
+            redisService.set(sessionKey(username, sid),
+                    new SessionMetadata(loginMethod, request.clientIp(), request.userAgent(), now),
+                    SESSION_TTL_MILLIS, TimeUnit.MILLISECONDS);
+            String setKey = sessionsKey(username);
+            redisService.zAdd(setKey, sid, now);
+            trim(username, now);
+            redisService.expire(setKey, SESSION_TTL_MILLIS, TimeUnit.MILLISECONDS);
+            return sid;
+        } catch (DependencyUnavailableException e) {
+            // Token without sid: the next refresh after Redis recovers registers the session
+            log.warn("[Sessions] Redis unavailable, issuing tokens without a session for {}", username);
+            return null;
+        }
+    }
+
+    /**
+     * Marks activity on a refresh. Returns false if the session was revoked or has expired;
+     * throws DependencyUnavailableException if that cannot be checked.
+     */
+    public boolean touch(String username, String sid) {
+        if (!isActive(username, sid)) {
+            return false;
+        }
+        long now = clock.millis();
+        String setKey = sessionsKey(username);
+        try {
+            // One round-trip instead of three
+            redisService.pipeline(batch -> batch
+                    .zAdd(setKey, sid, now)
+                    .expire(sessionKey(username, sid), SESSION_TTL_MILLIS, TimeUnit.MILLISECONDS)
+                    .expire(setKey, SESSION_TTL_MILLIS, TimeUnit.MILLISECONDS));
+        } catch (DependencyUnavailableException e) {
+            log.warn("[Sessions] Redis unavailable, activity of session {} not recorded", sid);
+        }
+        return true;
+    }
+
+    /**
+     * O(1) ZSCORE: used on every authenticated request to enforce revocation.
+     * Redis unavailable -> DependencyUnavailableException; callers fall back to the DB blacklist.
+     */
+    public boolean isActive(String username, String sid) {
+        Double lastActive = redisService.zScore(sessionsKey(username), sid);
+        return lastActive != null && lastActive > clock.millis() - SESSION_TTL_MILLIS;
+    }
+
+    /**
+     * Most recently active first.
+     */
+    public List<ActiveSession> list(String username) {
+        trim(username, clock.millis());
+        Map<String, Double> members = redisService.zRevRangeWithScores(sessionsKey(username), 0, -1);
+        List<String> sids = new ArrayList<>(members.keySet());
+        List<SessionMetadata> metadata = redisService.multiGet(
+                sids.stream().map(sid -> sessionKey(username, sid)).toList(), SessionMetadata.class);
+
+        List<ActiveSession> sessions = new ArrayList<>(sids.size());
+        for (int i = 0; i < sids.size(); i++) {
+            String sid = sids.get(i);
+            sessions.add(new ActiveSession(sid, Instant.ofEpochMilli(members.get(sid).longValue()), metadata.get(i)));
+        }
+        return sessions;
+    }
+
+    public boolean revoke(String username, String sid) {
+        boolean removed = redisService.zRemove(sessionsKey(username), sid) > 0;
+        redisService.delete(sessionKey(username, sid));
+        return removed;
+    }
+
+    /**
+     * Revokes every session of the user except {@code keepSid} (null revokes all). Returns how many were revoked.
+     */
+    public int revokeAll(String username, String keepSid) {
+        String setKey = sessionsKey(username);
+        List<String> sids = redisService.zRange(setKey, 0, -1).stream()
+                .filter(sid -> !sid.equals(keepSid))
+                .toList();
+        if (sids.isEmpty()) {
+            return 0;
+        }
+        redisService.zRemove(setKey, sids.toArray());
+        redisService.delete(sids.stream().map(sid -> sessionKey(username, sid)).toList());
+        return sids.size();
+    }
+
+    private void trim(String username, long now) {
+        String setKey = sessionsKey(username);
+        redisService.zRemoveRangeByScore(setKey, Double.NEGATIVE_INFINITY, now - SESSION_TTL_MILLIS);
+
+        long overflow = redisService.zCard(setKey) - maxSessionsPerUser;
+        if (overflow > 0) {
+            List<String> evicted = redisService.zRange(setKey, 0, overflow - 1);
+            redisService.zRemove(setKey, evicted.toArray());
+            redisService.delete(evicted.stream().map(sid -> sessionKey(username, sid)).toList());
+            log.info("[Sessions] Evicted {} oldest sessions of {} (limit {})", evicted.size(), username, maxSessionsPerUser);
+        }
+    }
+
+    private static String sessionsKey(String username) {
+        return SESSIONS_KEY_PREFIX + username;
+    }
+
+    private static String sessionKey(String username, String sid) {
+        return SESSION_KEY_PREFIX + username + ":" + sid;
+    }
+}
@@ -0,0 +1,35 @@
+package com.finflow.backend.modules.identity.presentation.controller;
+
+import com.finflow.backend.common.pagination.CursorPage;
+import com.finflow.backend.modules.identity.application.usecase.QueryAuthAuditUseCase;
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+import com.finflow.backend.modules.identity.presentation.response.AuthAuditEventResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+
+@RestController
+@RequestMapping("/api/admin/audit-events")
+@RequiredArgsConstructor
+public class AdminAuditController {
+
+    private final QueryAuthAuditUseCase queryAuthAuditUseCase;
+
+    @GetMapping
+    public ResponseEntity<CursorPage<AuthAuditEventResponse>> getAuditEvents(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) AuthEventType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(queryAuthAuditUseCase.execute(username, type, from, to, cursor, size));
+    }
+}
@@ -0,0 +1,81 @@
+package com.finflow.backend.modules.identity.presentation.controller;
+
+import com.finflow.backend.common.pagination.CursorPage;
+import com.finflow.backend.modules.identity.application.bulk.BulkUserFormat;
+import com.finflow.backend.modules.identity.application.usecase.BulkExportUsersUseCase;
+import com.finflow.backend.modules.identity.application.usecase.BulkImportUsersUseCase;
+import com.finflow.backend.modules.identity.application.usecase.SearchUserDirectoryUseCase;
+import com.finflow.backend.modules.identity.presentation.response.BulkImportResponse;
+import com.finflow.backend.modules.identity.presentation.response.UserDirectoryEntryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Admin-only user management (/api/admin/** requires ROLE_ADMIN, see SecurityConfig).
+ */
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminUserController {
+
+    private final BulkImportUsersUseCase bulkImportUsersUseCase;
+    private final BulkExportUsersUseCase bulkExportUsersUseCase;
+    private final SearchUserDirectoryUseCase searchUserDirectoryUseCase;
+
+    /**
+     * User directory, keyset paginated: pass back {@code nextCursor} unchanged to get the next page.
+     * {@code q} is a prefix on email when it contains '@', otherwise on username.
+     */
+    @GetMapping
+    public ResponseEntity<CursorPage<UserDirectoryEntryResponse>> searchUsers(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) Boolean verified,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime registeredFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime registeredTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(searchUserDirectoryUseCase.execute(
+                q, role, active, verified, registeredFrom, registeredTo, cursor, size));
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<BulkImportResponse> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        log.info("Bulk import request received ({})", contentType);
+        return ResponseEntity.ok(bulkImportUsersUseCase.execute(body, BulkUserFormat.fromContentType(contentType)));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "ndjson") String format) {
+        BulkUserFormat exportFormat = BulkUserFormat.fromName(format);
+        log.info("Bulk export request received ({})", exportFormat);
+
+        StreamingResponseBody body = output -> bulkExportUsersUseCase.execute(output, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=users." + exportFormat.name().toLowerCase(Locale.ROOT))
+                .body(body);
+    }
+}
@@ -35,7 +35,7 @@ public class AuthController {
             @RequestBody @Valid RegisterRequest request,
             @RequestHeader("X-Registration-Token") String registrationToken
     ) {
-        log.info("Register request received for username: {}", request.getUsername());
+        log.debug("Register request received for username: {}", request.getUsername());
         registerUseCase.execute(request, registrationToken);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new MessageResponse("User registered successfully!"));
@@ -44,35 +44,35 @@ public class AuthController {
    
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        log.info("Login request received for username: {}", request.getUsername());
+        log.debug("Login request received for username: {}", request.getUsername());
         AuthResponse response = loginUseCase.execute(request);
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/refresh")
     public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
-        log.info("Refresh token request received");
+        log.debug("Refresh token request received");
         AuthResponse response = refreshTokenUseCase.execute(request.getRefreshToken());
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/google")
     public ResponseEntity<AuthResponse> googleLogin(@RequestBody @Valid GoogleLoginRequest request) {
-        log.info("Google login request received");
+        log.debug("Google login request received");
         AuthResponse response = googleLoginUseCase.execute(request);
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/send-otp")
     public ResponseEntity<MessageResponse> sendOtp(@RequestBody @Valid SendOtpRequest request) {
-        log.info("Send OTP request for: {} with purpose: {}", request.getEmail(), request.getPurpose());
+        log.debug("Send OTP request for: {} with purpose: {}", request.getEmail(), request.getPurpose());
         sendOtpUseCase.execute(request.getEmail(), request.getPurpose());
         return ResponseEntity.ok(new MessageResponse("OTP sent successfully"));
     }
 
     @PostMapping("/verify-otp")
     public ResponseEntity<VerifyOtpResponse> verifyOtp(@RequestBody @Valid VerifyOtpRequest request) {
-        log.info("Verify OTP request for: {} with purpose: {}", request.getEmail(), request.getPurpose());
+        log.debug("Verify OTP request for: {} with purpose: {}", request.getEmail(), request.getPurpose());
         VerifyOtpResponse response = verifyOtpUseCase.execute(request.getEmail(), request.getOtp(), request.getPurpose());
         return ResponseEntity.ok(response);
     }
@@ -82,14 +82,14 @@ public class AuthController {
             @RequestBody @Valid ResetPasswordRequest request,
             @RequestHeader("X-Reset-Token") String token
     ) {
-        log.info("Reset password request received");
+        log.debug("Reset password request received");
         resetPasswordUseCase.execute(request, token);
         return ResponseEntity.ok(new MessageResponse("Password reset successfully"));
     }
 
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(HttpServletRequest request) {
-        log.info("Logout request received");
+        log.debug("Logout request received");
 
         // 1. Extract token from Authorization header
         String authHeader = request.getHeader("Authorization");
@@ -107,7 +107,7 @@ public class AuthController {
     
     @PostMapping("/check-user-existence")
     public ResponseEntity<CheckUserExistenceResponse> checkUserExistence(@RequestBody @Valid CheckUserExistenceRequest request) {
-        log.info("Check user existence request received for email: {}", request.getEmail());
+        log.debug("Check user existence request received for email: {}", request.getEmail());
         CheckUserExistenceResponse response = checkUserExistenceUseCase.execute(request);
         return ResponseEntity.ok(response);
     }
@@ -120,7 +120,7 @@ public class AuthController {
         String username = org.springframework.security.core.context.SecurityContextHolder
                 .getContext().getAuthentication().getName();
         
-        log.info("Toggle biometric request for user: {}", username);
+        log.debug("Toggle biometric request for user: {}", username);
         toggleBiometricUseCase.execute(username, request);
         
         return ResponseEntity.ok(new MessageResponse(
@@ -0,0 +1,57 @@
+package com.finflow.backend.modules.identity.presentation.controller;
+
+import com.finflow.backend.modules.identity.application.usecase.ListSessionsUseCase;
+import com.finflow.backend.modules.identity.application.usecase.RevokeAllSessionsUseCase;
+import com.finflow.backend.modules.identity.application.usecase.RevokeSessionUseCase;
+import com.finflow.backend.modules.identity.infrastructure.configuration.TokenConfig;
+import com.finflow.backend.modules.identity.presentation.response.MessageResponse;
+import com.finflow.backend.modules.identity.presentation.response.SessionResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Active sessions (devices) of the calling user.
+ */
+@RestController
+@RequestMapping("/api/users/my-sessions")
+@RequiredArgsConstructor
+public class SessionController {
+
+    private final ListSessionsUseCase listSessionsUseCase;
+    private final RevokeSessionUseCase revokeSessionUseCase;
+    private final RevokeAllSessionsUseCase revokeAllSessionsUseCase;
+
+    @GetMapping
+    public ResponseEntity<List<SessionResponse>> getMySessions(@AuthenticationPrincipal Jwt jwt) {
+        return ResponseEntity.ok(listSessionsUseCase.execute(jwt.getSubject(), currentSessionId(jwt)));
+    }
+
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<Void> revokeSession(@AuthenticationPrincipal Jwt jwt, @PathVariable String sessionId) {
+        revokeSessionUseCase.execute(jwt.getSubject(), sessionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<MessageResponse> revokeAllSessions(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(defaultValue = "true") boolean keepCurrent
+    ) {
+        int revoked = revokeAllSessionsUseCase.execute(jwt.getSubject(), currentSessionId(jwt), keepCurrent);
+        return ResponseEntity.ok(new MessageResponse("Revoked " + revoked + " session(s)"));
+    }
+
+    private static String currentSessionId(Jwt jwt) {
+        return jwt.getClaimAsString(TokenConfig.SESSION_ID_CLAIM);
+    }
+}
@@ -7,11 +7,15 @@ import com.finflow.backend.modules.identity.application.usecase.UpdateProfileUse
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -27,12 +31,12 @@ public class UserController {
         var context = SecurityContextHolder.getContext();
         String username = context.getAuthentication().getName();
         
-        log.info("Get profile request received for user: {}", username);
+        log.debug("Get profile request received for user: {}", username);
 
         // 2. Delegate to UseCase
         UserResponse response = getProfileUseCase.execute(username);
 
-        log.info("Profile retrieved successfully for user: {}", username);
+        log.debug("Profile retrieved successfully for user: {}", username);
         return ResponseEntity.ok(response);
     }
 
@@ -40,6 +44,11 @@ public class UserController {
     public ResponseEntity<UserResponse> updateProfile(@org.springframework.web.bind.annotation.RequestBody UpdateProfileRequest request) {
         var context = SecurityContextHolder.getContext();
         String username = context.getAuthentication().getName();
-        return ResponseEntity.ok(updateProfileUseCase.execute(username, request));
+        // Role names từ scope của token (ROLE_USER, ROLE_ADMIN); bỏ các authority khác (FACTOR_*, ...)
+        Set<String> roles = context.getAuthentication().getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith("ROLE_"))
+                .collect(Collectors.toSet());
+        return ResponseEntity.ok(updateProfileUseCase.execute(username, roles, request));
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.finflow.backend.modules.identity.presentation.response;
+
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public final class AuthAuditEventResponse {
+    private long id;
+    private Instant occurredAt;
+    private AuthEventType type;
+    private String username;
+    private boolean success;
+    private String detail;
+    private String clientIp;
+    private String userAgent;
+}
@@ -7,7 +7,7 @@ import lombok.Setter;
 @Getter
 @Setter
 @Builder
-public class AuthResponse {
+public final class AuthResponse {
     String token;
     String refreshToken;
     String type;
@@ -0,0 +1,26 @@
+package com.finflow.backend.modules.identity.presentation.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public final class BulkImportResponse {
+    private long processed;     // Số dòng đã đọc
+    private long imported;      // Số user đã insert
+    private long skipped;       // Trùng username/email (trong file hoặc DB)
+    private long failed;        // Dòng không hợp lệ
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<RowError> errors; // Chỉ giữ N lỗi đầu tiên để bộ nhớ không tăng theo kích thước file
+    private boolean errorsTruncated;
+
+    public record RowError(long line, String reason) {
+    }
+}
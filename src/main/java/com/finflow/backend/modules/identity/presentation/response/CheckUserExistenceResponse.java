@@ -9,6 +9,6 @@ import lombok.NoArgsConstructor;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class CheckUserExistenceResponse {
+public final class CheckUserExistenceResponse {
     private boolean exists;
 }
@@ -0,0 +1,22 @@
+package com.finflow.backend.modules.identity.presentation.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public final class SessionResponse {
+    private String sessionId;
+    private boolean current;
+    private String loginMethod;
+    private String clientIp;
+    private String userAgent;
+    private Instant createdAt;
+    private Instant lastActiveAt;
+}
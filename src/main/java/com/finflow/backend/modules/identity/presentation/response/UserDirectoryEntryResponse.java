@@ -0,0 +1,26 @@
+package com.finflow.backend.modules.identity.presentation.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public final class UserDirectoryEntryResponse {
+    private String id;
+    private String username;
+    private String email;
+    private String firstName;
+    private String lastName;
+    private boolean active;
+    private boolean verified;
+    private LocalDateTime registerDate;
+    private LocalDateTime lastLogin;
+    private List<String> roles;
+}
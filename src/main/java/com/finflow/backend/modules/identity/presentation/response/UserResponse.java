@@ -8,7 +8,7 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class UserResponse {
+public final class UserResponse {
     private String id;
     private String username;
     private String email;
@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class VerifyOtpResponse {
+public final class VerifyOtpResponse {
     private String message;
     private String registrationToken;
 }
@@ -1,5 +1,7 @@
 package com.finflow.backend.modules.notification.application.listener;
 
+import com.finflow.backend.common.timing.RequestTiming;
+import com.finflow.backend.common.timing.TimingStage;
 import com.finflow.backend.modules.identity.application.event.OtpRequestedEvent;
 import com.finflow.backend.modules.notification.infrastructure.mail.EmailService;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,12 @@ public class OtpNotificationListener {
         String subject = "FinFlow Verification Code";
         String text = "Your verification code is: " + event.getOtpCode() + "\n\nThis code expires in 5 minutes.";
         
-        emailService.sendSimpleMessage(event.getEmail(), subject, text);
+        // The send itself is @Async; on the request path "mail" is the hand-off to the mail executor
+        long started = RequestTiming.begin(TimingStage.MAIL);
+        try {
+            emailService.sendSimpleMessage(event.getEmail(), subject, text);
+        } finally {
+            RequestTiming.end(TimingStage.MAIL, started);
+        }
     }
 }
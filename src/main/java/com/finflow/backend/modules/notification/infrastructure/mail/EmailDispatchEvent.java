@@ -0,0 +1,16 @@
+package com.finflow.backend.modules.notification.infrastructure.mail;
+
+import com.finflow.backend.common.jfr.OutcomeEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("finflow.mail.EmailDispatch")
+@Label("Email Dispatch")
+@Description("SMTP send on the mail executor, including the bulkhead wait; outcome sent / unavailable / failed")
+@Category({"FinFlow", "Notification"})
+@StackTrace(false)
+public class EmailDispatchEvent extends OutcomeEvent {
+}
@@ -1,34 +1,51 @@
 package com.finflow.backend.modules.notification.infrastructure.mail;
 
-import lombok.RequiredArgsConstructor;
+import com.finflow.backend.common.resilience.DependencyGuard;
+import com.finflow.backend.common.resilience.DependencyGuards;
+import com.finflow.backend.common.resilience.DependencyUnavailableException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final DependencyGuard guard;
 
     @Value("${spring.mail.username}")
     private String fromEmail;
 
+    public EmailService(JavaMailSender mailSender, DependencyGuards guards) {
+        this.mailSender = mailSender;
+        // SMTP connect/read/write timeouts (spring.mail.properties.mail.smtp.*) bound each send
+        this.guard = guards.get(DependencyGuards.MAIL, e -> e instanceof MailException);
+    }
+
     @Async
     public void sendSimpleMessage(String to, String subject, String text) {
+        EmailDispatchEvent event = new EmailDispatchEvent();
+        event.begin();
         try {
             SimpleMailMessage message = new SimpleMailMessage();
             message.setFrom(fromEmail);
             message.setTo(to);
             message.setSubject(subject);
             message.setText(text);
-            mailSender.send(message);
+            guard.run(() -> mailSender.send(message));
+            event.end("sent");
             log.info("Email sent to: {}", to);
+        } catch (DependencyUnavailableException e) {
+            event.end("unavailable");
+            // Degraded: the OTP stays valid in Redis, the user can request a resend
+            log.error("Email to {} dropped, SMTP unavailable ({})", to, e.getReason());
         } catch (Exception e) {
+            event.end("failed");
             log.error("Failed to send email to {}: {}", to, e.getMessage());
             // In async, we can't throw to caller, just log.
         }
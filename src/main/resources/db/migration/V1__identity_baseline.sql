@@ -0,0 +1,88 @@
+-- Identity schema as ddl-auto=update last produced it (users, roles, permissions, tokens)
+-- plus the Spring Modulith event publication tables.
+-- Databases created before migrations existed are baselined at this version (spring.flyway.baseline-on-migrate)
+-- and only run V2+.
+
+CREATE TABLE roles (
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE permissions (
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE role_permissions (
+    role_name       VARCHAR(255) NOT NULL,
+    permission_name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (role_name, permission_name),
+    CONSTRAINT FKq893o9jg7ihgdxfwtiswn0uk2 FOREIGN KEY (role_name) REFERENCES roles (name),
+    CONSTRAINT FKie537gni0kx7t0vxakg9kbur9 FOREIGN KEY (permission_name) REFERENCES permissions (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE users (
+    id                   BINARY(16)   NOT NULL,
+    username             VARCHAR(255) NOT NULL,
+    email                VARCHAR(255) NOT NULL,
+    password             VARCHAR(255) NOT NULL,
+    first_name           VARCHAR(255),
+    last_name            VARCHAR(255),
+    dob                  DATE,
+    is_active            BIT,
+    account_verified     BIT,
+    is_biometric_enabled BIT,
+    register_date        DATETIME(6),
+    last_login           DATETIME(6),
+    login_count          BIGINT       NOT NULL DEFAULT 0,
+    last_active_at       DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UKr43af9ap4edm43mmtq01oddj6 UNIQUE (username),
+    CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email),
+    -- Admin directory keyset (see UserDirectoryJdbcRepository)
+    INDEX idx_users_register_date (register_date, id),
+    INDEX idx_users_status_register_date (is_active, account_verified, register_date, id)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_roles (
+    user_id   BINARY(16)   NOT NULL,
+    role_name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (user_id, role_name),
+    INDEX idx_user_roles_role (role_name, user_id),
+    CONSTRAINT FKhfh9dx7w3ubf1co1vdev94g3f FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT FKdcdh0gl1mdce42vy0klyio6fi FOREIGN KEY (role_name) REFERENCES roles (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE invalidated_tokens (
+    id          BINARY(16) NOT NULL,
+    expiry_time DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE event_publication (
+    id                     BINARY(16)    NOT NULL,
+    listener_id            VARCHAR(512),
+    event_type             VARCHAR(512),
+    serialized_event       VARCHAR(4000),
+    publication_date       DATETIME(6),
+    completion_date        DATETIME(6),
+    last_resubmission_date DATETIME(6),
+    completion_attempts    INT           NOT NULL,
+    status                 ENUM ('COMPLETED','FAILED','PROCESSING','PUBLISHED','RESUBMITTED'),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE event_publication_archive (
+    id                     BINARY(16)    NOT NULL,
+    listener_id            VARCHAR(512),
+    event_type             VARCHAR(512),
+    serialized_event       VARCHAR(4000),
+    publication_date       DATETIME(6),
+    completion_date        DATETIME(6),
+    last_resubmission_date DATETIME(6),
+    completion_attempts    INT           NOT NULL,
+    status                 ENUM ('COMPLETED','FAILED','PROCESSING','PUBLISHED','RESUBMITTED'),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,20 @@
+-- Append-only auth audit log, RANGE partitioned by month on occurred_at.
+-- Monthly partitions are split off p_future by AuthAuditJdbcRepository.maintainPartitions.
+-- IF NOT EXISTS: databases baselined at V1 may already have the table from app.identity.audit.create-table.
+
+CREATE TABLE IF NOT EXISTS auth_audit_log (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    occurred_at DATETIME(3)  NOT NULL,
+    event_type  VARCHAR(32)  NOT NULL,
+    username    VARCHAR(255) NULL,
+    success     BOOLEAN      NOT NULL,
+    detail      VARCHAR(255) NULL,
+    client_ip   VARCHAR(45)  NULL,
+    user_agent  VARCHAR(255) NULL,
+    PRIMARY KEY (id, occurred_at),
+    KEY idx_auth_audit_occurred (occurred_at),
+    KEY idx_auth_audit_user_occurred (username, occurred_at)
+) ENGINE = InnoDB
+PARTITION BY RANGE COLUMNS (occurred_at) (
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
@@ -0,0 +1,2 @@
+-- TokenCleanupService runs DELETE ... WHERE expiry_time < ? nightly (02:00); without this it scans the whole blacklist.
+CREATE INDEX idx_invalidated_tokens_expiry_time ON invalidated_tokens (expiry_time);
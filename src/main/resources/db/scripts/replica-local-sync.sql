@@ -0,0 +1,25 @@
+-- Copies the primary schema (finflow_v2) into finflow_v2_replica for the "replica-local" profile.
+-- Re-run whenever the stand-in replica should catch up. Not used in real deployments.
+
+CREATE DATABASE IF NOT EXISTS finflow_v2_replica;
+
+DROP TABLE IF EXISTS finflow_v2_replica.user_roles;
+DROP TABLE IF EXISTS finflow_v2_replica.role_permissions;
+DROP TABLE IF EXISTS finflow_v2_replica.users;
+DROP TABLE IF EXISTS finflow_v2_replica.roles;
+DROP TABLE IF EXISTS finflow_v2_replica.permissions;
+DROP TABLE IF EXISTS finflow_v2_replica.invalidated_tokens;
+
+CREATE TABLE finflow_v2_replica.permissions LIKE finflow_v2.permissions;
+CREATE TABLE finflow_v2_replica.roles LIKE finflow_v2.roles;
+CREATE TABLE finflow_v2_replica.role_permissions LIKE finflow_v2.role_permissions;
+CREATE TABLE finflow_v2_replica.users LIKE finflow_v2.users;
+CREATE TABLE finflow_v2_replica.user_roles LIKE finflow_v2.user_roles;
+CREATE TABLE finflow_v2_replica.invalidated_tokens LIKE finflow_v2.invalidated_tokens;
+
+INSERT INTO finflow_v2_replica.permissions SELECT * FROM finflow_v2.permissions;
+INSERT INTO finflow_v2_replica.roles SELECT * FROM finflow_v2.roles;
+INSERT INTO finflow_v2_replica.role_permissions SELECT * FROM finflow_v2.role_permissions;
+INSERT INTO finflow_v2_replica.users SELECT * FROM finflow_v2.users;
+INSERT INTO finflow_v2_replica.user_roles SELECT * FROM finflow_v2.user_roles;
+INSERT INTO finflow_v2_replica.invalidated_tokens SELECT * FROM finflow_v2.invalidated_tokens;
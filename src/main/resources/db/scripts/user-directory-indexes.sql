@@ -0,0 +1,18 @@
+-- Indexes behind GET /api/admin/users (keyset pagination). ddl-auto=update creates them on fresh
+-- schemas; run this on existing large tables (ALGORITHM=INPLACE, LOCK=NONE keeps writes online).
+
+-- Keyset on register_date skips NULLs, so backfill legacy rows to keep them reachable.
+UPDATE users SET register_date = COALESCE(last_login, NOW(6)) WHERE register_date IS NULL;
+
+ALTER TABLE users
+    ADD INDEX idx_users_register_date (register_date, id),
+    ADD INDEX idx_users_status_register_date (is_active, account_verified, register_date, id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE user_roles
+    ADD INDEX idx_user_roles_role (role_name, user_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- Sanity check: both plans should show the index as key and no "Using filesort" in the derived table
+EXPLAIN SELECT k.id FROM users k ORDER BY k.register_date DESC, k.id DESC LIMIT 51;
+EXPLAIN SELECT k.id FROM users k WHERE k.username LIKE 'ngu%' ORDER BY k.username LIMIT 51;
@@ -0,0 +1,61 @@
+-- Migrate users.id, user_roles.user_id and invalidated_tokens.id from VARCHAR(36) UUID strings to BINARY(16).
+-- MySQL 8.0+. Run once, with the application stopped (ddl-auto=update cannot change column types).
+--
+-- Existing ids keep their value (random v4 UUIDs stay valid); only new rows get time-ordered v7 ids.
+-- UUID_TO_BIN is called WITHOUT the swap flag: v7 is already big-endian time-ordered, and
+-- UuidV7.toBytes / Hibernate's BINARY mapping use the plain RFC 4122 byte order.
+
+-- 1. users.id + user_roles.user_id
+ALTER TABLE users ADD COLUMN id_bin BINARY(16) NULL;
+UPDATE users SET id_bin = UUID_TO_BIN(id);
+
+ALTER TABLE user_roles ADD COLUMN user_id_bin BINARY(16) NULL;
+UPDATE user_roles ur JOIN users u ON u.id = ur.user_id SET ur.user_id_bin = u.id_bin;
+
+-- Hibernate generated the FK name, so look it up
+SET @fk := (SELECT CONSTRAINT_NAME
+            FROM information_schema.KEY_COLUMN_USAGE
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = 'user_roles'
+              AND COLUMN_NAME = 'user_id'
+              AND REFERENCED_TABLE_NAME = 'users'
+            LIMIT 1);
+SET @ddl := IF(@fk IS NULL, 'DO 0', CONCAT('ALTER TABLE user_roles DROP FOREIGN KEY ', @fk));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+ALTER TABLE user_roles
+    DROP PRIMARY KEY,
+    DROP COLUMN user_id,
+    CHANGE COLUMN user_id_bin user_id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (user_id, role_name);
+
+ALTER TABLE users
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id);
+
+ALTER TABLE user_roles
+    ADD CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id);
+
+-- 2. invalidated_tokens.id (JWT jti). Rows that are not UUIDs cannot match a new-style lookup anyway.
+ALTER TABLE invalidated_tokens ADD COLUMN id_bin BINARY(16) NULL;
+UPDATE invalidated_tokens SET id_bin = UUID_TO_BIN(id) WHERE IS_UUID(id);
+DELETE FROM invalidated_tokens WHERE id_bin IS NULL;
+
+ALTER TABLE invalidated_tokens
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id);
+
+-- 3. Sanity check: index size after migration (compare with the numbers captured before step 1)
+SELECT TABLE_NAME,
+       TABLE_ROWS,
+       ROUND(DATA_LENGTH / 1024 / 1024, 2)  AS data_mb,
+       ROUND(INDEX_LENGTH / 1024 / 1024, 2) AS secondary_index_mb
+FROM information_schema.TABLES
+WHERE TABLE_SCHEMA = DATABASE()
+  AND TABLE_NAME IN ('users', 'user_roles', 'invalidated_tokens');
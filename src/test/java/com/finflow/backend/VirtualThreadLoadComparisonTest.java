@@ -0,0 +1,152 @@
+package com.finflow.backend;
+
+import com.finflow.backend.common.concurrent.PinnedThreadRecorder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the application twice against the same MySQL/Redis, once on platform threads and once with
+ * spring.threads.virtual.enabled, and drives login + my-profile concurrently. Prints throughput and p99
+ * per mode and the pinned-thread events seen under load; only asserts that requests succeed and that
+ * none of the pinnings come from our code. Tagged "benchmark", so it is left out of the default run
+ * ({@code ./mvnw test -Dtest.excludedGroups= -Dgroups=benchmark}); skipped when Docker is not available.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class VirtualThreadLoadComparisonTest {
+
+    private static final int CONCURRENCY = 64;
+    private static final int REQUESTS_PER_ENDPOINT = 2_000;
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    @Container
+    static final MySQLContainer MYSQL = new MySQLContainer("mysql:8.4");
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7.4-alpine").withExposedPorts(6379);
+
+    private final HttpClient http = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+    @Test
+    void compareThroughputAndLatencyPerMode() throws Exception {
+        for (boolean virtual : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext app = start(virtual);
+                 PinnedThreadRecorder recorder = new PinnedThreadRecorder()) {
+                String base = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+                String mode = virtual ? "virtual" : "platform";
+
+                // Warm-up (JIT, pools, caches) before measuring
+                run(base, 200, this::login);
+                String token = extractToken(login(base));
+
+                report(mode, "POST /api/auth/login", run(base, REQUESTS_PER_ENDPOINT, this::login));
+                report(mode, "GET /api/users/my-profile", run(base, REQUESTS_PER_ENDPOINT, b -> profile(b, token)));
+
+                List<String> pinnings = recorder.stop();
+                System.out.printf("[load] %s: %d pinned events%n", mode, pinnings.size());
+                pinnings.stream().limit(3).forEach(p -> System.out.println("[load] " + p));
+                assertEquals(List.of(), PinnedThreadRecorder.ownCode(pinnings));
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(FinFlowBackendApplication.class).run(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--spring.datasource.url=" + MYSQL.getJdbcUrl(),
+                "--spring.datasource.username=" + MYSQL.getUsername(),
+                "--spring.datasource.password=" + MYSQL.getPassword(),
+                "--spring.data.redis.host=" + REDIS.getHost(),
+                "--spring.data.redis.port=" + REDIS.getMappedPort(6379),
+                "--app.flyway.migrate-on-startup=true",
+                "--app.security.google.client-id=load-test",
+                "--spring.mail.password=unused");
+    }
+
+    private HttpResponse<String> login(String base) throws Exception {
+        return http.send(HttpRequest.newBuilder(URI.create(base + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"admin123\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> profile(String base, String token) throws Exception {
+        return http.send(HttpRequest.newBuilder(URI.create(base + "/api/users/my-profile"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Sends {@code total} requests with {@link #CONCURRENCY} in flight; returns per-request latency in nanos
+     * plus the wall time as the last element.
+     */
+    private long[] run(String base, int total, Call call) throws Exception {
+        long[] latencies = new long[total + 1];
+        long start = System.nanoTime();
+        try (ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<Future<?>> futures = new ArrayList<>(total);
+            for (int i = 0; i < total; i++) {
+                int n = i;
+                futures.add(workers.submit(() -> {
+                    long t0 = System.nanoTime();
+                    HttpResponse<String> response = call.send(base);
+                    latencies[n] = System.nanoTime() - t0;
+                    assertEquals(200, response.statusCode(), response.body());
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        latencies[total] = System.nanoTime() - start;
+        return latencies;
+    }
+
+    private static void report(String mode, String endpoint, long[] result) {
+        int total = result.length - 1;
+        long wall = result[total];
+        long[] sorted = Arrays.copyOf(result, total);
+        Arrays.sort(sorted);
+        double throughput = total / (wall / 1e9);
+        double p50 = sorted[(int) (total * 0.50)] / 1e6;
+        double p99 = sorted[(int) Math.min(total - 1, Math.ceil(total * 0.99))] / 1e6;
+        System.out.printf("[load] %-8s %-26s %8.0f req/s  p50 %7.2f ms  p99 %7.2f ms%n",
+                mode, endpoint, throughput, p50, p99);
+    }
+
+    private static String extractToken(HttpResponse<String> response) {
+        Matcher matcher = TOKEN.matcher(response.body());
+        assertTrue(matcher.find(), response.body());
+        return matcher.group(1);
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        HttpResponse<String> send(String base) throws Exception;
+    }
+}
@@ -0,0 +1,60 @@
+package com.finflow.backend.common.concurrent;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Records jdk.VirtualThreadPinned JFR events (a virtual thread blocked while pinned to its carrier,
+ * e.g. parking inside a synchronized block before JDK 24, or in a native frame) with their stack traces.
+ * Use as try-with-resources around a workload that runs on virtual threads.
+ */
+public final class PinnedThreadRecorder implements AutoCloseable {
+
+    public static final String OWN_PACKAGE = "com.finflow.";
+
+    private final RecordingStream stream = new RecordingStream();
+    private final List<RecordedEvent> events = new CopyOnWriteArrayList<>();
+
+    public PinnedThreadRecorder() {
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", events::add);
+        stream.startAsync();
+    }
+
+    /**
+     * Stops recording (flushing pending events) and returns one formatted stack per pinning.
+     */
+    public List<String> stop() {
+        stream.stop();
+        return events.stream().map(PinnedThreadRecorder::format).toList();
+    }
+
+    /**
+     * Pinnings with a frame from our own code on the stack; driver/library pinnings are only reported.
+     */
+    public static List<String> ownCode(List<String> pinnings) {
+        return pinnings.stream().filter(stack -> stack.contains(OWN_PACKAGE)).toList();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    private static String format(RecordedEvent event) {
+        String header = "pinned " + event.getDuration().toMillis() + " ms";
+        if (event.getStackTrace() == null) {
+            return header;
+        }
+        return header + "\n" + event.getStackTrace().getFrames().stream()
+                .map(RecordedFrame::getMethod)
+                .map(m -> "    at " + m.getType().getName() + "." + m.getName())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,152 @@
+package com.finflow.backend.common.concurrent;
+
+import com.finflow.backend.common.resilience.DependencyGuard;
+import com.finflow.backend.modules.identity.infrastructure.service.UserActivityRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs our concurrency-sensitive code on virtual threads under contention while JFR records
+ * jdk.VirtualThreadPinned. Pinning with one of our frames on the stack fails the test, and so does the
+ * JDBC driver pinning while it waits on the server. (JDK 24+ no longer pins on synchronized.)
+ */
+class VirtualThreadPinningTest {
+
+    private static final int TASKS = 500;
+
+    @Test
+    void recorderDetectsPinningOnThisJdk() throws Exception {
+        // Self-check: class initialisation runs under a VM frame, so parking there pins on every JDK
+        // (synchronized only pins before JDK 24, JEP 491)
+        List<String> pinnings;
+        try (PinnedThreadRecorder recorder = new PinnedThreadRecorder()) {
+            Thread.ofVirtual().start(ParksInClassInitializer::touch).join();
+            pinnings = recorder.stop();
+        }
+        assertTrue(pinnings.stream().anyMatch(p -> p.contains(ParksInClassInitializer.class.getName())),
+                () -> "expected the park inside <clinit> to be reported, got " + pinnings);
+    }
+
+    @Test
+    void ownCodeDoesNotPinCarrierThreads() throws Exception {
+        DependencyGuard guard = DependencyGuard.builder().name("pinning").maxConcurrent(50).maxWaitMillis(1_000)
+                .timeoutMillis(1_000).windowSize(20).minimumCalls(10).failureRateThreshold(50).openDurationMillis(1_000)
+                .build();
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        UserActivityRecorder activity = new UserActivityRecorder(new SlowJdbcTemplate(), new SimpleMeterRegistry(), 100_000, 100);
+
+        List<String> pinnings;
+        try (PinnedThreadRecorder recorder = new PinnedThreadRecorder();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < TASKS; i++) {
+                int n = i;
+                futures.add(executor.submit(() -> {
+                    // Bulkhead wait + circuit breaker lock + blocking inside the guarded call
+                    guard.call(() -> {
+                        LockSupport.parkNanos(1_000_000);
+                        return n;
+                    });
+                    guard.callWithTimeout(() -> n);
+                    buffer.offer(n);
+                    buffer.poll();
+                    activity.recordLogin("user" + (n % 50));
+                    if (n % 50 == 0) {
+                        // Flush lock held across a (slow) JDBC batch
+                        activity.flush();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            pinnings = recorder.stop();
+        }
+
+        assertEquals(List.of(), PinnedThreadRecorder.ownCode(pinnings));
+    }
+
+    @Test
+    void jdbcDriverDoesNotPinWhileWaitingOnTheServer() throws Exception {
+        // Connector/J blocking on a server that never answers: the virtual threads must unmount, not pin
+        try (ServerSocket hanging = new ServerSocket(0);
+             PinnedThreadRecorder recorder = new PinnedThreadRecorder();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Socket> accepted = new CopyOnWriteArrayList<>();
+            Thread.ofVirtual().start(() -> {
+                try {
+                    while (true) {
+                        accepted.add(hanging.accept());
+                    }
+                } catch (IOException ignored) {
+                    // closed
+                }
+            });
+            JdbcTemplate jdbc = new JdbcTemplate(new DriverManagerDataSource(
+                    "jdbc:mysql://127.0.0.1:" + hanging.getLocalPort() + "/x?connectTimeout=200&socketTimeout=200", "u", "p"));
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        jdbc.queryForObject("SELECT 1", Integer.class);
+                        return false;
+                    } catch (RuntimeException expected) {
+                        return true;
+                    }
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get(), "the hanging server must make every query time out");
+            }
+            List<String> pinnings = recorder.stop();
+            for (Socket socket : accepted) {
+                socket.close();
+            }
+            assertEquals(List.of(), pinnings);
+        }
+    }
+
+    /**
+     * Parks while the JVM is initialising the class.
+     */
+    private static final class ParksInClassInitializer {
+        static {
+            LockSupport.parkNanos(20_000_000);
+        }
+
+        static void touch() {
+            // triggers <clinit>
+        }
+    }
+
+    /**
+     * Stands in for MySQL: every batch takes a few milliseconds.
+     */
+    private static final class SlowJdbcTemplate extends JdbcTemplate {
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                       ParameterizedPreparedStatementSetter<T> pss) {
+            LockSupport.parkNanos(3_000_000);
+            return new int[][]{new int[batchArgs.size()]};
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.finflow.backend.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Mirrors the production wiring (transaction manager -> lazy proxy -> routing) with mock pools,
+ * so it runs without a database. The replica-local profile covers the two-schema manual check.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mockDataSource();
+    private final DataSource replica0 = mockDataSource();
+    private final DataSource replica1 = mockDataSource();
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(true, 60_000);
+
+    private ReplicaRoutingDataSource routing;
+    private DataSource dataSource;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica0, replica1), tracker);
+        LazyConnectionDataSourceProxy lazyProxy = new LazyConnectionDataSourceProxy();
+        // Known defaults, otherwise the proxy probes the primary once for them
+        lazyProxy.setDefaultAutoCommit(true);
+        lazyProxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        lazyProxy.setTargetDataSource(routing);
+        lazyProxy.afterPropertiesSet();
+        dataSource = lazyProxy;
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsRoundRobinAcrossReplicas() throws Exception {
+        runStatement(readOnly);
+        runStatement(readOnly);
+        runStatement(readWrite);
+
+        verify(replica0).getConnection();
+        verify(replica1).getConnection();
+        verify(primary).getConnection();
+    }
+
+    @Test
+    void userReadsOwnWritesFromPrimaryAfterCommit() throws Exception {
+        authenticate("alice");
+        runStatement(readWrite);
+        runStatement(readOnly);
+        verify(primary, times(2)).getConnection();
+        verifyNoInteractions(replica0, replica1);
+
+        authenticate("bob");
+        runStatement(readOnly);
+        verify(replica0).getConnection();
+    }
+
+    @Test
+    void explicitSubjectRoutesUnauthenticatedReads() throws Exception {
+        tracker.recordWrite("new-user@example.com");
+
+        try (var ignored = tracker.withSubject("new-user@example.com")) {
+            runStatement(readOnly);
+        }
+        runStatement(readOnly);
+
+        verify(primary).getConnection();
+        verify(replica0).getConnection();
+    }
+
+    @Test
+    void failingReplicaFallsBackToPrimaryUntilHealthCheckRestoresIt() throws Exception {
+        when(replica0.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        runStatement(readOnly);
+        assertFalse(routing.isUp("replica-0"));
+        verify(primary).getConnection();
+
+        // Only replica-1 is left in rotation
+        runStatement(readOnly);
+        runStatement(readOnly);
+        verify(replica1, times(2)).getConnection();
+
+        reset(replica0);
+        Connection healthy = mock(Connection.class);
+        when(healthy.isValid(anyInt())).thenReturn(true);
+        when(replica0.getConnection()).thenReturn(healthy);
+        new ReplicaHealthChecker(routing, tracker, 1).check();
+        assertTrue(routing.isUp("replica-0"));
+    }
+
+    private void runStatement(TransactionTemplate template) {
+        template.executeWithoutResult(status -> {
+            try {
+                // First statement is what makes the lazy proxy pick a target
+                DataSourceUtils.getConnection(dataSource).createStatement().close();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+
+    private static DataSource mockDataSource() {
+        try {
+            DataSource dataSource = mock(DataSource.class);
+            Connection connection = mock(Connection.class);
+            when(connection.createStatement()).thenReturn(mock(Statement.class));
+            when(dataSource.getConnection()).thenReturn(connection);
+            return dataSource;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
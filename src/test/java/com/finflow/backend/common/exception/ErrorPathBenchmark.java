@@ -0,0 +1,110 @@
+package com.finflow.backend.common.exception;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error-path throughput: throw at a realistic stack depth (Tomcat + security filters + MVC + proxies), catch,
+ * render the problem body. {@code stackfulProblemDetail} is the previous path (full trace, fresh ProblemDetail
+ * and URI, Jackson); {@code stacklessTemplate} is AppException + {@link ProblemTemplate};
+ * {@code globalExceptionHandler} is the full handler method (its warn log line switched off).
+ * <p>
+ * Run: {@code mvn -Pbenchmark -DskipTests test -Djmh.include=ErrorPathBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    // Frames between the controller advice and the use case throwing, as seen in a login request
+    @Param({"120"})
+    public int depth;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ErrorCode errorCode = CommonErrorCode.UNAUTHENTICATED;
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class)).setLevel(Level.OFF);
+    }
+
+    @Benchmark
+    public byte[] stackfulProblemDetail() throws Exception {
+        try {
+            descend(depth, () -> {
+                throw new StackfulException(errorCode);
+            });
+            return null;
+        } catch (StackfulException e) {
+            ProblemDetail pd = ProblemDetail.forStatusAndDetail(errorCode.getStatusCode(), e.getMessage());
+            pd.setTitle(errorCode.getMessage());
+            pd.setType(URI.create("/api/error/" + errorCode.getCode()));
+            pd.setProperty("code", errorCode.getCode());
+            pd.setProperty("instance", "/api/auth/login");
+            return objectMapper.writeValueAsBytes(pd);
+        }
+    }
+
+    @Benchmark
+    public byte[] stacklessTemplate() {
+        try {
+            descend(depth, () -> {
+                throw new AppException(errorCode);
+            });
+            return null;
+        } catch (AppException e) {
+            return ProblemTemplate.of(e.getErrorCode()).body(e.getMessage(), "/api/auth/login");
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> globalExceptionHandler() {
+        try {
+            descend(depth, () -> {
+                throw new AppException(errorCode);
+            });
+            return null;
+        } catch (AppException e) {
+            return handler.handlingAppException(e, request);
+        }
+    }
+
+    private static void descend(int remaining, Runnable thrower) {
+        if (remaining == 0) {
+            thrower.run();
+            return;
+        }
+        descend(remaining - 1, thrower);
+    }
+
+    // What AppException used to be: a plain RuntimeException capturing its trace
+    private static final class StackfulException extends RuntimeException {
+        StackfulException(ErrorCode errorCode) {
+            super(errorCode.getMessage());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.finflow.backend.common.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProblemTemplateTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void rendersTheSameFieldsAsTheProblemDetailResponse() throws Exception {
+        ResponseEntity<byte[]> response = ProblemTemplate.of(CommonErrorCode.UNAUTHENTICATED)
+                .response("Invalid username or password", "/api/auth/login");
+
+        assertEquals(401, response.getStatusCode().value());
+        assertEquals(MediaType.APPLICATION_PROBLEM_JSON, response.getHeaders().getContentType());
+        JsonNode body = objectMapper.readTree(response.getBody());
+        assertEquals("/api/error/1006", body.get("type").asText());
+        assertEquals("Unauthenticated", body.get("title").asText());
+        assertEquals(401, body.get("status").asInt());
+        assertEquals(1006, body.get("code").asInt());
+        assertEquals("Invalid username or password", body.get("detail").asText());
+        assertEquals("/api/auth/login", body.get("instance").asText());
+    }
+
+    @Test
+    void escapesDetailAndInstanceAndDefaultsTheDetail() throws Exception {
+        JsonNode escaped = objectMapper.readTree(ProblemTemplate.of(CommonErrorCode.INVALID_KEY)
+                .body("username: \"size\" \\ must be\n3..20", "/api/x\"y"));
+        assertEquals("username: \"size\" \\ must be\n3..20", escaped.get("detail").asText());
+        assertEquals("/api/x\"y", escaped.get("instance").asText());
+
+        JsonNode defaulted = objectMapper.readTree(ProblemTemplate.of(CommonErrorCode.INVALID_KEY).body(null, null));
+        assertEquals("Invalid message key", defaulted.get("detail").asText());
+        assertFalse(defaulted.has("instance"));
+    }
+
+    @Test
+    void businessExceptionsSkipTheStackTraceUnlessWrappingACause() {
+        assertEquals(0, new AppException(CommonErrorCode.INVALID_CURSOR).getStackTrace().length);
+        assertTrue(new AppException(CommonErrorCode.CACHE_CODEC_ERROR, new IllegalStateException()).getStackTrace().length > 0);
+    }
+}
@@ -0,0 +1,64 @@
+package com.finflow.backend.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void generatesVersion7WithRfcVariant() {
+        UUID uuid = UuidV7.generate();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void encodesCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        long millis = UuidV7.timestampMillis(uuid);
+        assertTrue(millis >= before && millis <= after + 1, "timestamp out of range: " + millis);
+    }
+
+    @Test
+    void isStrictlyMonotonicWithinTheSameMillisecond() {
+        List<byte[]> ids = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            ids.add(UuidV7.toBytes(UuidV7.generate()));
+        }
+
+        // BINARY(16) columns compare bytes unsigned, which is what InnoDB orders by
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(Arrays.compareUnsigned(ids.get(i - 1), ids.get(i)) < 0, "not ordered at index " + i);
+        }
+    }
+
+    @Test
+    void roundTripsThroughBinary() {
+        UUID uuid = UuidV7.generate();
+
+        byte[] bytes = UuidV7.toBytes(uuid);
+
+        assertEquals(16, bytes.length);
+        assertEquals(uuid, UuidV7.fromBytes(bytes));
+    }
+
+    @Test
+    void parseOrNullRejectsMalformedIds() {
+        assertNull(UuidV7.parseOrNull(null));
+        assertNull(UuidV7.parseOrNull("not-a-uuid"));
+        assertNull(UuidV7.parseOrNull("zzzzzzzz-zzzz-zzzz-zzzz-zzzzzzzzzzzz"));
+
+        UUID uuid = UUID.randomUUID();
+        assertEquals(uuid, UuidV7.parseOrNull(uuid.toString()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.finflow.backend.common.json;
+
+import com.finflow.backend.modules.identity.presentation.response.AuthResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypedJsonHttpMessageConverterTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().addModule(new BlackbirdModule()).build();
+    private final TypedJsonHttpMessageConverter converter = new TypedJsonHttpMessageConverter(jsonMapper);
+
+    private JsonNode write(Object value, Class<?> declared) throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(value, ResolvableType.forClass(declared), MediaType.APPLICATION_JSON, output, null);
+        return jsonMapper.readTree(output.getBodyAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writesResponseDtosThroughTheSharedTypedWriter() throws Exception {
+        AuthResponse response = AuthResponse.builder().token("t").refreshToken("r").type("Bearer")
+                .expiresIn(3600L).refreshTokenExpiresIn(604800L).username("alice").email("alice@example.com").build();
+        for (int i = 0; i < 2; i++) {
+            JsonNode body = write(response, AuthResponse.class);
+            assertEquals("t", body.get("token").asString());
+            assertEquals(3600, body.get("expiresIn").asInt());
+            assertEquals("alice@example.com", body.get("email").asString());
+        }
+    }
+
+    @Test
+    void nonFinalDeclaredTypesKeepRuntimeTypeSerialization() throws Exception {
+        JsonNode body = write(new Extended("a", "b"), Base.class);
+        assertEquals("a", body.get("base").asString());
+        assertEquals("b", body.get("extra").asString());
+    }
+
+    public static class Base {
+        private final String base;
+
+        Base(String base) {
+            this.base = base;
+        }
+
+        public String getBase() {
+            return base;
+        }
+    }
+
+    public static class Extended extends Base {
+        private final String extra;
+
+        Extended(String base, String extra) {
+            super(base);
+            this.extra = extra;
+        }
+
+        public String getExtra() {
+            return extra;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.finflow.backend.common.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveConcurrencyLimit limit(int initial) {
+        return AdaptiveConcurrencyLimit.builder().initialLimit(initial).minLimit(2).maxLimit(100)
+                .windowMillis(100).minWindowSamples(1).nanoClock(clock::get).build();
+    }
+
+    /**
+     * Fills the limit, then releases every request with the given latency and closes the window.
+     */
+    private void saturatedWindow(AdaptiveConcurrencyLimit limit, long rttMillis, boolean dropped) {
+        int acquired = 0;
+        while (limit.tryAcquire()) {
+            acquired++;
+        }
+        clock.addAndGet(WINDOW_NANOS);
+        for (int i = 0; i < acquired; i++) {
+            limit.release(TimeUnit.MILLISECONDS.toNanos(rttMillis), dropped && i == 0);
+        }
+    }
+
+    @Test
+    void rejectsOnceTheLimitIsInFlight() {
+        AdaptiveConcurrencyLimit limit = limit(3);
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        assertEquals(3, limit.inFlight());
+
+        limit.release(1_000_000, false);
+        assertTrue(limit.tryAcquire());
+    }
+
+    @Test
+    void growsWhileLatencyStaysAtBaseline() {
+        AdaptiveConcurrencyLimit limit = limit(10);
+        for (int i = 0; i < 20; i++) {
+            saturatedWindow(limit, 10, false);
+        }
+        assertTrue(limit.limit() > 20, "limit " + limit.limit());
+    }
+
+    @Test
+    void shrinksWhenLatencyRisesAboveTolerance() {
+        AdaptiveConcurrencyLimit limit = limit(50);
+        for (int i = 0; i < 5; i++) {
+            saturatedWindow(limit, 10, false);
+        }
+        int beforeQueueing = limit.limit();
+        for (int i = 0; i < 10; i++) {
+            saturatedWindow(limit, 100, false);
+        }
+        assertTrue(limit.limit() < beforeQueueing, beforeQueueing + " -> " + limit.limit());
+    }
+
+    @Test
+    void backsOffMultiplicativelyOnDrops() {
+        AdaptiveConcurrencyLimit limit = limit(50);
+        saturatedWindow(limit, 10, true);
+        assertEquals(45, limit.limit());
+        for (int i = 0; i < 100; i++) {
+            saturatedWindow(limit, 10, true);
+        }
+        assertEquals(2, limit.limit());
+    }
+
+    @Test
+    void doesNotGrowWhenTrafficNeverUsesTheLimit() {
+        AdaptiveConcurrencyLimit limit = limit(40);
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire();
+            clock.addAndGet(WINDOW_NANOS);
+            limit.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+        }
+        assertEquals(40, limit.limit());
+    }
+}
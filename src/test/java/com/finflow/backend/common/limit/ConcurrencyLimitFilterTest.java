@@ -0,0 +1,76 @@
+package com.finflow.backend.common.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimit authLimit =
+            AdaptiveConcurrencyLimit.builder().initialLimit(1).minLimit(1).maxLimit(1).build();
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(List.of(
+            new ConcurrencyLimitFilter.RouteGroup("auth", PathPatternParser.defaultInstance.parse("/api/auth/**"), authLimit)),
+            registry);
+
+    @Test
+    void shedsRequestsOverTheGroupLimitWith503() throws Exception {
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), new MockHttpServletResponse(),
+                        (req, res) -> {
+                            inside.countDown();
+                            await(finish);
+                        });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+        FilterChain neverCalled = (req, res) -> fail("request over the limit reached the chain");
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), shed, neverCalled);
+        assertEquals(503, shed.getStatus());
+        assertEquals("1", shed.getHeader("Retry-After"));
+        assertTrue(shed.getContentAsString().contains("\"code\":1012"));
+        assertEquals(1.0, registry.get("http.concurrency.rejected").tag("group", "auth").counter().count());
+        assertEquals(1.0, registry.get("http.concurrency.inflight").tag("group", "auth").gauge().value());
+
+        // Other route groups are not affected
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users/my-profile"), other, (req, res) -> { });
+        assertEquals(200, other.getStatus());
+
+        finish.countDown();
+        holder.join();
+        assertEquals(0, authLimit.inFlight());
+    }
+
+    @Test
+    void releasesTheSlotWhenTheChainThrows() {
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(
+                new MockHttpServletRequest("POST", "/api/auth/login"), new MockHttpServletResponse(),
+                (req, res) -> { throw new IllegalStateException("boom"); }));
+        assertEquals(0, authLimit.inFlight());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
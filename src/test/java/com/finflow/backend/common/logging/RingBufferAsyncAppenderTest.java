@@ -0,0 +1,122 @@
+package com.finflow.backend.common.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferAsyncAppenderTest {
+
+    @Test
+    void fullBufferDropsInfoButWritesWarnInlineAndStopDrainsTheRest() throws Exception {
+        LoggerContext context = newContext();
+        BlockingAppender downstream = new BlockingAppender();
+        downstream.setContext(context);
+        downstream.start();
+
+        RingBufferAsyncAppender async = new RingBufferAsyncAppender();
+        async.setContext(context);
+        async.setName("ASYNC");
+        async.setBufferCapacity(2);
+        async.setIdleWaitMillis(1);
+        async.addAppender(downstream);
+        async.start();
+        Logger logger = logger(context, async);
+        long droppedBefore = LogPipelineStats.droppedCount();
+        long inlineBefore = LogPipelineStats.inlineCount();
+
+        logger.info("first");
+        assertTrue(downstream.entered.await(5, TimeUnit.SECONDS), "worker is writing 'first'");
+        logger.info("second");
+        logger.info("third");
+        logger.info("dropped");       // buffer (2) full, INFO: dropped
+        logger.warn("warn-inline");   // buffer full, WARN: written on this thread
+        downstream.release.countDown();
+        async.stop();
+
+        assertEquals(List.of("first", "warn-inline", "second", "third"), downstream.messages);
+        assertEquals(1, async.getDroppedCount());
+        assertEquals(1, LogPipelineStats.droppedCount() - droppedBefore);
+        assertEquals(1, LogPipelineStats.inlineCount() - inlineBefore);
+    }
+
+    @Test
+    void samplingFilterSuppressesOnlyInfoOfMatchingLoggers() {
+        LoggerContext context = newContext();
+        SamplingTurboFilter sampling = new SamplingTurboFilter();
+        sampling.setContext(context);
+        sampling.setRates("com.finflow.usecase=0, com.finflow.usecase.Login=1, broken");
+        sampling.start();
+        context.addTurboFilter(sampling);
+        BlockingAppender sink = new BlockingAppender();
+        sink.release.countDown();
+        sink.setContext(context);
+        sink.start();
+        long sampledBefore = LogPipelineStats.sampledOutCount();
+
+        logger(context, sink, "com.finflow.usecase.Register").info("register ok");
+        logger(context, sink, "com.finflow.usecase.Register").warn("register warn");
+        logger(context, sink, "com.finflow.usecase.Register").info("register failed", new IllegalStateException());
+        logger(context, sink, "com.finflow.usecase.Login").info("login ok");
+        logger(context, sink, "com.finflow.usecases.Other").info("other ok");
+
+        assertEquals(List.of("register warn", "register failed", "login ok", "other ok"), sink.messages);
+        assertEquals(1, LogPipelineStats.sampledOutCount() - sampledBefore);
+        assertTrue(context.getLogger("com.finflow.usecase.Register").isInfoEnabled(), "guards are not sampled");
+        assertEquals(1, context.getTurboFilterList().stream().filter(TurboFilter::isStarted).count());
+    }
+
+    private static LoggerContext newContext() {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter()); // prepareForDeferredProcessing copies the MDC
+        return context;
+    }
+
+    private static Logger logger(LoggerContext context, Appender<ILoggingEvent> appender) {
+        return logger(context, appender, "test");
+    }
+
+    private static Logger logger(LoggerContext context, Appender<ILoggingEvent> appender, String name) {
+        Logger logger = context.getLogger(name);
+        logger.setAdditive(false);
+        if (!logger.isAttached(appender)) {
+            logger.addAppender(appender);
+        }
+        return logger;
+    }
+
+    /**
+     * Records messages; the first append waits for {@link #release}, so the async worker can be held mid-write.
+     * Unsynchronized, so the inline WARN is not stuck behind the held worker.
+     */
+    private static final class BlockingAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+        final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            messages.add(event.getFormattedMessage());
+            if (entered.getCount() > 0) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
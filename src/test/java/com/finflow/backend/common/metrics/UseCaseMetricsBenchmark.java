@@ -0,0 +1,73 @@
+package com.finflow.backend.common.metrics;
+
+import com.finflow.backend.modules.identity.application.usecase.ListSessionsUseCase;
+import com.finflow.backend.modules.identity.infrastructure.session.ActiveSession;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
+import com.finflow.backend.modules.identity.presentation.response.SessionResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the use case timer: the same (near-empty) use case called directly and through the
+ * {@link UseCaseMetricsPostProcessor} proxy, recording into a Prometheus registry with percentiles + SLO buckets
+ * as in production.
+ * <p>
+ * Run: {@code mvn -Pbenchmark -DskipTests test -Djmh.include=UseCaseMetricsBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UseCaseMetricsBenchmark {
+
+    private ListSessionsUseCase plain;
+    private ListSessionsUseCase instrumented;
+
+    @Setup
+    public void setUp() {
+        SessionRegistry sessions = new SessionRegistry(null, 20) {
+            @Override
+            public List<ActiveSession> list(String username) {
+                return List.of();
+            }
+        };
+        plain = new ListSessionsUseCase(sessions);
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+        UseCaseMetricsPostProcessor postProcessor = new UseCaseMetricsPostProcessor(
+                beanFactory.getBeanProvider(MeterRegistry.class),
+                new double[]{0.5, 0.95, 0.99}, new long[]{50, 100, 250, 500, 1000});
+        postProcessor.setBeanFactory(beanFactory);
+        postProcessor.setBeanClassLoader(getClass().getClassLoader());
+        instrumented = (ListSessionsUseCase) postProcessor.postProcessAfterInitialization(
+                new ListSessionsUseCase(sessions), "listSessionsUseCase");
+    }
+
+    @Benchmark
+    public List<SessionResponse> plain() {
+        return plain.execute("alice", "s1");
+    }
+
+    @Benchmark
+    public List<SessionResponse> instrumented() {
+        return instrumented.execute("alice", "s1");
+    }
+}
@@ -0,0 +1,73 @@
+package com.finflow.backend.common.metrics;
+
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.modules.identity.application.usecase.RevokeSessionUseCase;
+import com.finflow.backend.modules.identity.infrastructure.metrics.IdentityMetrics;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UseCaseMetricsPostProcessorTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final SessionRegistry sessionRegistry = mock(SessionRegistry.class);
+    private final UseCaseMetricsPostProcessor postProcessor = postProcessor();
+
+    @Test
+    void timesEachOutcomeWithTheErrorCodeAsTag() {
+        RevokeSessionUseCase useCase = instrumented(new RevokeSessionUseCase(sessionRegistry, new IdentityMetrics(registry)));
+        when(sessionRegistry.revoke("alice", "s1")).thenReturn(true);
+        when(sessionRegistry.revoke("alice", "gone")).thenReturn(false);
+        when(sessionRegistry.revoke("alice", "boom")).thenThrow(new IllegalStateException("redis"));
+
+        useCase.execute("alice", "s1");
+        assertThrows(AppException.class, () -> useCase.execute("alice", "gone"));
+        assertThrows(AppException.class, () -> useCase.execute("alice", "gone"));
+        assertThrows(IllegalStateException.class, () -> useCase.execute("alice", "boom"));
+
+        assertEquals(1, timer("success", "none").count());
+        assertEquals(2, timer("client_error", "SESSION_NOT_FOUND").count());
+        assertEquals(1, timer("server_error", "IllegalStateException").count());
+        assertEquals(1.0, registry.get("identity.tokens.revoked").tag("reason", "session_revoked").counter().count());
+    }
+
+    @Test
+    void onlyUseCasesAreProxied() {
+        Object plain = new Object();
+        assertSame(plain, postProcessor.postProcessAfterInitialization(plain, "plain"));
+        assertTrue(AopUtils.isAopProxy(postProcessor.postProcessAfterInitialization(
+                new RevokeSessionUseCase(sessionRegistry, new IdentityMetrics(registry)), "revokeSessionUseCase")));
+        assertEquals("identity", UseCaseMetricsPostProcessor.moduleOf(RevokeSessionUseCase.class));
+    }
+
+    private Timer timer(String outcome, String code) {
+        return registry.get(UseCaseMetricsPostProcessor.METRIC)
+                .tag("module", "identity")
+                .tag("usecase", "RevokeSessionUseCase")
+                .tag("outcome", outcome)
+                .tag("code", code)
+                .timer();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T instrumented(T useCase) {
+        return (T) postProcessor.postProcessAfterInitialization(useCase, "useCase");
+    }
+
+    private UseCaseMetricsPostProcessor postProcessor() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", registry);
+        UseCaseMetricsPostProcessor processor = new UseCaseMetricsPostProcessor(
+                beanFactory.getBeanProvider(MeterRegistry.class), new double[]{0.5, 0.95, 0.99}, new long[]{50, 100});
+        processor.setBeanFactory(beanFactory);
+        processor.setBeanClassLoader(getClass().getClassLoader());
+        return processor;
+    }
+}
@@ -0,0 +1,61 @@
+package com.finflow.backend.common.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Lifecycle without a reachable Redis: start() must not wait for the tracking connection.
+ */
+class RedisNearCacheStartupTest {
+
+    private LettuceConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void createFactory() {
+        // Nothing listens on port 1
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", 1));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void destroyFactory() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void startReturnsImmediatelyAndBypassesTheCacheUntilTrackingIsOn() {
+        RedisNearCache nearCache = new RedisNearCache(true, List.of("nc:"), 10, 60_000, connectionFactory,
+                new SimpleMeterRegistry(), Clock.systemUTC());
+
+        assertTimeoutPreemptively(Duration.ofMillis(500), nearCache::start);
+        assertTrue(nearCache.isRunning());
+        assertFalse(nearCache.isTracking());
+        assertArrayEquals("v".getBytes(), nearCache.get("nc:key", () -> "v".getBytes()));
+        assertEquals(0, nearCache.size());
+
+        nearCache.stop();
+        assertFalse(nearCache.isRunning());
+    }
+
+    @Test
+    void blankPrefixesDisableTheCache() {
+        RedisNearCache nearCache = new RedisNearCache(true, List.of(" ", ""), 10, 60_000, connectionFactory,
+                new SimpleMeterRegistry(), Clock.systemUTC());
+
+        assertFalse(nearCache.isEnabled());
+        nearCache.start();
+        assertTrue(nearCache.isRunning());
+        assertFalse(nearCache.isTracking());
+        nearCache.stop();
+    }
+}
@@ -0,0 +1,100 @@
+package com.finflow.backend.common.redis;
+
+import com.finflow.backend.common.config.JacksonConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Server-assisted invalidation against a real Redis (RESP3 push messages need Redis 6+).
+ * Skipped when Docker is not available.
+ */
+class RedisNearCacheTest extends RedisContainerTest {
+
+    private RedisNearCache nearCache;
+    private RedisService redisService;
+
+    @BeforeEach
+    void startNearCache() throws InterruptedException {
+        nearCache = new RedisNearCache(true, List.of("nc:"), 3, 60_000, connectionFactory,
+                new SimpleMeterRegistry(), Clock.systemUTC());
+        nearCache.start();
+        await(nearCache::isTracking);
+        redisService = new RedisService(template,
+                new RedisCodecRegistry(new JacksonConfig().objectMapper(), List.of()), nearCache);
+    }
+
+    @AfterEach
+    void stopNearCache() {
+        nearCache.stop();
+    }
+
+    @Test
+    void servesRepeatedReadsLocallyUntilRedisReportsAChange() throws Exception {
+        template.opsForValue().set("nc:profile", "\"v1\"");
+
+        assertEquals("v1", redisService.get("nc:profile", String.class));
+        assertEquals("v1", redisService.get("nc:profile", String.class));
+        assertEquals(1, nearCache.hitCount());
+
+        // Written by "another instance": only the push message can tell us
+        template.opsForValue().set("nc:profile", "\"v2\"");
+        await(() -> nearCache.invalidationCount() >= 1);
+        assertEquals("v2", redisService.get("nc:profile", String.class));
+    }
+
+    @Test
+    void ownWritesInvalidateImmediately() {
+        redisService.set("nc:otp", "a", 1, TimeUnit.MINUTES);
+        assertEquals("a", redisService.get("nc:otp", String.class));
+
+        redisService.set("nc:otp", "b", 1, TimeUnit.MINUTES);
+        assertEquals("b", redisService.get("nc:otp", String.class));
+        redisService.delete("nc:otp");
+        assertNull(redisService.get("nc:otp", String.class));
+    }
+
+    @Test
+    void readRacingAWriteIsNotCached() {
+        template.opsForValue().set("nc:race", "\"old\"");
+
+        byte[] stale = nearCache.get("nc:race", () -> {
+            byte[] read = "\"old\"".getBytes();
+            // The write lands (and its invalidation may arrive) while this read is in flight
+            redisService.set("nc:race", "new", 1, TimeUnit.MINUTES);
+            return read;
+        });
+
+        assertEquals("\"old\"", new String(stale));
+        assertEquals("new", redisService.get("nc:race", String.class));
+    }
+
+    @Test
+    void onlyOptedInPrefixesAreCachedAndSizeIsBounded() {
+        template.opsForValue().set("other:key", "\"x\"");
+        redisService.get("other:key", String.class);
+        assertEquals(0, nearCache.size());
+
+        for (int i = 0; i < 10; i++) {
+            template.opsForValue().set("nc:" + i, "\"" + i + "\"");
+            redisService.get("nc:" + i, String.class);
+        }
+        assertTrue(nearCache.size() <= 3);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.sleep(10);
+        }
+    }
+}
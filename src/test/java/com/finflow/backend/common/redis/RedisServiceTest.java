@@ -0,0 +1,97 @@
+package com.finflow.backend.common.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finflow.backend.common.config.JacksonConfig;
+import com.finflow.backend.modules.identity.application.usecase.SendOtpUseCase.OtpData;
+import com.finflow.backend.modules.identity.domain.enums.OtpPurpose;
+import com.finflow.backend.modules.identity.infrastructure.cache.OtpDataCodec;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Batch/pipeline/hash behaviour against a real Redis, plus the stored size of JSON vs binary values.
+ * Skipped when Docker is not available.
+ */
+class RedisServiceTest extends RedisContainerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new JacksonConfig().objectMapper();
+
+    private static RedisService jsonService;
+    private static RedisService binaryService;
+
+    @BeforeAll
+    static void createServices() {
+        jsonService = new RedisService(template, new RedisCodecRegistry(OBJECT_MAPPER, List.of()));
+        binaryService = new RedisService(template,
+                new RedisCodecRegistry(OBJECT_MAPPER, List.of(new OtpDataCodec(OBJECT_MAPPER))));
+    }
+
+    @Test
+    void jsonValuesStayReadableAsPlainStrings() {
+        jsonService.set("otp:a", otp(1), 1, TimeUnit.MINUTES);
+
+        assertTrue(template.opsForValue().get("otp:a").startsWith("{"));
+        assertEquals(otp(1), binaryService.get("otp:a", OtpData.class), "binary codec reads legacy JSON");
+    }
+
+    @Test
+    void multiSetAndMultiGetKeepKeyOrder() {
+        Map<String, OtpData> values = new LinkedHashMap<>();
+        values.put("otp:1", otp(1));
+        values.put("otp:2", otp(2));
+        binaryService.multiSet(values, 1, TimeUnit.MINUTES);
+
+        assertEquals(Arrays.asList(otp(2), null, otp(1)),
+                binaryService.multiGet(List.of("otp:2", "otp:missing", "otp:1"), OtpData.class));
+        assertTrue(template.getExpire("otp:1") > 0);
+    }
+
+    @Test
+    void pipelineReturnsDecodedResultsInOrder() {
+        List<Object> results = binaryService.pipeline(batch -> batch
+                .set("otp:p", otp(3), 1, TimeUnit.MINUTES)
+                .get("otp:p", OtpData.class)
+                .exists("otp:none")
+                .hSet("h", "f", 7)
+                .hGet("h", "f", Integer.class)
+                .delete("otp:p"));
+
+        assertEquals(List.of(true, otp(3), false, true, 7, 1L), results);
+    }
+
+    @Test
+    void hashFieldOperations() {
+        binaryService.hSetAll("otp:hash", Map.of("a", otp(1), "b", otp(2)));
+        binaryService.hSet("otp:hash", "c", otp(3));
+
+        assertEquals(otp(2), binaryService.hGet("otp:hash", "b", OtpData.class));
+        assertEquals(Arrays.asList(otp(3), null), binaryService.hMultiGet("otp:hash", List.of("c", "x"), OtpData.class));
+        assertEquals(3, binaryService.hGetAll("otp:hash", OtpData.class).size());
+        assertEquals(2, binaryService.hDelete("otp:hash", "a", "b"));
+        assertEquals(5, binaryService.hIncrBy("counters", "logins", 5));
+    }
+
+    @Test
+    void binaryValuesAreStoredSmallerThanJson() {
+        jsonService.set("otp:json", otp(1), 1, TimeUnit.MINUTES);
+        binaryService.set("otp:binary", otp(1), 1, TimeUnit.MINUTES);
+
+        long jsonBytes = connectionFactory.getConnection().stringCommands().strLen("otp:json".getBytes());
+        long binaryBytes = connectionFactory.getConnection().stringCommands().strLen("otp:binary".getBytes());
+        assertTrue(binaryBytes * 2 < jsonBytes, () -> "binary " + binaryBytes + " B vs json " + jsonBytes + " B");
+    }
+
+    private static OtpData otp(int i) {
+        return new OtpData("%06d".formatted(i % 1_000_000), LocalDateTime.of(2026, 3, 1, 10, 0).plusSeconds(i),
+                OtpPurpose.REGISTER);
+    }
+}
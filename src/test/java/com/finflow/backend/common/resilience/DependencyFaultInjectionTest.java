@@ -0,0 +1,189 @@
+package com.finflow.backend.common.resilience;
+
+import com.finflow.backend.common.config.JacksonConfig;
+import com.finflow.backend.common.redis.RedisCodecRegistry;
+import com.finflow.backend.common.redis.RedisNearCache;
+import com.finflow.backend.common.redis.RedisService;
+import com.finflow.backend.modules.notification.infrastructure.mail.EmailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.stereotype.Repository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Each dependency is pointed at a socket that accepts connections and never answers (a hung server).
+ * Every call must come back within its timeout budget, and once the circuit opens, immediately.
+ * Google (no socket-level timeout in its client) is covered by GoogleTokenVerifierTest.
+ */
+class DependencyFaultInjectionTest {
+
+    static final long FAIL_FAST_MILLIS = 50;
+
+    private HangingServer server;
+    private DependencyGuards guards;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new HangingServer();
+        MockEnvironment environment = new MockEnvironment();
+        for (String dependency : List.of("redis", "mysql", "mail", "google")) {
+            environment.setProperty("app.resilience." + dependency + ".minimum-calls", "3");
+            environment.setProperty("app.resilience." + dependency + ".open-duration-ms", "60000");
+            environment.setProperty("app.resilience." + dependency + ".timeout-ms", "300");
+        }
+        guards = new DependencyGuards(environment, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void hungRedisIsBoundedByCommandTimeoutThenShortCircuited() {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("127.0.0.1", server.port()),
+                LettuceClientConfiguration.builder().commandTimeout(Duration.ofMillis(300)).build());
+        factory.afterPropertiesSet();
+        try {
+            RedisTemplate<String, String> template = new RedisTemplate<>();
+            template.setConnectionFactory(factory);
+            template.setKeySerializer(new StringRedisSerializer());
+            template.setValueSerializer(new StringRedisSerializer());
+            template.afterPropertiesSet();
+            RedisService redisService = new RedisService(template,
+                    new RedisCodecRegistry(new JacksonConfig().objectMapper(), List.of()), RedisNearCache.disabled(), guards);
+
+            assertBoundedThenFailFast(guards, DependencyGuards.REDIS, 2_000, () -> redisService.get("otp:a", String.class));
+        } finally {
+            factory.destroy();
+        }
+    }
+
+    @Test
+    void hungMysqlIsBoundedByJdbcTimeoutsThenShortCircuited() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:mysql://127.0.0.1:" + server.port() + "/finflow?connectTimeout=300&socketTimeout=300", "u", "p");
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("guards", guards);
+        RepositoryGuardPostProcessor postProcessor = new RepositoryGuardPostProcessor(beanFactory.getBeanProvider(DependencyGuards.class));
+        postProcessor.setBeanFactory(beanFactory);
+        PingRepository repository = (PingRepository) postProcessor.postProcessAfterInitialization(
+                new PingRepository(new JdbcTemplate(dataSource)), "pingRepository");
+
+        assertBoundedThenFailFast(guards, DependencyGuards.MYSQL, 2_000, repository::ping);
+    }
+
+    @Test
+    void hungSmtpIsBoundedBySocketTimeoutsAndMailIsDroppedWhenOpen() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(server.port());
+        Properties properties = new Properties();
+        properties.put("mail.smtp.connectiontimeout", "300");
+        properties.put("mail.smtp.timeout", "300");
+        properties.put("mail.smtp.writetimeout", "300");
+        mailSender.setJavaMailProperties(properties);
+        EmailService emailService = new EmailService(mailSender, guards);
+        ReflectionTestUtils.setField(emailService, "fromEmail", "noreply@example.com");
+
+        // Async in production; called directly here. It never throws, it must just return in time.
+        for (int i = 0; i < 3; i++) {
+            assertTimeoutMillis(2_000, () -> emailService.sendSimpleMessage("a@example.com", "s", "t"));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, guards.get(DependencyGuards.MAIL, null).state());
+        assertTimeoutMillis(FAIL_FAST_MILLIS, () -> emailService.sendSimpleMessage("a@example.com", "s", "t"));
+    }
+
+    static void assertBoundedThenFailFast(DependencyGuards guards, String dependency, long budgetMillis,
+                                          Executable call) {
+        for (int i = 0; i < 3; i++) {
+            assertTimeoutMillis(budgetMillis, () -> assertThrows(DependencyUnavailableException.class, call));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, guards.get(dependency, null).state());
+        assertTimeoutMillis(FAIL_FAST_MILLIS, () -> {
+            DependencyUnavailableException e = assertThrows(DependencyUnavailableException.class, call);
+            assertEquals(DependencyUnavailableException.Reason.CIRCUIT_OPEN, e.getReason());
+        });
+    }
+
+    static void assertTimeoutMillis(long budgetMillis, Executable executable) {
+        long start = System.nanoTime();
+        try {
+            executable.execute();
+        } catch (Throwable e) {
+            fail(e);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsed <= budgetMillis, "took " + elapsed + " ms, budget " + budgetMillis + " ms");
+    }
+
+    @Repository
+    static class PingRepository {
+        private final JdbcTemplate jdbcTemplate;
+
+        PingRepository(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        public Integer ping() {
+            return jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        }
+    }
+
+    /**
+     * Accepts TCP connections and never writes a byte.
+     */
+    private static final class HangingServer implements AutoCloseable {
+        private final ServerSocket socket = new ServerSocket(0);
+        private final List<Socket> accepted = new CopyOnWriteArrayList<>();
+
+        HangingServer() throws IOException {
+            Thread.ofVirtual().start(() -> {
+                while (!socket.isClosed()) {
+                    try {
+                        accepted.add(socket.accept());
+                    } catch (IOException e) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        int port() {
+            return socket.getLocalPort();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+            for (Socket s : accepted) {
+                s.close();
+            }
+        }
+    }
+}
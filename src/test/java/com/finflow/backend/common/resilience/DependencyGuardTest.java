@@ -0,0 +1,77 @@
+package com.finflow.backend.common.resilience;
+
+import com.finflow.backend.common.resilience.DependencyUnavailableException.Reason;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DependencyGuardTest {
+
+    private static DependencyGuard.DependencyGuardBuilder guard() {
+        return DependencyGuard.builder().name("test").maxConcurrent(2).timeoutMillis(100)
+                .windowSize(10).minimumCalls(4).failureRateThreshold(50).openDurationMillis(200)
+                .isFailure(e -> e instanceof IllegalStateException);
+    }
+
+    @Test
+    void opensAfterFailureRateAndRecoversThroughHalfOpenProbe() throws Exception {
+        DependencyGuard guard = guard().build();
+        for (int i = 0; i < 4; i++) {
+            DependencyUnavailableException e = assertThrows(DependencyUnavailableException.class,
+                    () -> guard.call(() -> { throw new IllegalStateException("down"); }));
+            assertEquals(Reason.FAILURE, e.getReason());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, guard.state());
+        assertEquals(Reason.CIRCUIT_OPEN,
+                assertThrows(DependencyUnavailableException.class, () -> guard.call(() -> "x")).getReason());
+
+        Thread.sleep(250);
+        assertEquals("ok", guard.call(() -> "ok"));
+        assertEquals(CircuitBreaker.State.CLOSED, guard.state());
+    }
+
+    @Test
+    void businessErrorsPassThroughAndDoNotOpenTheCircuit() {
+        DependencyGuard guard = guard().build();
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalArgumentException.class, () -> guard.call(() -> { throw new IllegalArgumentException(); }));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, guard.state());
+    }
+
+    @Test
+    void hardTimeoutBoundsLatencyAndHungCallsKeepTheirPermit() throws Exception {
+        DependencyGuard guard = guard().build();
+        CountDownLatch release = new CountDownLatch(1);
+
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            DependencyUnavailableException e = assertThrows(DependencyUnavailableException.class,
+                    () -> guard.callWithTimeout(() -> awaitUninterruptibly(release)));
+            assertEquals(Reason.TIMEOUT, e.getReason());
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000);
+        }
+        // Both permits are held by the hung calls: the next one is shed without waiting
+        assertEquals(Reason.BULKHEAD_FULL,
+                assertThrows(DependencyUnavailableException.class, () -> guard.callWithTimeout(() -> "x")).getReason());
+
+        release.countDown();
+        Thread.sleep(100);
+        assertEquals("x", guard.callWithTimeout(() -> "x"));
+    }
+
+    private static String awaitUninterruptibly(CountDownLatch latch) {
+        // Like a socket read that ignores interrupts
+        while (true) {
+            try {
+                latch.await();
+                return "late";
+            } catch (InterruptedException ignored) {
+                // keep hanging
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.finflow.backend.common.timing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingFilterTest {
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void writesStageDurationsAndCallCountsAsServerTiming() throws Exception {
+        new RequestTimingFilter(true, 60_000).doFilter(request, response, (req, res) -> {
+            RequestTiming.time(TimingStage.DB, () -> RequestTiming.time(TimingStage.DB, () -> "nested counts once"));
+            RequestTiming.time(TimingStage.DB, () -> "user");
+            RequestTiming.time(TimingStage.PASSWORD, () -> true);
+        });
+
+        String header = response.getHeader(RequestTimingFilter.HEADER);
+        assertNotNull(header);
+        assertTrue(header.matches("db;dur=\\d+\\.\\d;desc=\"2\", password;dur=\\d+\\.\\d;desc=\"1\", total;dur=\\d+\\.\\d"),
+                header);
+    }
+
+    @Test
+    void headerIsWrittenWhenTheResponseCommitsEarly() throws Exception {
+        new RequestTimingFilter(true, 60_000).doFilter(request, response, (req, res) -> {
+            RequestTiming.time(TimingStage.REDIS, () -> "cached");
+            res.flushBuffer();
+            RequestTiming.time(TimingStage.DB, () -> "after commit");
+        });
+
+        String header = response.getHeader(RequestTimingFilter.HEADER);
+        assertTrue(header.startsWith("redis;dur="), header);
+        assertFalse(header.contains("db;"), header);
+    }
+
+    @Test
+    void disabledHeaderAndNoRequestAreNoOps() throws Exception {
+        new RequestTimingFilter(false, 60_000).doFilter(request, response,
+                (req, res) -> RequestTiming.time(TimingStage.DB, () -> "user"));
+
+        assertNull(response.getHeader(RequestTimingFilter.HEADER));
+        assertTrue(RequestTiming.begin(TimingStage.DB) < 0);
+        RequestTiming.end(TimingStage.DB, -1L);
+    }
+}
@@ -0,0 +1,128 @@
+package com.finflow.backend.common.versioning;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.condition.RequestCondition;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handler lookup over {@code endpoints} paths, each mapped for versions 1..{@code versions}, with the request asking
+ * for version 2. {@code legacy} is the previous condition (header parsed per candidate, new TreeSet per match,
+ * Integer.parseInt in compareTo); {@code precompiled} is {@link ApiVersionRequestCondition}.
+ * <p>
+ * Run: {@code mvn -Pbenchmark -DskipTests test -Djmh.include=ApiVersionLookupBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiVersionLookupBenchmark {
+
+    @Param({"legacy", "precompiled"})
+    public String routing;
+
+    @Param({"200"})
+    public int endpoints;
+
+    @Param({"3"})
+    public int versions;
+
+    private ApiVersionRequestMappingHandlerMapping mapping;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() throws Exception {
+        StaticWebApplicationContext context = new StaticWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.refresh();
+        mapping = new ApiVersionRequestMappingHandlerMapping();
+        mapping.setApplicationContext(context);
+        mapping.afterPropertiesSet();
+
+        Handler handler = new Handler();
+        Method method = Handler.class.getMethod("handle");
+        for (int i = 0; i < endpoints; i++) {
+            for (int v = 1; v <= versions; v++) {
+                RequestCondition<?> condition = "legacy".equals(routing)
+                        ? new LegacyCondition(Set.of(String.valueOf(v)))
+                        : ApiVersionRequestCondition.of(String.valueOf(v));
+                mapping.registerMapping(RequestMappingInfo.paths("/api/resource" + i + "/{id}")
+                        .methods(RequestMethod.GET)
+                        .customCondition(condition)
+                        .options(mapping.getBuilderConfiguration())
+                        .build(), handler, method);
+            }
+        }
+
+        request = new MockHttpServletRequest("GET", "/api/resource" + endpoints / 2 + "/42");
+        request.addHeader(ApiVersions.HEADER, "2");
+        ServletRequestPathUtils.parseAndCache(request);
+    }
+
+    @Benchmark
+    public HandlerExecutionChain lookup() throws Exception {
+        // A fresh request as far as version negotiation is concerned
+        request.removeAttribute(ApiVersions.ATTRIBUTE);
+        return mapping.getHandler(request);
+    }
+
+    public static class Handler {
+        public String handle() {
+            return "ok";
+        }
+    }
+
+    // The condition as it was before precompilation
+    private static final class LegacyCondition implements RequestCondition<LegacyCondition> {
+
+        private final TreeSet<String> versions;
+
+        LegacyCondition(Set<String> versions) {
+            this.versions = new TreeSet<>(Comparator.comparingInt(Integer::parseInt));
+            this.versions.addAll(versions);
+        }
+
+        @Override
+        public LegacyCondition combine(LegacyCondition other) {
+            return new LegacyCondition(other.versions);
+        }
+
+        @Override
+        public LegacyCondition getMatchingCondition(HttpServletRequest request) {
+            String requested = request.getHeader(ApiVersions.HEADER);
+            if (requested == null || requested.isBlank()) {
+                requested = "1";
+            }
+            return versions.contains(requested) ? new LegacyCondition(Set.of(requested)) : null;
+        }
+
+        @Override
+        public int compareTo(LegacyCondition other, HttpServletRequest request) {
+            return Integer.compare(Integer.parseInt(other.versions.last()), Integer.parseInt(versions.last()));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.finflow.backend.common.versioning;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiVersionRequestConditionTest {
+
+    private static MockHttpServletRequest request(String header, String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/my-profile");
+        if (header != null) {
+            request.addHeader(ApiVersions.HEADER, header);
+        }
+        if (accept != null) {
+            request.addHeader("Accept", accept);
+        }
+        return request;
+    }
+
+    @Test
+    void negotiatesFromHeaderThenAcceptParameterThenDefault() {
+        assertEquals(2, ApiVersions.resolve(request("2", "application/json;v=3")));
+        assertEquals(3, ApiVersions.resolve(request(null, "application/json;v=3")));
+        assertEquals(2, ApiVersions.resolve(request(null, "text/html, application/json; q=0.9; v=\"2\"")));
+        assertEquals(ApiVersions.DEFAULT, ApiVersions.resolve(request(null, "application/json;charset=UTF-8")));
+        assertEquals(ApiVersions.DEFAULT, ApiVersions.resolve(request(null, null)));
+        assertEquals(ApiVersions.INVALID, ApiVersions.resolve(request("two", null)));
+        assertEquals(ApiVersions.INVALID, ApiVersions.resolve(request("64", null)));
+    }
+
+    @Test
+    void resolvesOncePerRequest() {
+        MockHttpServletRequest request = request("2", null);
+        assertEquals(2, ApiVersions.resolve(request));
+        request.removeHeader(ApiVersions.HEADER);
+        request.addHeader(ApiVersions.HEADER, "3");
+        assertEquals(2, ApiVersions.resolve(request));
+        assertSame(Integer.valueOf(2), request.getAttribute(ApiVersions.ATTRIBUTE));
+    }
+
+    @Test
+    void matchesDeclaredVersionsWithSharedInstances() {
+        ApiVersionRequestCondition v1v2 = ApiVersionRequestCondition.of("1", "2");
+        assertSame(v1v2, ApiVersionRequestCondition.of("2", "1"));
+
+        ApiVersionRequestCondition matched = v1v2.getMatchingCondition(request("2", null));
+        assertSame(matched, ApiVersionRequestCondition.of("2").getMatchingCondition(request("2", null)));
+        assertNull(v1v2.getMatchingCondition(request("3", null)));
+        assertNull(v1v2.getMatchingCondition(request("x", null)));
+    }
+
+    @Test
+    void prefersTheHigherVersion() {
+        MockHttpServletRequest request = request(null, null);
+        ApiVersionRequestCondition v1 = ApiVersionRequestCondition.of("1");
+        ApiVersionRequestCondition v1v3 = ApiVersionRequestCondition.of("1", "3");
+        assertTrue(v1v3.compareTo(v1, request) < 0);
+        assertTrue(v1.compareTo(v1v3, request) > 0);
+    }
+
+    @Test
+    void rejectsInvalidDeclarationsAtStartup() {
+        assertThrows(IllegalArgumentException.class, () -> ApiVersionRequestCondition.of("v2"));
+        assertThrows(IllegalArgumentException.class, () -> ApiVersionRequestCondition.of("0"));
+        assertThrows(IllegalArgumentException.class, () -> ApiVersionRequestCondition.of());
+    }
+}
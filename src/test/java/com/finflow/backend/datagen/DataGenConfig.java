@@ -0,0 +1,121 @@
+package com.finflow.backend.datagen;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * Knobs for {@link IdentityDataGenerator}. Defaults approximate production: ~3 years of sign-ups with growth
+ * (recent months denser), almost everyone active and verified, a few admins, Pareto-ish login counts and the
+ * invalidated_tokens backlog a 7-day refresh window plus the nightly purge leaves behind.
+ * Same seed + same counts = byte-identical files, whatever the thread count.
+ *
+ * @param users              rows in users
+ * @param threads            generator threads (chunks are generated in parallel, each into its own files)
+ * @param chunkSize          users per chunk / per LOAD DATA file
+ * @param seed               base seed; chunk i uses a stream derived from (seed, i)
+ * @param now                "today" of the dataset: register_date / last_login lie before it, token expiries around it
+ * @param zone               zone of the DATETIME columns (the app writes LocalDateTime in the JVM zone)
+ * @param registerSpanDays   register_date spread over [now - span, now]
+ * @param growth             sign-up growth over the span: 0 = uniform, 2 = last month ~e^2 times denser than the first
+ * @param activeRatio        is_active = 1
+ * @param verifiedRatio      account_verified = 1
+ * @param biometricRatio     is_biometric_enabled = 1 among active users
+ * @param adminRatio         users with ROLE_ADMIN in addition to ROLE_USER
+ * @param neverLoggedInRatio last_login NULL, login_count 0
+ * @param meanLogins         mean login_count of users who logged in (exponential tail)
+ * @param tokensPerUser      invalidated_tokens rows = users * tokensPerUser
+ * @param expiredTokenRatio  share of tokens already expired but not yet purged (TokenCleanupService runs nightly)
+ * @param passwordHashes     distinct BCrypt hashes of {@code password} cycled over users
+ * @param password           plain password of every generated user, so load tests can log in
+ * @param output             directory for the .tsv files and load.sql
+ */
+public record DataGenConfig(
+        int users,
+        int threads,
+        int chunkSize,
+        long seed,
+        Instant now,
+        ZoneId zone,
+        int registerSpanDays,
+        double growth,
+        double activeRatio,
+        double verifiedRatio,
+        double biometricRatio,
+        double adminRatio,
+        double neverLoggedInRatio,
+        double meanLogins,
+        double tokensPerUser,
+        double expiredTokenRatio,
+        int passwordHashes,
+        String password,
+        Path output) {
+
+    public DataGenConfig {
+        if (users < 0 || threads < 1 || chunkSize < 1 || registerSpanDays < 1 || passwordHashes < 1) {
+            throw new IllegalArgumentException("users >= 0, threads/chunkSize/registerSpanDays/passwordHashes >= 1");
+        }
+    }
+
+    public static DataGenConfig defaults(int users, Path output) {
+        return new DataGenConfig(users, Runtime.getRuntime().availableProcessors(), 100_000, 42L,
+                Instant.now(), ZoneId.systemDefault(), 3 * 365, 1.5,
+                0.97, 0.92, 0.35, 0.001, 0.15, 40, 0.3, 0.1,
+                16, "Synthetic@123", output);
+    }
+
+    /**
+     * Reads every knob from {@code datagen.*} system properties (see the datagen profile in pom.xml).
+     */
+    public static DataGenConfig fromSystemProperties() {
+        DataGenConfig d = defaults(Integer.getInteger("datagen.users", 1_000_000),
+                Path.of(System.getProperty("datagen.output", "target/synthetic-data")));
+        return new DataGenConfig(
+                d.users(),
+                Integer.getInteger("datagen.threads", d.threads()),
+                Integer.getInteger("datagen.chunk-size", d.chunkSize()),
+                Long.getLong("datagen.seed", d.seed()),
+                System.getProperty("datagen.now") != null ? Instant.parse(System.getProperty("datagen.now")) : d.now(),
+                System.getProperty("datagen.zone") != null ? ZoneId.of(System.getProperty("datagen.zone")) : d.zone(),
+                Integer.getInteger("datagen.register-span-days", d.registerSpanDays()),
+                decimal("datagen.growth", d.growth()),
+                decimal("datagen.active-ratio", d.activeRatio()),
+                decimal("datagen.verified-ratio", d.verifiedRatio()),
+                decimal("datagen.biometric-ratio", d.biometricRatio()),
+                decimal("datagen.admin-ratio", d.adminRatio()),
+                decimal("datagen.never-logged-in-ratio", d.neverLoggedInRatio()),
+                decimal("datagen.mean-logins", d.meanLogins()),
+                decimal("datagen.tokens-per-user", d.tokensPerUser()),
+                decimal("datagen.expired-token-ratio", d.expiredTokenRatio()),
+                Integer.getInteger("datagen.password-hashes", d.passwordHashes()),
+                System.getProperty("datagen.password", d.password()),
+                d.output());
+    }
+
+    public DataGenConfig withThreads(int threads) {
+        return new DataGenConfig(users, threads, chunkSize, seed, now, zone, registerSpanDays, growth,
+                activeRatio, verifiedRatio, biometricRatio, adminRatio, neverLoggedInRatio, meanLogins,
+                tokensPerUser, expiredTokenRatio, passwordHashes, password, output);
+    }
+
+    public DataGenConfig withOutput(Path output) {
+        return new DataGenConfig(users, threads, chunkSize, seed, now, zone, registerSpanDays, growth,
+                activeRatio, verifiedRatio, biometricRatio, adminRatio, neverLoggedInRatio, meanLogins,
+                tokensPerUser, expiredTokenRatio, passwordHashes, password, output);
+    }
+
+    public DataGenConfig withChunkSize(int chunkSize) {
+        return new DataGenConfig(users, threads, chunkSize, seed, now, zone, registerSpanDays, growth,
+                activeRatio, verifiedRatio, biometricRatio, adminRatio, neverLoggedInRatio, meanLogins,
+                tokensPerUser, expiredTokenRatio, passwordHashes, password, output);
+    }
+
+    long tokens() {
+        return Math.round(users * tokensPerUser);
+    }
+
+    private static double decimal(String property, double defaultValue) {
+        String value = System.getProperty(property);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+}
@@ -0,0 +1,421 @@
+package com.finflow.backend.datagen;
+
+import com.finflow.backend.modules.identity.infrastructure.configuration.TokenConfig;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Writes synthetic users / user_roles / invalidated_tokens as MySQL LOAD DATA files plus a {@code load.sql} that
+ * loads them, for performance tests and EXPLAIN checks at 10M+ rows without going through the API (BCrypt alone
+ * would take days).
+ * <ul>
+ *     <li>Passwords: {@link DataGenConfig#passwordHashes()} hashes of one known password, computed once and cycled.</li>
+ *     <li>Parallel: users are cut into chunks of {@link DataGenConfig#chunkSize()}; each chunk is generated on its own
+ *     thread from its own seeded stream into its own files, so the output does not depend on the thread count.</li>
+ *     <li>Ids are UUIDv7 stamped with register_date (users) / issue time (tokens), rising across chunks like the
+ *     production ids (see UuidV7), so LOAD DATA in file order appends to the clustered index instead of splitting pages.</li>
+ * </ul>
+ * Run: {@code mvn -Pdatagen -DskipTests test -Ddatagen.users=10000000} (see pom.xml), then either
+ * {@code mysql --local-infile=1 finflow < target/synthetic-data/load.sql} or {@link MySqlBulkLoader} via
+ * {@code -Ddatagen.jdbc-url=...}. The server needs {@code local_infile=ON}.
+ */
+public class IdentityDataGenerator {
+
+    static final String ROLE_USER = "ROLE_USER";
+    static final String ROLE_ADMIN = "ROLE_ADMIN";
+    static final String LOAD_SCRIPT = "load.sql";
+
+    private static final int BCRYPT_STRENGTH = 10; // BCryptPasswordEncoder default, same as SecurityConfig
+    private static final int WRITE_BUFFER = 1 << 20;
+    private static final long DAY_MILLIS = Duration.ofDays(1).toMillis();
+    private static final long REFRESH_MILLIS = Duration.ofSeconds(TokenConfig.REFRESH_TOKEN_EXPIRY_SECONDS).toMillis();
+    private static final HexFormat HEX = HexFormat.of();
+
+    // Họ theo tần suất thực tế (Nguyễn ~38%, Trần ~11%, ...); phần còn lại chia đều cho các họ cuối
+    private static final String[] LAST_NAMES = {"Nguyễn", "Trần", "Lê", "Phạm", "Hoàng", "Huỳnh", "Phan", "Vũ", "Võ",
+            "Đặng", "Bùi", "Đỗ", "Hồ", "Ngô", "Dương", "Lý", "Đinh", "Trịnh", "Mai", "Tô"};
+    private static final double[] LAST_NAME_WEIGHTS = {38, 11, 9.5, 7, 5.1, 5.1, 4.5, 3.9, 3.9, 2.1, 2, 1.4, 1.3, 1.3,
+            1, 0.5, 0.5, 0.5, 0.5, 0.4};
+    private static final String[] MIDDLE_NAMES = {"Văn", "Thị", "Minh", "Quang", "Hữu", "Ngọc", "Thanh", "Đức",
+            "Thu", "Hoài", "Gia", "Bảo", "Khánh", "Anh", "Xuân"};
+    private static final String[] GIVEN_NAMES = {"An", "Bình", "Chi", "Dũng", "Dung", "Giang", "Hà", "Hải", "Hạnh",
+            "Hiếu", "Hoa", "Huy", "Hùng", "Hương", "Khoa", "Lan", "Linh", "Long", "Mai", "Minh", "Nam", "Ngân", "Nhung",
+            "Phong", "Phúc", "Phương", "Quân", "Quỳnh", "Sơn", "Tâm", "Thảo", "Thắng", "Trang", "Trung", "Tú", "Tuấn",
+            "Vân", "Việt", "Vy", "Yến"};
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "yahoo.com", "outlook.com", "icloud.com",
+            "fpt.edu.vn", "hust.edu.vn", "finflow.vn"};
+    private static final double[] EMAIL_DOMAIN_WEIGHTS = {70, 9, 8, 5, 3, 2, 3};
+
+    private static final String[] LAST_NAMES_ASCII = ascii(LAST_NAMES);
+    private static final String[] GIVEN_NAMES_ASCII = ascii(GIVEN_NAMES);
+    private static final double[] LAST_NAME_CDF = cdf(LAST_NAME_WEIGHTS);
+    private static final double[] EMAIL_DOMAIN_CDF = cdf(EMAIL_DOMAIN_WEIGHTS);
+
+    private final DataGenConfig config;
+    private final ZoneOffset offset;
+    private final long nowMillis;
+    private final long registerSpanMillis;
+    private final List<String> passwordHashes;
+
+    public IdentityDataGenerator(DataGenConfig config) {
+        this.config = config;
+        // Một offset cho cả dataset: đủ cho các zone không có DST (Asia/Ho_Chi_Minh, UTC)
+        this.offset = config.zone().getRules().getOffset(config.now());
+        this.nowMillis = config.now().toEpochMilli();
+        this.registerSpanMillis = config.registerSpanDays() * DAY_MILLIS;
+        this.passwordHashes = hashPassword(config);
+    }
+
+    public record Summary(long users, long userRoles, long invalidatedTokens, int chunks, Path script, Duration elapsed) {
+    }
+
+    private record ChunkResult(long users, long userRoles, long invalidatedTokens, boolean hasTokens) {
+    }
+
+    /**
+     * Generates every chunk on {@link DataGenConfig#threads()} threads, then writes {@code load.sql}.
+     */
+    public Summary generate() throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        Files.createDirectories(config.output());
+        int chunks = (int) ((config.users() + (long) config.chunkSize() - 1) / config.chunkSize());
+
+        List<ChunkResult> results = new ArrayList<>(chunks);
+        try (ExecutorService workers = Executors.newFixedThreadPool(config.threads())) {
+            List<Future<ChunkResult>> futures = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int c = chunk;
+                futures.add(workers.submit(() -> writeChunk(c)));
+            }
+            for (Future<ChunkResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IllegalStateException("Chunk generation failed", e.getCause());
+        }
+
+        Path script = writeLoadScript(results);
+        return new Summary(
+                results.stream().mapToLong(ChunkResult::users).sum(),
+                results.stream().mapToLong(ChunkResult::userRoles).sum(),
+                results.stream().mapToLong(ChunkResult::invalidatedTokens).sum(),
+                chunks, script, Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    // ---- One chunk: users [from, to) and their share of the token timeline ----
+
+    private ChunkResult writeChunk(int chunk) throws IOException {
+        long from = (long) chunk * config.chunkSize();
+        long to = Math.min(config.users(), from + config.chunkSize());
+        SplittableRandom random = new SplittableRandom(config.seed() * 0x9E3779B97F4A7C15L + chunk);
+        StringBuilder row = new StringBuilder(512);
+
+        long roles = 0;
+        try (Writer users = writer(usersFile(chunk)); Writer userRoles = writer(userRolesFile(chunk))) {
+            for (long k = from; k < to; k++) {
+                roles += writeUser(k, random, row, users, userRoles);
+            }
+        }
+
+        // Token j of the whole dataset gets slot j of the timeline, so ids rise with j across chunks too
+        long totalTokens = config.tokens();
+        long firstToken = config.users() == 0 ? 0 : totalTokens * from / config.users();
+        long endToken = config.users() == 0 ? 0 : totalTokens * to / config.users();
+        if (endToken > firstToken) {
+            try (Writer tokens = writer(tokensFile(chunk))) {
+                for (long j = firstToken; j < endToken; j++) {
+                    writeToken(j, totalTokens, random, row, tokens);
+                }
+            }
+        }
+        return new ChunkResult(to - from, roles, endToken - firstToken, endToken > firstToken);
+    }
+
+    private int writeUser(long k, SplittableRandom random, StringBuilder row, Writer users, Writer userRoles)
+            throws IOException {
+        long registeredAt = registerMillis(k, random);
+        byte[] id = uuidV7(registeredAt, k, random);
+
+        int last = pick(LAST_NAME_CDF, random);
+        int given = random.nextInt(GIVEN_NAMES.length);
+        String username = LAST_NAMES_ASCII[last] + GIVEN_NAMES_ASCII[given] + "." + Long.toString(k, 36);
+        String email = username + "@" + EMAIL_DOMAINS[pick(EMAIL_DOMAIN_CDF, random)];
+        boolean active = random.nextDouble() < config.activeRatio();
+        boolean verified = random.nextDouble() < config.verifiedRatio();
+        boolean biometric = active && random.nextDouble() < config.biometricRatio();
+
+        row.setLength(0);
+        HEX.formatHex(row, id);
+        tab(row, username);
+        tab(row, email);
+        tab(row, passwordHashes.get((int) (k % passwordHashes.size())));
+        tab(row, MIDDLE_NAMES[random.nextInt(MIDDLE_NAMES.length)] + " " + GIVEN_NAMES[given]);
+        tab(row, LAST_NAMES[last]);
+        row.append('\t');
+        if (random.nextDouble() < 0.1) {
+            row.append("\\N"); // dob là optional khi đăng ký
+        } else {
+            LocalDate registeredOn = LocalDateTime.ofEpochSecond(registeredAt / 1000, 0, offset).toLocalDate();
+            row.append(registeredOn.minusYears(18 + random.nextInt(48)).minusDays(random.nextInt(365)));
+        }
+        row.append('\t').append(active ? '1' : '0');
+        row.append('\t').append(verified ? '1' : '0');
+        row.append('\t').append(biometric ? '1' : '0');
+        row.append('\t');
+        appendDateTime(row, registeredAt);
+
+        if (random.nextDouble() < config.neverLoggedInRatio()) {
+            row.append("\t\\N\t0\t\\N");
+        } else {
+            // Cubed uniform: last logins cluster near "now", long-dormant accounts are the tail
+            double u = random.nextDouble();
+            long lastLogin = nowMillis - (long) ((nowMillis - registeredAt) * u * u * u);
+            long loginCount = 1 + (long) (-config.meanLogins() * Math.log(1 - random.nextDouble()));
+            long lastActive = Math.min(nowMillis, lastLogin + random.nextLong(DAY_MILLIS));
+            row.append('\t');
+            appendDateTime(row, lastLogin);
+            row.append('\t').append(loginCount).append('\t');
+            appendDateTime(row, lastActive);
+        }
+        users.append(row).append('\n');
+
+        String hexId = row.substring(0, 32);
+        userRoles.append(hexId).append('\t').append(ROLE_USER).append('\n');
+        if (random.nextDouble() < config.adminRatio()) {
+            userRoles.append(hexId).append('\t').append(ROLE_ADMIN).append('\n');
+            return 2;
+        }
+        return 1;
+    }
+
+    /**
+     * Rows left after the nightly purge: the first {@code expiredTokenRatio} expired during the last day,
+     * the rest expire over the coming refresh window. jti timestamp = issue time = expiry - refresh TTL.
+     */
+    private void writeToken(long j, long total, SplittableRandom random, StringBuilder row, Writer tokens)
+            throws IOException {
+        long expired = Math.round(total * config.expiredTokenRatio());
+        double slot = j < expired
+                ? (j + random.nextDouble()) / expired
+                : (j - expired + random.nextDouble()) / (total - expired);
+        long expiry = j < expired
+                ? nowMillis - DAY_MILLIS + (long) (DAY_MILLIS * slot)
+                : nowMillis + (long) (REFRESH_MILLIS * slot);
+
+        row.setLength(0);
+        HEX.formatHex(row, uuidV7(expiry - REFRESH_MILLIS, j, random));
+        row.append('\t');
+        appendDateTime(row, expiry);
+        tokens.append(row).append('\n');
+    }
+
+    /**
+     * register_date of user k: inverse CDF of an exponentially growing sign-up rate (growth 0 = uniform),
+     * evaluated at k's slot, so register_date (and the id) is non-decreasing in k.
+     */
+    private long registerMillis(long k, SplittableRandom random) {
+        double f = (k + random.nextDouble()) / config.users();
+        double g = config.growth();
+        double position = g == 0 ? f : Math.log1p(f * Math.expm1(g)) / g;
+        return nowMillis - registerSpanMillis + (long) (registerSpanMillis * position);
+    }
+
+    /**
+     * Same layout as UuidV7.generate(): 48 bit millis, version 7, 12 bit sequence, variant, 62 random bits,
+     * but stamped with the row's own timestamp and drawn from the chunk's seeded stream.
+     */
+    private static byte[] uuidV7(long epochMillis, long sequence, SplittableRandom random) {
+        long msb = (epochMillis << 16) | 0x7000L | (sequence & 0xFFFL);
+        long lsb = 0x8000_0000_0000_0000L | (random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL);
+        byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (msb >>> (56 - 8 * i));
+            bytes[8 + i] = (byte) (lsb >>> (56 - 8 * i));
+        }
+        return bytes;
+    }
+
+    // ---- load.sql ----
+
+    private Path writeLoadScript(List<ChunkResult> results) throws IOException {
+        Path script = config.output().resolve(LOAD_SCRIPT);
+        try (Writer out = writer(script)) {
+            out.append("-- Synthetic identity data (IdentityDataGenerator, seed ").append(String.valueOf(config.seed()))
+                    .append("): password of every user = '").append(config.password()).append("'\n");
+            out.append("-- One statement per line; run with mysql --local-infile=1 or MySqlBulkLoader\n");
+            out.append("SET SESSION foreign_key_checks = 0;\n");
+            out.append("SET SESSION unique_checks = 0;\n");
+            out.append("INSERT IGNORE INTO roles (name, description) VALUES ('").append(ROLE_USER)
+                    .append("', 'Standard User'), ('").append(ROLE_ADMIN).append("', 'Administrator');\n");
+            for (int chunk = 0; chunk < results.size(); chunk++) {
+                out.append(loadData(usersFile(chunk), "users",
+                        "(@id, username, email, password, first_name, last_name, dob, @is_active, @account_verified, "
+                                + "@is_biometric_enabled, register_date, last_login, login_count, last_active_at) "
+                                // BIT columns take the text '1' as the byte 0x31; compare instead
+                                + "SET id = UNHEX(@id), is_active = (@is_active = '1'), "
+                                + "account_verified = (@account_verified = '1'), "
+                                + "is_biometric_enabled = (@is_biometric_enabled = '1')"));
+            }
+            for (int chunk = 0; chunk < results.size(); chunk++) {
+                out.append(loadData(userRolesFile(chunk), "user_roles", "(@user_id, role_name) SET user_id = UNHEX(@user_id)"));
+            }
+            for (int chunk = 0; chunk < results.size(); chunk++) {
+                if (results.get(chunk).hasTokens()) {
+                    out.append(loadData(tokensFile(chunk), "invalidated_tokens", "(@id, expiry_time) SET id = UNHEX(@id)"));
+                }
+            }
+            out.append("SET SESSION unique_checks = 1;\n");
+            out.append("SET SESSION foreign_key_checks = 1;\n");
+            out.append("ANALYZE TABLE users, user_roles, invalidated_tokens;\n");
+        }
+        return script;
+    }
+
+    private static String loadData(Path file, String table, String columns) {
+        return "LOAD DATA LOCAL INFILE '" + file.toAbsolutePath().toString().replace("\\", "/").replace("'", "''")
+                + "' INTO TABLE " + table + " CHARACTER SET utf8mb4 " + columns + ";\n";
+    }
+
+    Path usersFile(int chunk) {
+        return config.output().resolve("users-%05d.tsv".formatted(chunk));
+    }
+
+    Path userRolesFile(int chunk) {
+        return config.output().resolve("user_roles-%05d.tsv".formatted(chunk));
+    }
+
+    Path tokensFile(int chunk) {
+        return config.output().resolve("invalidated_tokens-%05d.tsv".formatted(chunk));
+    }
+
+    List<String> passwordHashes() {
+        return passwordHashes;
+    }
+
+    // ---- helpers ----
+
+    /**
+     * BCrypt with a salt stream seeded from the config seed (SHA1PRNG seeded before first use is deterministic),
+     * so reruns produce identical files.
+     */
+    private static List<String> hashPassword(DataGenConfig config) {
+        SecureRandom salts;
+        try {
+            salts = SecureRandom.getInstance("SHA1PRNG");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        salts.setSeed(config.seed());
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(BCRYPT_STRENGTH, salts);
+        List<String> hashes = new ArrayList<>(config.passwordHashes());
+        for (int i = 0; i < config.passwordHashes(); i++) {
+            hashes.add(encoder.encode(config.password()));
+        }
+        return List.copyOf(hashes);
+    }
+
+    // yyyy-MM-dd HH:mm:ss.SSS without DateTimeFormatter: this runs 3-4 times per row
+    private void appendDateTime(StringBuilder row, long epochMillis) {
+        LocalDateTime t = LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000), 0, offset);
+        row.append(t.getYear()).append('-');
+        pad(row, t.getMonthValue(), 2).append('-');
+        pad(row, t.getDayOfMonth(), 2).append(' ');
+        pad(row, t.getHour(), 2).append(':');
+        pad(row, t.getMinute(), 2).append(':');
+        pad(row, t.getSecond(), 2).append('.');
+        pad(row, (int) Math.floorMod(epochMillis, 1000), 3);
+    }
+
+    private static StringBuilder pad(StringBuilder row, int value, int width) {
+        for (int limit = width == 3 ? 100 : 10; limit > 1 && value < limit; limit /= 10) {
+            row.append('0');
+        }
+        return row.append(value);
+    }
+
+    // Giá trị sinh ra không chứa tab, newline hay backslash nên không cần escape theo LOAD DATA
+    private static void tab(StringBuilder row, String value) {
+        row.append('\t').append(value);
+    }
+
+    private static int pick(double[] cdf, SplittableRandom random) {
+        double u = random.nextDouble();
+        for (int i = 0; i < cdf.length - 1; i++) {
+            if (u < cdf[i]) {
+                return i;
+            }
+        }
+        return cdf.length - 1;
+    }
+
+    private static double[] cdf(double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double[] cdf = new double[weights.length];
+        double running = 0;
+        for (int i = 0; i < weights.length; i++) {
+            running += weights[i];
+            cdf[i] = running / total;
+        }
+        return cdf;
+    }
+
+    private static String[] ascii(String[] names) {
+        String[] folded = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            folded[i] = Normalizer.normalize(names[i], Normalizer.Form.NFD)
+                    .replaceAll("\\p{M}", "")
+                    .replace('đ', 'd').replace('Đ', 'D')
+                    .toLowerCase();
+        }
+        return folded;
+    }
+
+    private static BufferedWriter writer(Path file) throws IOException {
+        return new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), WRITE_BUFFER);
+    }
+
+    public static void main(String[] args) throws Exception {
+        DataGenConfig config = DataGenConfig.fromSystemProperties();
+        System.out.printf("[datagen] %d users on %d threads, chunks of %d -> %s%n",
+                config.users(), config.threads(), config.chunkSize(), config.output().toAbsolutePath());
+        Summary summary = new IdentityDataGenerator(config).generate();
+        System.out.printf("[datagen] %d users, %d user_roles, %d invalidated_tokens in %d chunks, %.1f s%n",
+                summary.users(), summary.userRoles(), summary.invalidatedTokens(), summary.chunks(),
+                summary.elapsed().toMillis() / 1e3);
+        System.out.printf("[datagen] load script: %s (password '%s')%n", summary.script().toAbsolutePath(), config.password());
+
+        String jdbcUrl = System.getProperty("datagen.jdbc-url", "");
+        if (!jdbcUrl.isBlank()) {
+            Duration loaded = new MySqlBulkLoader(jdbcUrl, System.getProperty("datagen.jdbc-user", "root"),
+                    System.getProperty("datagen.jdbc-password", "")).load(summary.script());
+            System.out.printf("[datagen] loaded into %s in %.1f s%n", jdbcUrl, loaded.toMillis() / 1e3);
+        }
+    }
+}
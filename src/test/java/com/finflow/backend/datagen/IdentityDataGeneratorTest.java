@@ -0,0 +1,116 @@
+package com.finflow.backend.datagen;
+
+import com.finflow.backend.common.id.UuidV7;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentityDataGeneratorTest {
+
+    private static final int USERS = 5_000;
+
+    private static DataGenConfig config(Path output, int threads) {
+        return new DataGenConfig(USERS, threads, 1_000, 7L, Instant.parse("2026-01-01T00:00:00Z"), ZoneId.of("UTC"),
+                365, 1.5, 0.97, 0.92, 0.35, 0.01, 0.15, 40, 0.5, 0.1, 2, "Synthetic@123", output);
+    }
+
+    @Test
+    void writesConsistentRowsWithRisingIdsAndWorkingPasswords(@TempDir Path dir) throws Exception {
+        IdentityDataGenerator generator = new IdentityDataGenerator(config(dir, 3));
+        IdentityDataGenerator.Summary summary = generator.generate();
+
+        assertEquals(USERS, summary.users());
+        assertEquals(5, summary.chunks());
+        assertEquals(USERS / 2, summary.invalidatedTokens());
+        assertTrue(summary.userRoles() > USERS && summary.userRoles() < USERS * 1.05, "ROLE_USER + a few admins");
+
+        List<String[]> users = rows(dir, "users-");
+        assertEquals(USERS, users.size());
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        String previousId = "";
+        String previousRegisterDate = "";
+        for (String[] user : users) {
+            assertEquals(14, user.length);
+            assertTrue(user[0].compareTo(previousId) > 0, "ids rise across chunk files");
+            assertTrue(user[10].compareTo(previousRegisterDate) >= 0, "register_date follows the id");
+            assertEquals(7, UUID.fromString(uuid(user[0])).version());
+            assertTrue(usernames.add(user[1]));
+            assertTrue(emails.add(user[2]));
+            assertTrue(user[3].startsWith("$2a$10$"));
+            previousId = user[0];
+            previousRegisterDate = user[10];
+        }
+        assertTrue(users.getFirst()[10].startsWith("2025-01"));
+        assertTrue(users.getLast()[10].startsWith("2025-12"));
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+        assertEquals(2, generator.passwordHashes().size());
+        for (String hash : generator.passwordHashes()) {
+            assertTrue(encoder.matches("Synthetic@123", hash));
+        }
+
+        Set<String> userIds = new HashSet<>();
+        users.forEach(user -> userIds.add(user[0]));
+        for (String[] link : rows(dir, "user_roles-")) {
+            assertTrue(userIds.contains(link[0]));
+        }
+
+        List<String[]> tokens = rows(dir, "invalidated_tokens-");
+        assertEquals(USERS / 2, tokens.size());
+        for (int i = 1; i < tokens.size(); i++) {
+            assertTrue(tokens.get(i)[0].compareTo(tokens.get(i - 1)[0]) > 0, "token ids rise with expiry");
+        }
+        assertTrue(tokens.getFirst()[1].startsWith("2025-12-31"), "first 10% expired during the last day");
+        assertTrue(tokens.getLast()[1].startsWith("2026-01-07"), "the rest expire over the refresh window");
+
+        String script = Files.readString(summary.script());
+        assertTrue(script.contains("users-00004.tsv' INTO TABLE users"));
+        assertTrue(script.contains("SET id = UNHEX(@id)"));
+    }
+
+    @Test
+    void outputDoesNotDependOnTheThreadCount(@TempDir Path dir) throws Exception {
+        new IdentityDataGenerator(config(dir.resolve("one"), 1)).generate();
+        new IdentityDataGenerator(config(dir.resolve("four"), 4)).generate();
+
+        for (String prefix : List.of("users-", "user_roles-", "invalidated_tokens-")) {
+            for (int chunk = 0; chunk < 5; chunk++) {
+                String file = "%s%05d.tsv".formatted(prefix, chunk);
+                assertEquals(-1, Files.mismatch(dir.resolve("one").resolve(file), dir.resolve("four").resolve(file)), file);
+            }
+        }
+    }
+
+    private static List<String[]> rows(Path dir, String prefix) throws IOException {
+        List<Path> files;
+        try (var listing = Files.list(dir)) {
+            files = listing.filter(file -> file.getFileName().toString().startsWith(prefix)).sorted().toList();
+        }
+        List<String[]> rows = new ArrayList<>();
+        for (Path file : files) {
+            for (String line : Files.readAllLines(file)) {
+                rows.add(line.split("\t", -1));
+            }
+        }
+        return rows;
+    }
+
+    private static String uuid(String hex) {
+        return UuidV7.fromBytes(HexFormat.of().parseHex(hex)).toString();
+    }
+}
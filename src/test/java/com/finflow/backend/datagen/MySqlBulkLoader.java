@@ -0,0 +1,44 @@
+package com.finflow.backend.datagen;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Runs a generated {@code load.sql} over one Connector/J connection, statement by statement in file order
+ * (ids rise with the file number, so order matters for the clustered index). LOAD DATA LOCAL needs
+ * {@code allowLoadLocalInfile=true} on the client, added here, and {@code local_infile=ON} on the server.
+ */
+public class MySqlBulkLoader {
+
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+
+    public MySqlBulkLoader(String jdbcUrl, String username, String password) {
+        this.jdbcUrl = jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?") + "allowLoadLocalInfile=true";
+        this.username = username;
+        this.password = password;
+    }
+
+    public Duration load(Path script) throws IOException, SQLException {
+        long started = System.nanoTime();
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
+             Statement statement = connection.createStatement()) {
+            for (String line : Files.readAllLines(script, StandardCharsets.UTF_8)) {
+                String sql = line.strip();
+                if (sql.isEmpty() || sql.startsWith("--")) {
+                    continue;
+                }
+                statement.execute(sql.endsWith(";") ? sql.substring(0, sql.length() - 1) : sql);
+            }
+        }
+        return Duration.ofNanos(System.nanoTime() - started);
+    }
+}
@@ -0,0 +1,50 @@
+package com.finflow.backend.datagen;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Generated files + load.sql against the real migrated schema: every row lands, BIT columns and
+ * FKs come out right. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MySqlBulkLoaderTest {
+
+    @Container
+    static final MySQLContainer MYSQL = new MySQLContainer("mysql:8.4").withCommand("--local-infile=1");
+
+    @Test
+    void loadsGeneratedDataIntoTheMigratedSchema(@TempDir Path dir) throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+
+        DataGenConfig config = new DataGenConfig(20_000, 2, 5_000, 42L, Instant.now(), ZoneId.systemDefault(),
+                365, 1.5, 0.9, 0.9, 0.35, 0.01, 0.15, 40, 0.3, 0.1, 2, "Synthetic@123", dir);
+        IdentityDataGenerator.Summary summary = new IdentityDataGenerator(config).generate();
+        new MySqlBulkLoader(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword()).load(summary.script());
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        assertEquals(summary.users(), jdbc.queryForObject("SELECT COUNT(*) FROM users", Long.class));
+        assertEquals(summary.userRoles(), jdbc.queryForObject("SELECT COUNT(*) FROM user_roles", Long.class));
+        assertEquals(summary.invalidatedTokens(),
+                jdbc.queryForObject("SELECT COUNT(*) FROM invalidated_tokens", Long.class));
+        long active = jdbc.queryForObject("SELECT COUNT(*) FROM users WHERE is_active = 1", Long.class);
+        assertTrue(active > summary.users() * 0.85 && active < summary.users() * 0.95, "is_active ~ 90%");
+        assertEquals(0, jdbc.queryForObject("""
+                SELECT COUNT(*) FROM user_roles ur LEFT JOIN users u ON u.id = ur.user_id WHERE u.id IS NULL""",
+                Long.class));
+    }
+}
@@ -0,0 +1,180 @@
+package com.finflow.backend.loadtest;
+
+import com.finflow.backend.FinFlowBackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Offline end-to-end load test: boots the whole application in this JVM against local stand-ins for every
+ * external dependency, then runs {@code users} concurrent virtual users, each through {@code iterations}
+ * {@link UserJourney}s (closed loop: next request as soon as the previous answered).
+ * <ul>
+ *     <li>MySQL: H2 in MySQL mode, schema from Hibernate + {@code loadtest/schema-h2.sql} (no Flyway, no partitions;
+ *     the startup "[AuthAudit] Partition maintenance failed" error is expected)</li>
+ *     <li>Redis: {@link LocalRedisServer}; SMTP: {@link CapturingSmtpServer}; Google: {@link LocalGoogleIdTokenSigner}</li>
+ * </ul>
+ * Numbers are for comparing builds and settings on the same machine, not for capacity planning: the load generator,
+ * the stand-ins and the app share the CPU, and H2 / the Redis stand-in are not MySQL / Redis.
+ * <p>
+ * Run: {@code mvn -Pload-test -DskipTests test -Dload.users=50 -Dload.iterations=10} (see pom.xml); main args are
+ * application properties ({@code key=value}) overriding the harness defaults, e.g. {@code spring.threads.virtual.enabled=true}.
+ * Histograms: {@code target/load-test/<step>.hgrm}.
+ */
+public class LoadHarness implements AutoCloseable {
+
+    static final String GOOGLE_CLIENT_ID = "finflow-load-test.apps.googleusercontent.com";
+    private static final String DEVTOOLS_RESTART = "spring.devtools.restart.enabled";
+
+    private final LocalRedisServer redis;
+    private final CapturingSmtpServer smtp;
+    private final LocalGoogleIdTokenSigner google;
+    private final ConfigurableApplicationContext app;
+    private final HttpClient http;
+    private final UserJourney journey;
+    private final AtomicLong runs = new AtomicLong();
+
+    private LoadHarness(List<String> appProperties) throws Exception {
+        redis = new LocalRedisServer();
+        smtp = new CapturingSmtpServer();
+        google = new LocalGoogleIdTokenSigner(GOOGLE_CLIENT_ID);
+        app = startApp(commandLine(appProperties));
+
+        String baseUrl = "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port");
+        http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        journey = new UserJourney(http, JsonMapper.builder().build(), baseUrl, smtp, google);
+    }
+
+    public static LoadHarness start(List<String> appProperties) throws Exception {
+        return new LoadHarness(appProperties);
+    }
+
+    /**
+     * {@code users} virtual users, {@code iterations} journeys each; every journey registers a new user.
+     */
+    public LoadReport run(int users, int iterations) throws InterruptedException {
+        long run = runs.incrementAndGet();
+        LoadReport report = new LoadReport();
+        try (ExecutorService virtualUsers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < users; user++) {
+                int n = user;
+                virtualUsers.submit(() -> {
+                    for (int i = 0; i < iterations && !Thread.currentThread().isInterrupted(); i++) {
+                        journey.run(run + "r" + n + "x" + i, report);
+                    }
+                });
+            }
+        }
+        report.finish();
+        return report;
+    }
+
+    public CapturingSmtpServer smtp() {
+        return smtp;
+    }
+
+    @Override
+    public void close() throws Exception {
+        http.close();
+        app.close();
+        google.close();
+        smtp.close();
+        redis.close();
+    }
+
+    private static ConfigurableApplicationContext startApp(String[] args) {
+        // devtools (runtime scope) would restart the app in a new class loader and re-run main. Its restarter is
+        // decided from the System property before the Environment exists, so set it for this run() only.
+        String previous = System.setProperty(DEVTOOLS_RESTART, "false");
+        try {
+            return new SpringApplicationBuilder(FinFlowBackendApplication.class).run(args);
+        } finally {
+            if (previous == null) {
+                System.clearProperty(DEVTOOLS_RESTART);
+            } else {
+                System.setProperty(DEVTOOLS_RESTART, previous);
+            }
+        }
+    }
+
+    private String[] commandLine(List<String> overrides) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put(DEVTOOLS_RESTART, "false");
+        properties.put("management.server.port", "0");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+
+        properties.put("spring.datasource.url", "jdbc:h2:mem:finflow-load-" + System.nanoTime()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+                // Hikari passes the MySQL driver properties from application.properties through
+                + ";IGNORE_UNKNOWN_SETTINGS=TRUE"
+                + ";INIT=RUNSCRIPT FROM 'classpath:loadtest/schema-h2.sql'");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.flyway.enabled", "false");
+
+        properties.put("spring.data.redis.host", "127.0.0.1");
+        properties.put("spring.data.redis.port", String.valueOf(redis.port()));
+        properties.put("app.redis.near-cache.enabled", "false");
+
+        properties.put("spring.mail.host", "127.0.0.1");
+        properties.put("spring.mail.port", String.valueOf(smtp.port()));
+        properties.put("spring.mail.password", "unused");
+        properties.put("spring.mail.properties.mail.smtp.auth", "false");
+        properties.put("spring.mail.properties.mail.smtp.starttls.enable", "false");
+        properties.put("spring.mail.properties.mail.debug", "false");
+
+        properties.put("app.security.google.client-id", GOOGLE_CLIENT_ID);
+        properties.put("app.security.google.certs-url", google.certsUrl());
+
+        for (String override : overrides) {
+            String property = override.startsWith("--") ? override.substring(2) : override;
+            int eq = property.indexOf('=');
+            if (eq > 0) {
+                properties.put(property.substring(0, eq), property.substring(eq + 1));
+            }
+        }
+        List<String> args = new ArrayList<>();
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+        return args.toArray(String[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("load.users", 50);
+        int iterations = Integer.getInteger("load.iterations", 10);
+        int warmupIterations = Integer.getInteger("load.warmup-iterations", 2);
+
+        try (LoadHarness harness = LoadHarness.start(List.of(args))) {
+            if (warmupIterations > 0) {
+                LoadReport warmup = harness.run(users, warmupIterations);
+                System.out.printf("[load] warm-up: %d users x %d journeys in %.1f s, %d failed requests%n",
+                        users, warmupIterations, warmup.elapsedSeconds(), warmup.failed());
+            }
+            System.out.printf("[load] measuring: %d users x %d journeys%n", users, iterations);
+            LoadReport report = harness.run(users, iterations);
+            report.print(System.out);
+            Path histograms = Path.of("target", "load-test");
+            report.writeHistograms(histograms);
+            System.out.printf("[load] histograms: %s%n", histograms.toAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.finflow.backend.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Keeps the harness and its stand-ins working: a couple of users through the full journey, every step must succeed.
+ */
+class LoadHarnessTest {
+
+    @Test
+    void everyJourneyStepSucceedsAgainstTheLocalStandIns() throws Exception {
+        try (LoadHarness harness = LoadHarness.start(List.of())) {
+            LoadReport report = harness.run(2, 2);
+
+            assertEquals(Map.of(), report.failuresByStep());
+            for (String step : List.of(UserJourney.SEND_OTP, UserJourney.OTP_MAIL, UserJourney.VERIFY_OTP,
+                    UserJourney.REGISTER, UserJourney.LOGIN, UserJourney.PROFILE_GET, UserJourney.PROFILE_PUT,
+                    UserJourney.REFRESH, UserJourney.LOGOUT, UserJourney.GOOGLE_LOGIN)) {
+                assertEquals(4, report.succeeded(step), step);
+            }
+            assertEquals(4, harness.smtp().received());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.finflow.backend.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-step latency (HdrHistogram, 1 us .. 1 min, 3 significant digits) and status counts for one measured phase.
+ * Only successful calls go into the histogram; failures are counted per status (-1 = no response).
+ */
+public class LoadReport {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, Step> steps = new ConcurrentSkipListMap<>();
+    private final long startedNanos = System.nanoTime();
+    private volatile long finishedNanos;
+
+    void success(String step, long latencyNanos) {
+        Step stats = step(step);
+        stats.latencies.recordValue(Math.min(Math.max(latencyNanos, 1_000), MAX_LATENCY_NANOS));
+        stats.succeeded.increment();
+    }
+
+    void failure(String step, int status) {
+        step(step).failures.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    void finish() {
+        finishedNanos = System.nanoTime();
+    }
+
+    public double elapsedSeconds() {
+        return ((finishedNanos != 0 ? finishedNanos : System.nanoTime()) - startedNanos) / 1e9;
+    }
+
+    public long succeeded(String step) {
+        Step stats = steps.get(step);
+        return stats != null ? stats.succeeded.sum() : 0;
+    }
+
+    public long failed() {
+        return steps.values().stream().mapToLong(Step::failed).sum();
+    }
+
+    public Map<String, Map<Integer, Long>> failuresByStep() {
+        Map<String, Map<Integer, Long>> failures = new TreeMap<>();
+        steps.forEach((name, stats) -> {
+            if (stats.failed() > 0) {
+                Map<Integer, Long> byStatus = new TreeMap<>();
+                stats.failures.forEach((status, count) -> byStatus.put(status, count.sum()));
+                failures.put(name, byStatus);
+            }
+        });
+        return failures;
+    }
+
+    /**
+     * Summary table: throughput over the whole phase and latency percentiles (ms) per step.
+     */
+    public void print(PrintStream out) {
+        double seconds = elapsedSeconds();
+        out.printf("[load] %.1f s measured%n", seconds);
+        out.printf("[load] %-20s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "step", "ok", "failed", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        steps.forEach((name, stats) -> {
+            Histogram histogram = stats.snapshot();
+            out.printf("[load] %-20s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    name, stats.succeeded.sum(), stats.failed(), stats.succeeded.sum() / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        });
+        failuresByStep().forEach((name, byStatus) -> out.printf("[load] %-20s failures by status %s%n", name, byStatus));
+    }
+
+    /**
+     * Full percentile distribution per step as {@code <step>.hgrm} (HdrHistogram text format, values in ms),
+     * plottable with the HdrHistogram plotter or diffable between runs.
+     */
+    public void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, Step> entry : steps.entrySet()) {
+            Histogram histogram = entry.getValue().snapshot();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            try (PrintStream file = new PrintStream(Files.newOutputStream(
+                    directory.resolve(entry.getKey() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(file, 5, 1e6);
+            }
+        }
+    }
+
+    private Step step(String name) {
+        return steps.computeIfAbsent(name, n -> new Step());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static final class Step {
+        final Recorder latencies = new Recorder(MAX_LATENCY_NANOS, 3);
+        final Histogram total = new Histogram(MAX_LATENCY_NANOS, 3);
+        final LongAdder succeeded = new LongAdder();
+        final ConcurrentHashMap<Integer, LongAdder> failures = new ConcurrentHashMap<>();
+
+        // Recorder hands out what was recorded since the last call; accumulate so print + write see the same data
+        synchronized Histogram snapshot() {
+            total.add(latencies.getIntervalHistogram());
+            return total.copy();
+        }
+
+        long failed() {
+            return failures.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+    }
+}
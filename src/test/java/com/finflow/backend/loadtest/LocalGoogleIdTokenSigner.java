@@ -0,0 +1,157 @@
+package com.finflow.backend.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.Executors;
+
+/**
+ * Issues Google-shaped ID tokens (RS256, iss accounts.google.com, aud = the app's client id) and serves the matching
+ * certificate in the format of https://www.googleapis.com/oauth2/v1/certs ({kid: PEM}). Point
+ * app.security.google.certs-url at {@link #certsUrl()}. The certificate is self-signed and built here in DER,
+ * Google's key manager only reads the public key out of it.
+ */
+public class LocalGoogleIdTokenSigner implements AutoCloseable {
+
+    private static final String KEY_ID = "finflow-load-test";
+    private static final String ISSUER = "https://accounts.google.com";
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(1);
+
+    private final String clientId;
+    private final KeyPair keyPair;
+    private final RSASSASigner signer;
+    private final HttpServer server;
+
+    public LocalGoogleIdTokenSigner(String clientId) throws IOException, GeneralSecurityException {
+        this.clientId = clientId;
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        this.keyPair = generator.generateKeyPair();
+        this.signer = new RSASSASigner(keyPair.getPrivate());
+
+        byte[] certs = ("{\"" + KEY_ID + "\": \"" + pem(selfSignedCertificate()).replace("\n", "\\n") + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/oauth2/v1/certs", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+            // Same caching contract as Google: the verifier refetches after max-age
+            exchange.getResponseHeaders().set("Cache-Control", "public, max-age=3600");
+            exchange.sendResponseHeaders(200, certs.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(certs);
+            }
+        });
+        server.start();
+    }
+
+    public String certsUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/oauth2/v1/certs";
+    }
+
+    public String clientId() {
+        return clientId;
+    }
+
+    public String idToken(String email, String givenName, String familyName) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .audience(clientId)
+                .subject(Integer.toUnsignedString(email.hashCode()))
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(TOKEN_LIFETIME)))
+                .claim("email", email)
+                .claim("email_verified", true)
+                .claim("given_name", givenName)
+                .claim("family_name", familyName)
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(KEY_ID).build(), claims);
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+        return jwt.serialize();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    // ---- Minimal X.509 v1 certificate: subject = issuer = CN=KEY_ID, SHA256withRSA ----
+
+    private static final byte[] SHA256_WITH_RSA = {0x06, 0x09, 0x2A, (byte) 0x86, 0x48, (byte) 0x86, (byte) 0xF7, 0x0D,
+            0x01, 0x01, 0x0B};
+    private static final byte[] COMMON_NAME = {0x06, 0x03, 0x55, 0x04, 0x03};
+    private static final DateTimeFormatter UTC_TIME = DateTimeFormatter.ofPattern("yyMMddHHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private byte[] selfSignedCertificate() throws GeneralSecurityException {
+        byte[] algorithm = der(0x30, SHA256_WITH_RSA, new byte[]{0x05, 0x00});
+        byte[] name = der(0x30, der(0x31, der(0x30, COMMON_NAME, der(0x0C, KEY_ID.getBytes(StandardCharsets.UTF_8)))));
+        Instant now = Instant.now();
+        byte[] validity = der(0x30,
+                der(0x17, UTC_TIME.format(now.minus(Duration.ofDays(1))).getBytes(StandardCharsets.US_ASCII)),
+                der(0x17, UTC_TIME.format(now.plus(Duration.ofDays(365))).getBytes(StandardCharsets.US_ASCII)));
+        byte[] serial = der(0x02, BigInteger.valueOf(now.toEpochMilli()).toByteArray());
+        byte[] tbs = der(0x30, serial, algorithm, name, validity, name, keyPair.getPublic().getEncoded());
+
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update(tbs);
+        byte[] signed = signature.sign();
+        byte[] bitString = new byte[signed.length + 1]; // leading 0: no unused bits
+        System.arraycopy(signed, 0, bitString, 1, signed.length);
+        return der(0x30, tbs, algorithm, der(0x03, bitString));
+    }
+
+    private static byte[] der(int tag, byte[]... parts) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            content.writeBytes(part);
+        }
+        int length = content.size();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(tag);
+        if (length < 0x80) {
+            out.write(length);
+        } else {
+            byte[] lengthBytes = BigInteger.valueOf(length).toByteArray();
+            int offset = lengthBytes[0] == 0 ? 1 : 0;
+            out.write(0x80 | (lengthBytes.length - offset));
+            out.write(lengthBytes, offset, lengthBytes.length - offset);
+        }
+        out.writeBytes(content.toByteArray());
+        return out.toByteArray();
+    }
+
+    private static String pem(byte[] der) {
+        return "-----BEGIN CERTIFICATE-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(der)
+                + "\n-----END CERTIFICATE-----\n";
+    }
+}
@@ -0,0 +1,541 @@
+package com.finflow.backend.loadtest;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process stand-in speaking RESP2 on a local port, covering the commands RedisService, SessionRegistry and
+ * the health check send (strings with TTL, hashes, sorted sets, pipelining). Like Redis, commands run one at a time
+ * (one lock over the keyspace); expiry is lazy. RESP3 HELLO is refused so Lettuce falls back to RESP2.
+ * Not a Redis: no persistence, no pub/sub, no CLIENT TRACKING (keep app.redis.near-cache.enabled off).
+ */
+public class LocalRedisServer implements AutoCloseable {
+
+    private static final byte[] OK = "+OK\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL_BULK = "$-1\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Entry> keyspace = new HashMap<>();
+
+    public LocalRedisServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 512, InetAddress.getLoopbackAddress());
+        connections.submit(this::acceptLoop);
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    public synchronized int keyCount() {
+        keyspace.values().removeIf(Entry::expired);
+        return keyspace.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connections.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections.submit(() -> serve(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             InputStream in = new BufferedInputStream(socket.getInputStream());
+             OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+            while (true) {
+                List<byte[]> command = readCommand(in);
+                if (command.isEmpty()) {
+                    continue;
+                }
+                String name = text(command.get(0)).toUpperCase(Locale.ROOT);
+                Reply reply = execute(name, command);
+                reply.writeTo(out);
+                // Pipelined commands: flush once the client has nothing more buffered
+                if (in.available() == 0) {
+                    out.flush();
+                }
+                if (name.equals("QUIT")) {
+                    out.flush();
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // Client disconnected
+        }
+    }
+
+    private synchronized Reply execute(String name, List<byte[]> args) {
+        try {
+            return switch (name) {
+                case "PING" -> args.size() > 1 ? bulk(args.get(1)) : Reply.raw("+PONG\r\n");
+                case "ECHO" -> bulk(args.get(1));
+                case "HELLO" -> error("ERR unknown command 'HELLO'");
+                case "CLIENT", "SELECT", "AUTH", "QUIT", "READONLY" -> Reply.OK;
+                case "INFO" -> bulk("# Server\r\nredis_version:7.4.0\r\nredis_mode:standalone\r\n");
+                case "DBSIZE" -> integer(keyCount());
+                case "FLUSHALL", "FLUSHDB" -> {
+                    keyspace.clear();
+                    yield Reply.OK;
+                }
+                case "SET" -> set(args);
+                case "GET" -> bulk(string(key(args, 1)));
+                case "MGET" -> array(args.subList(1, args.size()).stream().map(k -> bulk(string(text(k)))).toList());
+                case "DEL", "UNLINK" -> integer(args.subList(1, args.size()).stream()
+                        .filter(k -> live(text(k)) != null && keyspace.remove(text(k)) != null).count());
+                case "EXISTS" -> integer(args.subList(1, args.size()).stream().filter(k -> live(text(k)) != null).count());
+                case "EXPIRE" -> expire(args, 1000);
+                case "PEXPIRE" -> expire(args, 1);
+                case "TTL" -> ttl(args, 1000);
+                case "PTTL" -> ttl(args, 1);
+                case "INCR" -> incrBy(args.get(1), 1);
+                case "INCRBY" -> incrBy(args.get(1), Long.parseLong(text(args.get(2))));
+                case "HSET", "HMSET" -> hSet(name, args);
+                case "HGET" -> bulk(hash(key(args, 1), false) != null ? hash(key(args, 1), false).get(text(args.get(2))) : null);
+                case "HMGET" -> hMGet(args);
+                case "HGETALL" -> hGetAll(args);
+                case "HDEL" -> hDel(args);
+                case "HINCRBY" -> hIncrBy(args);
+                case "ZADD" -> zAdd(args);
+                case "ZSCORE" -> zScore(args);
+                case "ZREM" -> zRem(args);
+                case "ZREMRANGEBYSCORE" -> zRemRangeByScore(args);
+                case "ZCARD" -> integer(zset(key(args, 1), false) != null ? zset(key(args, 1), false).size() : 0);
+                case "ZRANGE" -> zRange(args, false);
+                case "ZREVRANGE" -> zRange(args, true);
+                default -> error("ERR unknown command '" + name + "'");
+            };
+        } catch (WrongTypeException e) {
+            return error("WRONGTYPE Operation against a key holding the wrong kind of value");
+        } catch (RuntimeException e) {
+            return error("ERR " + e.getMessage());
+        }
+    }
+
+    // ---- Strings ----
+
+    private Reply set(List<byte[]> args) {
+        String key = key(args, 1);
+        long expiresAt = 0;
+        boolean nx = false;
+        boolean xx = false;
+        for (int i = 3; i < args.size(); i++) {
+            switch (text(args.get(i)).toUpperCase(Locale.ROOT)) {
+                case "EX" -> expiresAt = System.currentTimeMillis() + Long.parseLong(text(args.get(++i))) * 1000;
+                case "PX" -> expiresAt = System.currentTimeMillis() + Long.parseLong(text(args.get(++i)));
+                case "NX" -> nx = true;
+                case "XX" -> xx = true;
+                case "KEEPTTL" -> expiresAt = live(key) != null ? live(key).expiresAt : 0;
+                default -> throw new IllegalArgumentException("syntax error");
+            }
+        }
+        boolean exists = live(key) != null;
+        if ((nx && exists) || (xx && !exists)) {
+            return Reply.NULL;
+        }
+        keyspace.put(key, new Entry(args.get(2), expiresAt));
+        return Reply.OK;
+    }
+
+    private byte[] string(String key) {
+        Entry entry = live(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!(entry.value instanceof byte[] bytes)) {
+            throw new WrongTypeException();
+        }
+        return bytes;
+    }
+
+    private Reply incrBy(byte[] rawKey, long delta) {
+        String key = text(rawKey);
+        byte[] current = string(key);
+        long value = (current != null ? Long.parseLong(text(current)) : 0) + delta;
+        Entry entry = live(key);
+        keyspace.put(key, new Entry(Long.toString(value).getBytes(StandardCharsets.US_ASCII),
+                entry != null ? entry.expiresAt : 0));
+        return integer(value);
+    }
+
+    private Reply expire(List<byte[]> args, long unitMillis) {
+        Entry entry = live(key(args, 1));
+        if (entry == null) {
+            return integer(0);
+        }
+        entry.expiresAt = System.currentTimeMillis() + Long.parseLong(text(args.get(2))) * unitMillis;
+        return integer(1);
+    }
+
+    private Reply ttl(List<byte[]> args, long unitMillis) {
+        Entry entry = live(key(args, 1));
+        if (entry == null) {
+            return integer(-2);
+        }
+        return integer(entry.expiresAt == 0 ? -1 : (entry.expiresAt - System.currentTimeMillis()) / unitMillis);
+    }
+
+    // ---- Hashes ----
+
+    private Reply hSet(String name, List<byte[]> args) {
+        Hash hash = hash(key(args, 1), true);
+        int added = 0;
+        for (int i = 2; i + 1 < args.size(); i += 2) {
+            if (hash.put(text(args.get(i)), args.get(i + 1)) == null) {
+                added++;
+            }
+        }
+        return name.equals("HMSET") ? Reply.OK : integer(added);
+    }
+
+    private Reply hMGet(List<byte[]> args) {
+        Hash hash = hash(key(args, 1), false);
+        List<Reply> values = new ArrayList<>();
+        for (int i = 2; i < args.size(); i++) {
+            values.add(bulk(hash != null ? hash.get(text(args.get(i))) : null));
+        }
+        return array(values);
+    }
+
+    private Reply hGetAll(List<byte[]> args) {
+        Hash hash = hash(key(args, 1), false);
+        List<Reply> values = new ArrayList<>();
+        if (hash != null) {
+            hash.forEach((field, value) -> {
+                values.add(bulk(field));
+                values.add(bulk(value));
+            });
+        }
+        return array(values);
+    }
+
+    private Reply hDel(List<byte[]> args) {
+        String key = key(args, 1);
+        Hash hash = hash(key, false);
+        if (hash == null) {
+            return integer(0);
+        }
+        long removed = args.subList(2, args.size()).stream().filter(f -> hash.remove(text(f)) != null).count();
+        if (hash.isEmpty()) {
+            keyspace.remove(key);
+        }
+        return integer(removed);
+    }
+
+    private Reply hIncrBy(List<byte[]> args) {
+        Hash hash = hash(key(args, 1), true);
+        String field = text(args.get(2));
+        byte[] current = hash.get(field);
+        long value = (current != null ? Long.parseLong(text(current)) : 0) + Long.parseLong(text(args.get(3)));
+        hash.put(field, Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+        return integer(value);
+    }
+
+    private Hash hash(String key, boolean create) {
+        Entry entry = live(key);
+        if (entry == null) {
+            if (!create) {
+                return null;
+            }
+            entry = new Entry(new Hash(), 0);
+            keyspace.put(key, entry);
+        }
+        if (!(entry.value instanceof Hash hash)) {
+            throw new WrongTypeException();
+        }
+        return hash;
+    }
+
+    // ---- Sorted sets (member -> score, sorted on read: session sets are small) ----
+
+    private Reply zAdd(List<byte[]> args) {
+        SortedSet zset = zset(key(args, 1), true);
+        int i = 2;
+        // Flags (NX/XX/GT/LT/CH) are not used by the app
+        while (i < args.size() && !isNumber(text(args.get(i)))) {
+            i++;
+        }
+        int added = 0;
+        for (; i + 1 < args.size(); i += 2) {
+            if (zset.put(text(args.get(i + 1)), parseScore(text(args.get(i)))) == null) {
+                added++;
+            }
+        }
+        return integer(added);
+    }
+
+    private Reply zScore(List<byte[]> args) {
+        SortedSet zset = zset(key(args, 1), false);
+        Double score = zset != null ? zset.get(text(args.get(2))) : null;
+        return score != null ? bulk(formatScore(score)) : Reply.NULL;
+    }
+
+    private Reply zRem(List<byte[]> args) {
+        String key = key(args, 1);
+        SortedSet zset = zset(key, false);
+        if (zset == null) {
+            return integer(0);
+        }
+        long removed = args.subList(2, args.size()).stream().filter(m -> zset.remove(text(m)) != null).count();
+        if (zset.isEmpty()) {
+            keyspace.remove(key);
+        }
+        return integer(removed);
+    }
+
+    private Reply zRemRangeByScore(List<byte[]> args) {
+        String key = key(args, 1);
+        SortedSet zset = zset(key, false);
+        if (zset == null) {
+            return integer(0);
+        }
+        String min = text(args.get(2));
+        String max = text(args.get(3));
+        int before = zset.size();
+        zset.values().removeIf(score -> aboveMin(score, min) && belowMax(score, max));
+        int removed = before - zset.size();
+        if (zset.isEmpty()) {
+            keyspace.remove(key);
+        }
+        return integer(removed);
+    }
+
+    private Reply zRange(List<byte[]> args, boolean reverse) {
+        SortedSet zset = zset(key(args, 1), false);
+        boolean withScores = args.size() > 4 && text(args.get(4)).equalsIgnoreCase("WITHSCORES");
+        if (zset == null) {
+            return array(List.of());
+        }
+        Comparator<Map.Entry<String, Double>> order = Map.Entry.<String, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        List<Map.Entry<String, Double>> sorted = new ArrayList<>(zset.entrySet());
+        sorted.sort(reverse ? order.reversed() : order);
+
+        int size = sorted.size();
+        long start = Long.parseLong(text(args.get(2)));
+        long stop = Long.parseLong(text(args.get(3)));
+        start = Math.max(start < 0 ? size + start : start, 0);
+        stop = Math.min(stop < 0 ? size + stop : stop, size - 1);
+        List<Reply> values = new ArrayList<>();
+        for (long i = start; i <= stop; i++) {
+            Map.Entry<String, Double> member = sorted.get((int) i);
+            values.add(bulk(member.getKey()));
+            if (withScores) {
+                values.add(bulk(formatScore(member.getValue())));
+            }
+        }
+        return array(values);
+    }
+
+    private SortedSet zset(String key, boolean create) {
+        Entry entry = live(key);
+        if (entry == null) {
+            if (!create) {
+                return null;
+            }
+            entry = new Entry(new SortedSet(), 0);
+            keyspace.put(key, entry);
+        }
+        if (!(entry.value instanceof SortedSet zset)) {
+            throw new WrongTypeException();
+        }
+        return zset;
+    }
+
+    private static boolean aboveMin(double score, String min) {
+        return min.startsWith("(") ? score > parseScore(min.substring(1)) : score >= parseScore(min);
+    }
+
+    private static boolean belowMax(double score, String max) {
+        return max.startsWith("(") ? score < parseScore(max.substring(1)) : score <= parseScore(max);
+    }
+
+    private static double parseScore(String score) {
+        return switch (score.toLowerCase(Locale.ROOT)) {
+            case "inf", "+inf" -> Double.POSITIVE_INFINITY;
+            case "-inf" -> Double.NEGATIVE_INFINITY;
+            default -> Double.parseDouble(score);
+        };
+    }
+
+    private static boolean isNumber(String value) {
+        try {
+            parseScore(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String formatScore(double score) {
+        if (Double.isInfinite(score)) {
+            return score > 0 ? "inf" : "-inf";
+        }
+        return BigDecimal.valueOf(score).stripTrailingZeros().toPlainString();
+    }
+
+    // ---- Keyspace ----
+
+    private Entry live(String key) {
+        Entry entry = keyspace.get(key);
+        if (entry != null && entry.expired()) {
+            keyspace.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private static String key(List<byte[]> args, int index) {
+        return text(args.get(index));
+    }
+
+    // Keys and fields are binary-safe: ISO-8859-1 maps every byte to one char and back
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    private static final class Entry {
+        final Object value;
+        long expiresAt;
+
+        Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean expired() {
+            return expiresAt != 0 && System.currentTimeMillis() >= expiresAt;
+        }
+    }
+
+    // Field -> value, insertion order (HGETALL)
+    private static final class Hash extends LinkedHashMap<String, byte[]> {
+    }
+
+    // Member -> score
+    private static final class SortedSet extends HashMap<String, Double> {
+    }
+
+    private static final class WrongTypeException extends RuntimeException {
+    }
+
+    // ---- RESP ----
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int type = in.read();
+        if (type == -1) {
+            throw new EOFException();
+        }
+        if (type != '*') {
+            // Inline command (redis-cli / telnet)
+            String line = (char) type + readLine(in);
+            List<byte[]> parts = new ArrayList<>();
+            for (String part : line.trim().split("\\s+")) {
+                if (!part.isEmpty()) {
+                    parts.add(part.getBytes(StandardCharsets.ISO_8859_1));
+                }
+            }
+            return parts;
+        }
+        int count = Integer.parseInt(readLine(in));
+        List<byte[]> args = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.read() != '$') {
+                throw new IOException("Protocol error: expected bulk string");
+            }
+            int length = Integer.parseInt(readLine(in));
+            byte[] arg = in.readNBytes(length);
+            in.readNBytes(2);
+            args.add(arg);
+        }
+        return args;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != '\r') {
+            if (b == -1) {
+                throw new EOFException();
+            }
+            line.append((char) b);
+        }
+        in.read();
+        return line.toString();
+    }
+
+    private static Reply bulk(String value) {
+        return bulk(value != null ? value.getBytes(StandardCharsets.ISO_8859_1) : null);
+    }
+
+    private static Reply bulk(byte[] value) {
+        if (value == null) {
+            return Reply.NULL;
+        }
+        return out -> {
+            out.write(("$" + value.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(value);
+            out.write('\r');
+            out.write('\n');
+        };
+    }
+
+    private static Reply integer(long value) {
+        return Reply.raw(":" + value + "\r\n");
+    }
+
+    private static Reply error(String message) {
+        return Reply.raw("-" + message + "\r\n");
+    }
+
+    private static Reply array(List<Reply> items) {
+        return out -> {
+            out.write(("*" + items.size() + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            for (Reply item : items) {
+                item.writeTo(out);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Reply {
+        Reply OK = out -> out.write(LocalRedisServer.OK);
+        Reply NULL = out -> out.write(NULL_BULK);
+
+        void writeTo(OutputStream out) throws IOException;
+
+        static Reply raw(String resp) {
+            byte[] bytes = resp.getBytes(StandardCharsets.US_ASCII);
+            return out -> out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.finflow.backend.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One new user's session, step by step, as the mobile app drives it:
+ * send-otp (REGISTER) -> OTP mail -> verify-otp -> register -> login -> my-profile GET/PUT -> refresh -> logout
+ * -> Google login for the same email. "otp-mail" is the async send, timed until the message reaches the SMTP stub.
+ * A failed step ends the journey (later steps need its tokens); the failure is counted under that step.
+ */
+class UserJourney {
+
+    static final String SEND_OTP = "send-otp";
+    static final String OTP_MAIL = "otp-mail";
+    static final String VERIFY_OTP = "verify-otp";
+    static final String REGISTER = "register";
+    static final String LOGIN = "login";
+    static final String PROFILE_GET = "profile-get";
+    static final String PROFILE_PUT = "profile-put";
+    static final String REFRESH = "refresh";
+    static final String LOGOUT = "logout";
+    static final String GOOGLE_LOGIN = "google-login";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration MAIL_TIMEOUT = Duration.ofSeconds(30);
+    private static final Pattern OTP = Pattern.compile("verification code is: (\\d{6})");
+    private static final String PASSWORD = "load-test-password";
+
+    private final HttpClient http;
+    private final JsonMapper json;
+    private final String baseUrl;
+    private final CapturingSmtpServer smtp;
+    private final LocalGoogleIdTokenSigner google;
+
+    UserJourney(HttpClient http, JsonMapper json, String baseUrl, CapturingSmtpServer smtp,
+                LocalGoogleIdTokenSigner google) {
+        this.http = http;
+        this.json = json;
+        this.baseUrl = baseUrl;
+        this.smtp = smtp;
+        this.google = google;
+    }
+
+    /**
+     * Runs the whole journey for a user derived from {@code id}; returns false if a step failed.
+     */
+    boolean run(String id, LoadReport report) {
+        String username = "u" + id;
+        String email = username + "@load.finflow.test";
+        try {
+            call(report, SEND_OTP, 200, post("/api/auth/send-otp", Map.of("email", email, "purpose", "REGISTER")));
+
+            long mailStarted = System.nanoTime();
+            String otp = awaitOtp(email);
+            if (otp == null) {
+                report.failure(OTP_MAIL, -1);
+                return false;
+            }
+            report.success(OTP_MAIL, System.nanoTime() - mailStarted);
+
+            String registrationToken = call(report, VERIFY_OTP, 200, post("/api/auth/verify-otp",
+                    Map.of("email", email, "otp", otp, "purpose", "REGISTER"))).path("registrationToken").asString();
+            call(report, REGISTER, 201, post("/api/auth/register", Map.of(
+                    "username", username, "password", PASSWORD, "email", email,
+                    "firstName", "Load", "lastName", "Test", "dob", "1995-06-15"))
+                    .header("X-Registration-Token", registrationToken));
+
+            JsonNode tokens = call(report, LOGIN, 200, post("/api/auth/login",
+                    Map.of("username", username, "password", PASSWORD)));
+            String accessToken = tokens.path("token").asString();
+
+            call(report, PROFILE_GET, 200, request("/api/users/my-profile").GET()
+                    .header("Authorization", "Bearer " + accessToken));
+            call(report, PROFILE_PUT, 200, put("/api/users/my-profile",
+                    Map.of("firstName", "Loaded", "lastName", "Tester"))
+                    .header("Authorization", "Bearer " + accessToken));
+
+            tokens = call(report, REFRESH, 200, post("/api/auth/refresh",
+                    Map.of("refreshToken", tokens.path("refreshToken").asString())));
+            call(report, LOGOUT, 204, request("/api/auth/logout").POST(HttpRequest.BodyPublishers.noBody())
+                    .header("Authorization", "Bearer " + tokens.path("token").asString()));
+
+            call(report, GOOGLE_LOGIN, 200, post("/api/auth/google",
+                    Map.of("idToken", google.idToken(email, "Load", "Test"))));
+            return true;
+        } catch (StepFailed e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String awaitOtp(String email) throws InterruptedException {
+        String message = smtp.await(email, MAIL_TIMEOUT);
+        if (message == null) {
+            return null;
+        }
+        Matcher matcher = OTP.matcher(message);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private JsonNode call(LoadReport report, String step, int expectedStatus, HttpRequest.Builder request)
+            throws InterruptedException {
+        long started = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (java.io.IOException e) {
+            report.failure(step, -1);
+            throw new StepFailed();
+        }
+        long latency = System.nanoTime() - started;
+        if (response.statusCode() != expectedStatus) {
+            report.failure(step, response.statusCode());
+            throw new StepFailed();
+        }
+        report.success(step, latency);
+        return response.body().isEmpty() ? json.missingNode() : json.readTree(response.body());
+    }
+
+    private HttpRequest.Builder post(String path, Map<String, String> body) {
+        return request(path).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json.writeValueAsString(body)));
+    }
+
+    private HttpRequest.Builder put(String path, Map<String, String> body) {
+        return request(path).header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json.writeValueAsString(body)));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .header("User-Agent", "FinFlow-LoadHarness/1.0");
+    }
+
+    private static final class StepFailed extends RuntimeException {
+        StepFailed() {
+            super(null, null, false, false);
+        }
+    }
+}
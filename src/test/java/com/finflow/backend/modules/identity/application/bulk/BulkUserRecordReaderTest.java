@@ -0,0 +1,89 @@
+package com.finflow.backend.modules.identity.application.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.finflow.backend.common.exception.AppException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkUserRecordReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void readsCsvWithQuotedFieldsAndRoles() throws Exception {
+        String csv = """
+                username,email,password,firstName,lastName,dob,roles
+                alice,alice@example.com,secret123,"Smith, Jr.","O""Neil",1990-05-01,ROLE_USER|ROLE_ADMIN
+
+                bob,bob@example.com,secret456,,,,
+                """;
+
+        try (BulkUserRecordReader reader = open(csv, BulkUserFormat.CSV)) {
+            BulkUserRecord alice = reader.next();
+            assertEquals(2, alice.line());
+            assertEquals("alice", alice.username());
+            assertEquals("Smith, Jr.", alice.firstName());
+            assertEquals("O\"Neil", alice.lastName());
+            assertEquals(LocalDate.of(1990, 5, 1), alice.dob());
+            assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"), alice.roles());
+
+            BulkUserRecord bob = reader.next();
+            assertEquals(4, bob.line()); // blank line skipped but still counted
+            assertNull(bob.firstName());
+            assertTrue(bob.roles().isEmpty());
+
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void reportsMalformedCsvLineAndContinues() throws Exception {
+        String csv = """
+                username,email,password,dob
+                alice,alice@example.com,secret123,not-a-date
+                bob,bob@example.com,secret456,
+                """;
+
+        try (BulkUserRecordReader reader = open(csv, BulkUserFormat.CSV)) {
+            MalformedBulkRecordException error = assertThrows(MalformedBulkRecordException.class, reader::next);
+            assertEquals(2, error.getLine());
+            assertEquals("bob", reader.next().username());
+        }
+    }
+
+    @Test
+    void rejectsCsvWithoutRequiredColumns() {
+        assertThrows(AppException.class, () -> open("username,email\n", BulkUserFormat.CSV));
+    }
+
+    @Test
+    void readsNdjsonAndIgnoresUnknownFields() throws Exception {
+        String ndjson = """
+                {"username":"carol","email":"carol@example.com","passwordHash":"$2a$10$abc","dob":"2001-02-03","source":"crm"}
+                {broken
+                """;
+
+        try (BulkUserRecordReader reader = open(ndjson, BulkUserFormat.NDJSON)) {
+            BulkUserRecord carol = reader.next();
+            assertEquals("carol", carol.username());
+            assertEquals("$2a$10$abc", carol.passwordHash());
+            assertNull(carol.password());
+            assertEquals(LocalDate.of(2001, 2, 3), carol.dob());
+
+            assertThrows(MalformedBulkRecordException.class, reader::next);
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    private BulkUserRecordReader open(String content, BulkUserFormat format) {
+        return BulkUserRecordReader.open(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, objectMapper);
+    }
+}
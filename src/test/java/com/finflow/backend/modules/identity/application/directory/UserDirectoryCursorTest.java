@@ -0,0 +1,37 @@
+package com.finflow.backend.modules.identity.application.directory;
+
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.common.exception.CommonErrorCode;
+import com.finflow.backend.common.id.UuidV7;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserDirectoryCursorTest {
+
+    @Test
+    void roundTripsEachSortKey() {
+        UserDirectoryCursor registered = new UserDirectoryCursor(UserDirectorySort.REGISTERED,
+                LocalDateTime.of(2025, 3, 1, 10, 15, 30, 123_456_000), UuidV7.generate(), null);
+        UserDirectoryCursor username = new UserDirectoryCursor(UserDirectorySort.USERNAME, null, null, "nguyen.van");
+
+        assertEquals(registered, UserDirectoryCursor.decode(registered.encode(), UserDirectorySort.REGISTERED));
+        assertEquals(username, UserDirectoryCursor.decode(username.encode(), UserDirectorySort.USERNAME));
+        assertNull(UserDirectoryCursor.decode(null, UserDirectorySort.EMAIL));
+    }
+
+    @Test
+    void rejectsCursorIssuedForAnotherOrderOrTampered() {
+        String usernameCursor = new UserDirectoryCursor(UserDirectorySort.USERNAME, null, null, "alice").encode();
+
+        AppException wrongOrder = assertThrows(AppException.class,
+                () -> UserDirectoryCursor.decode(usernameCursor, UserDirectorySort.EMAIL));
+        AppException garbage = assertThrows(AppException.class,
+                () -> UserDirectoryCursor.decode("not-a-cursor!", UserDirectorySort.REGISTERED));
+
+        assertEquals(CommonErrorCode.INVALID_CURSOR, wrongOrder.getErrorCode());
+        assertEquals(CommonErrorCode.INVALID_CURSOR, garbage.getErrorCode());
+    }
+}
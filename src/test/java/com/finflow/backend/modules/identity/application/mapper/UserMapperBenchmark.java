@@ -0,0 +1,64 @@
+package com.finflow.backend.modules.identity.application.mapper;
+
+import com.finflow.backend.modules.identity.domain.entity.Role;
+import com.finflow.backend.modules.identity.domain.entity.User;
+import com.finflow.backend.modules.identity.presentation.response.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Profile responses as built by GetProfileUseCase (entity + role names, through the generated
+ * {@link UserMapperImpl}) and UpdateProfileUseCase (request fields + roles from the token, no mapper).
+ * <p>
+ * Run: {@code mvn -Pbenchmark -DskipTests test -Djmh.include=UserMapperBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    private final UserMapper mapper = new UserMapperImpl();
+    private final Set<String> tokenRoles = Set.of("ROLE_USER");
+    private final User user = User.builder()
+            .id(UUID.randomUUID())
+            .username("alice")
+            .email("alice@example.com")
+            .firstName("Alice")
+            .lastName("Nguyen")
+            .dob(LocalDate.of(1990, 1, 1))
+            .roles(Set.of(Role.builder().name("ROLE_USER").build()))
+            .build();
+    @Benchmark
+    public UserResponse fromEntity() {
+        UserResponse response = mapper.toUserResponse(user);
+        response.setRoles(user.getRoles().stream().map(Role::getName).collect(Collectors.toSet()));
+        return response;
+    }
+
+    @Benchmark
+    public UserResponse fromRequest() {
+        return UserResponse.builder()
+                .username(user.getUsername())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .dob(user.getDob())
+                .roles(tokenRoles)
+                .build();
+    }
+}
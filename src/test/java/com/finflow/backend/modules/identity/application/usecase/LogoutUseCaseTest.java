@@ -0,0 +1,93 @@
+package com.finflow.backend.modules.identity.application.usecase;
+
+import com.finflow.backend.common.id.UuidV7;
+import com.finflow.backend.common.resilience.DependencyUnavailableException;
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+import com.finflow.backend.modules.identity.domain.repository.InvalidatedTokenRepository;
+import com.finflow.backend.modules.identity.infrastructure.audit.AuthAuditRecorder;
+import com.finflow.backend.modules.identity.infrastructure.configuration.TokenConfig;
+import com.finflow.backend.modules.identity.infrastructure.metrics.IdentityMetrics;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.util.Date;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LogoutUseCaseTest {
+
+    private final InvalidatedTokenRepository invalidatedTokenRepository = mock(InvalidatedTokenRepository.class);
+    private final AuthAuditRecorder authAuditRecorder = mock(AuthAuditRecorder.class);
+    private final SessionRegistry sessionRegistry = mock(SessionRegistry.class);
+    private final JwtDecoder jwtDecoder = mock(JwtDecoder.class);
+    private final LogoutUseCase useCase = new LogoutUseCase(invalidatedTokenRepository, authAuditRecorder,
+            sessionRegistry, new IdentityMetrics(new SimpleMeterRegistry()), jwtDecoder);
+
+    @Test
+    void blacklistsTokenAndEndsItsSession() throws Exception {
+        String token = token("s1");
+        when(jwtDecoder.decode(token)).thenReturn(verified("s1"));
+
+        useCase.execute(token);
+
+        verify(invalidatedTokenRepository).save(any());
+        verify(sessionRegistry).revoke("alice", "s1");
+        verify(authAuditRecorder).success(AuthEventType.LOGOUT, "alice");
+    }
+
+    @Test
+    void redisOutageDoesNotFailTheLogout() throws Exception {
+        when(sessionRegistry.revoke(any(), any())).thenThrow(new DependencyUnavailableException(
+                "redis", DependencyUnavailableException.Reason.TIMEOUT, null));
+        String token = token("s1");
+        when(jwtDecoder.decode(token)).thenReturn(verified("s1"));
+
+        useCase.execute(token);
+
+        verify(invalidatedTokenRepository).save(any());
+        verify(authAuditRecorder).success(AuthEventType.LOGOUT, "alice");
+    }
+
+    @Test
+    void unverifiedTokenIsBlacklistedButEndsNoSession() throws Exception {
+        // /logout is public: a forged token must not revoke someone else's session or name them in the audit
+        when(jwtDecoder.decode(any())).thenThrow(new BadJwtException("bad signature"));
+
+        useCase.execute(token("s1"));
+
+        verify(invalidatedTokenRepository).save(any());
+        verifyNoInteractions(sessionRegistry);
+        verify(authAuditRecorder).failure(AuthEventType.LOGOUT, null, "INVALID_TOKEN");
+        verify(authAuditRecorder, never()).success(any(), any());
+    }
+
+    private static Jwt verified(String sessionId) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("alice")
+                .claim(TokenConfig.SESSION_ID_CLAIM, sessionId)
+                .build();
+    }
+
+    private static String token(String sessionId) throws Exception {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("alice")
+                .jwtID(UuidV7.generate().toString())
+                .expirationTime(new Date(System.currentTimeMillis() + 60_000))
+                .claim(TokenConfig.SESSION_ID_CLAIM, sessionId)
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+        jwt.sign(new MACSigner(new byte[32]));
+        return jwt.serialize();
+    }
+}
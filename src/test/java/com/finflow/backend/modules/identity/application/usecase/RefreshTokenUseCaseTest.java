@@ -0,0 +1,82 @@
+package com.finflow.backend.modules.identity.application.usecase;
+
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.common.id.UuidV7;
+import com.finflow.backend.common.resilience.DependencyUnavailableException;
+import com.finflow.backend.modules.identity.domain.entity.Role;
+import com.finflow.backend.modules.identity.domain.entity.User;
+import com.finflow.backend.modules.identity.domain.repository.InvalidatedTokenRepository;
+import com.finflow.backend.modules.identity.domain.repository.UserRepository;
+import com.finflow.backend.modules.identity.exception.IdentityErrorCode;
+import com.finflow.backend.modules.identity.infrastructure.audit.AuthAuditRecorder;
+import com.finflow.backend.modules.identity.infrastructure.configuration.TokenConfig;
+import com.finflow.backend.modules.identity.infrastructure.metrics.IdentityMetrics;
+import com.finflow.backend.modules.identity.infrastructure.service.UserActivityRecorder;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenUseCaseTest {
+
+    private final JwtDecoder jwtDecoder = mock(JwtDecoder.class);
+    private final JwtEncoder jwtEncoder = mock(JwtEncoder.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final InvalidatedTokenRepository invalidatedTokenRepository = mock(InvalidatedTokenRepository.class);
+    private final SessionRegistry sessionRegistry = mock(SessionRegistry.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RefreshTokenUseCase useCase = new RefreshTokenUseCase(jwtDecoder, jwtEncoder, userRepository,
+            invalidatedTokenRepository, mock(UserActivityRecorder.class), mock(AuthAuditRecorder.class),
+            sessionRegistry, new IdentityMetrics(meterRegistry));
+
+    @BeforeEach
+    void setUp() {
+        when(jwtDecoder.decode("refresh-token")).thenReturn(Jwt.withTokenValue("refresh-token")
+                .header("alg", "RS256")
+                .subject("alice")
+                .claim("type", "refresh")
+                .claim(TokenConfig.SESSION_ID_CLAIM, "s1")
+                .jti(UuidV7.generate().toString())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build());
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(User.builder()
+                .id(UUID.randomUUID())
+                .username("alice")
+                .roles(Set.of(Role.builder().name("ROLE_USER").build()))
+                .build()));
+        when(jwtEncoder.encode(any())).thenReturn(Jwt.withTokenValue("new-token").header("alg", "RS256")
+                .subject("alice").build());
+    }
+
+    @Test
+    void revokedSessionIsRejected() {
+        when(sessionRegistry.touch("alice", "s1")).thenReturn(false);
+
+        AppException ex = assertThrows(AppException.class, () -> useCase.execute("refresh-token"));
+
+        assertEquals(IdentityErrorCode.SESSION_REVOKED, ex.getErrorCode());
+    }
+
+    @Test
+    void redisOutageSkipsTheSessionCheckAndCountsIt() {
+        // The refresh token already passed the DB blacklist in the decoder; Redis must not block the rotation
+        when(sessionRegistry.touch(any(), any())).thenThrow(new DependencyUnavailableException(
+                "redis", DependencyUnavailableException.Reason.CIRCUIT_OPEN, null));
+
+        assertEquals("new-token", useCase.execute("refresh-token").getToken());
+        assertEquals(1.0, meterRegistry.get("identity.sessions.check.skipped").counter().count());
+        verify(invalidatedTokenRepository).save(any());
+    }
+}
@@ -0,0 +1,41 @@
+package com.finflow.backend.modules.identity.application.usecase;
+
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.modules.identity.exception.IdentityErrorCode;
+import com.finflow.backend.modules.identity.infrastructure.metrics.IdentityMetrics;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RevokeAllSessionsUseCaseTest {
+
+    private final SessionRegistry sessionRegistry = mock(SessionRegistry.class);
+    private final RevokeAllSessionsUseCase useCase =
+            new RevokeAllSessionsUseCase(sessionRegistry, new IdentityMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    void keepsTheCallingSession() {
+        when(sessionRegistry.revokeAll("alice", "s1")).thenReturn(2);
+
+        assertEquals(2, useCase.execute("alice", "s1", true));
+    }
+
+    @Test
+    void keepCurrentWithoutSessionIdIsRejectedInsteadOfRevokingEverything() {
+        AppException ex = assertThrows(AppException.class, () -> useCase.execute("alice", null, true));
+
+        assertEquals(IdentityErrorCode.CURRENT_SESSION_UNKNOWN, ex.getErrorCode());
+        verify(sessionRegistry, never()).revokeAll(any(), any());
+    }
+
+    @Test
+    void withoutKeepCurrentEverySessionIsRevoked() {
+        when(sessionRegistry.revokeAll("alice", null)).thenReturn(3);
+
+        assertEquals(3, useCase.execute("alice", null, false));
+    }
+}
@@ -0,0 +1,54 @@
+package com.finflow.backend.modules.identity.application.usecase;
+
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.modules.identity.domain.repository.UserRepository;
+import com.finflow.backend.modules.identity.exception.IdentityErrorCode;
+import com.finflow.backend.modules.identity.presentation.request.UpdateProfileRequest;
+import com.finflow.backend.modules.identity.presentation.response.UserResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UpdateProfileUseCaseTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UpdateProfileUseCase useCase = new UpdateProfileUseCase(userRepository);
+
+    @Test
+    void updatesOnlySentFieldsAndBuildsResponseWithoutReadingBack() {
+        when(userRepository.updateProfile("alice", "Alice", null, null)).thenReturn(1);
+
+        UserResponse response = useCase.execute("alice", Set.of("ROLE_USER"),
+                new UpdateProfileRequest("Alice", null, null));
+
+        assertEquals("alice", response.getUsername());
+        assertEquals("Alice", response.getFirstName());
+        assertNull(response.getLastName());
+        assertEquals(Set.of("ROLE_USER"), response.getRoles());
+        // One statement: the UPDATE, nothing loaded before or after
+        verify(userRepository).updateProfile("alice", "Alice", null, null);
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    void emptyRequestSkipsTheUpdate() {
+        useCase.execute("alice", Set.of("ROLE_USER"), new UpdateProfileRequest());
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void unknownUserIsRejected() {
+        when(userRepository.updateProfile(eq("ghost"), any(), any(), any())).thenReturn(0);
+
+        AppException ex = assertThrows(AppException.class, () -> useCase.execute("ghost", Set.of("ROLE_USER"),
+                new UpdateProfileRequest(null, "Ghost", LocalDate.of(2000, 1, 1))));
+
+        assertEquals(IdentityErrorCode.USER_NOT_FOUND, ex.getErrorCode());
+    }
+}
@@ -0,0 +1,57 @@
+package com.finflow.backend.modules.identity.infrastructure.audit;
+
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * occurred_at is stored as UTC wall-clock time whatever the JVM time zone, so rows land in the partition
+ * (and retention window) computed in UTC by maintainPartitions. H2 stands in for MySQL (same DATETIME
+ * semantics: no zone stored).
+ */
+class AuthAuditJdbcRepositoryTest {
+
+    private final TimeZone jvmZone = TimeZone.getDefault();
+    private JdbcTemplate jdbc;
+    private AuthAuditJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        // UTC+7 host: an event at 20:00 UTC on the last day of the month is already next month locally
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Ho_Chi_Minh"));
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:audit-" + System.nanoTime()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+                + ";INIT=RUNSCRIPT FROM 'classpath:loadtest/schema-h2.sql'", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        repository = new AuthAuditJdbcRepository(jdbc, new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    @AfterEach
+    void restoreTimeZone() {
+        TimeZone.setDefault(jvmZone);
+    }
+
+    @Test
+    void storesUtcWallClockTimeAtTheMonthEdge() {
+        Instant occurredAt = Instant.parse("2026-01-31T20:00:00.123Z");
+        repository.insertBatch(List.of(new AuthAuditEvent(0, occurredAt, AuthEventType.LOGIN, "alice", true,
+                null, "127.0.0.1", "junit")));
+
+        assertEquals("2026-01-31 20:00:00.123",
+                jdbc.queryForObject("SELECT CAST(occurred_at AS VARCHAR) FROM auth_audit_log", String.class));
+
+        List<AuthAuditEvent> page = repository.findPage(Instant.parse("2026-01-31T00:00:00Z"),
+                Instant.parse("2026-02-01T00:00:00Z"), "alice", null, null, null, 10);
+        assertEquals(List.of(occurredAt), page.stream().map(AuthAuditEvent::occurredAt).toList());
+    }
+}
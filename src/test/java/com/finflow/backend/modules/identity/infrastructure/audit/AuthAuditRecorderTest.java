@@ -0,0 +1,64 @@
+package com.finflow.backend.modules.identity.infrastructure.audit;
+
+import com.finflow.backend.modules.identity.domain.enums.AuthEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AuthAuditRecorderTest {
+
+    private final AuthAuditJdbcRepository repository = mock(AuthAuditJdbcRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AuthAuditRecorder recorder(int capacity) {
+        return new AuthAuditRecorder(repository, meterRegistry, capacity, 500, 5, false, 2, 12);
+    }
+
+    @Test
+    void writerDrainsEveryPublishedEventBeforeStopping() throws Exception {
+        List<AuthAuditEvent> written = new CopyOnWriteArrayList<>();
+        doAnswer(inv -> written.addAll(inv.getArgument(0))).when(repository).insertBatch(anyList());
+        AuthAuditRecorder recorder = recorder(4096);
+        recorder.start();
+
+        int producers = 4;
+        int perProducer = 500;
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            String username = "user" + p;
+            Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    recorder.failure(AuthEventType.LOGIN, username, "BadCredentialsException");
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        recorder.stop();
+
+        assertEquals(producers * perProducer, written.size());
+        assertTrue(written.stream().noneMatch(AuthAuditEvent::success));
+        assertEquals(producers * perProducer, meterRegistry.get("identity.audit.written").counter().count());
+        verify(repository, never()).createTableIfMissing();
+        verify(repository).maintainPartitions(2, 12);
+    }
+
+    @Test
+    void fullBufferDropsInsteadOfBlocking() {
+        AuthAuditRecorder recorder = recorder(2);
+
+        recorder.success(AuthEventType.LOGOUT, "alice");
+        recorder.success(AuthEventType.LOGOUT, "alice");
+        recorder.success(AuthEventType.LOGOUT, "alice");
+
+        assertEquals(2, meterRegistry.get("identity.audit.published").counter().count());
+        assertEquals(1, meterRegistry.get("identity.audit.dropped").counter().count());
+    }
+}
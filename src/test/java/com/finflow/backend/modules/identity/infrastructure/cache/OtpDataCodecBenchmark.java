@@ -0,0 +1,78 @@
+package com.finflow.backend.modules.identity.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finflow.backend.common.config.JacksonConfig;
+import com.finflow.backend.common.redis.RedisCodec;
+import com.finflow.backend.common.redis.RedisCodecRegistry;
+import com.finflow.backend.modules.identity.application.usecase.SendOtpUseCase.OtpData;
+import com.finflow.backend.modules.identity.domain.enums.OtpPurpose;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OtpData as RedisService stores it: codec lookup in {@link RedisCodecRegistry} + encode / decode, with the
+ * registered binary {@link OtpDataCodec} and with the JSON fallback a registry without it uses.
+ * <p>
+ * Run: {@code mvn -Pbenchmark -DskipTests test -Djmh.include=OtpDataCodecBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OtpDataCodecBenchmark {
+
+    private final OtpData otp = new OtpData("042517", LocalDateTime.of(2026, 3, 1, 10, 15, 30, 123_456_789),
+            OtpPurpose.RESET_PASSWORD);
+
+    private RedisCodecRegistry binaryRegistry;
+    private RedisCodecRegistry jsonRegistry;
+    private byte[] binaryBytes;
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        binaryRegistry = new RedisCodecRegistry(objectMapper, List.of(new OtpDataCodec(objectMapper)));
+        jsonRegistry = new RedisCodecRegistry(objectMapper, List.of());
+        binaryBytes = binaryEncode();
+        jsonBytes = jsonEncode();
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return codec(binaryRegistry).encode(otp);
+    }
+
+    @Benchmark
+    public OtpData binaryDecode() {
+        return codec(binaryRegistry).decode(binaryBytes);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return codec(jsonRegistry).encode(otp);
+    }
+
+    @Benchmark
+    public OtpData jsonDecode() {
+        return codec(jsonRegistry).decode(jsonBytes);
+    }
+
+    private static RedisCodec<OtpData> codec(RedisCodecRegistry registry) {
+        return registry.forType(OtpData.class);
+    }
+}
@@ -0,0 +1,44 @@
+package com.finflow.backend.modules.identity.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finflow.backend.common.config.JacksonConfig;
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.common.redis.JsonRedisCodec;
+import com.finflow.backend.modules.identity.application.usecase.SendOtpUseCase.OtpData;
+import com.finflow.backend.modules.identity.domain.enums.OtpPurpose;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OtpDataCodecTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final OtpDataCodec binary = new OtpDataCodec(objectMapper);
+    private final JsonRedisCodec<OtpData> json = new JsonRedisCodec<>(objectMapper, OtpData.class);
+    private final OtpData otp = new OtpData("042517", LocalDateTime.of(2026, 3, 1, 10, 15, 30, 123_456_789),
+            OtpPurpose.RESET_PASSWORD);
+
+    @Test
+    void roundTripsAndIsMuchSmallerThanJson() {
+        byte[] encoded = binary.encode(otp);
+
+        assertEquals(otp, binary.decode(encoded));
+        assertTrue(encoded.length * 2 < json.encode(otp).length,
+                () -> "binary " + encoded.length + " B vs json " + json.encode(otp).length + " B");
+    }
+
+    @Test
+    void readsEntriesWrittenAsJsonBeforeTheCodecExisted() {
+        assertEquals(otp, binary.decode(json.encode(otp)));
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        byte[] encoded = binary.encode(otp);
+        encoded[0] = 9;
+
+        assertThrows(AppException.class, () -> binary.decode(encoded));
+    }
+}
@@ -0,0 +1,89 @@
+package com.finflow.backend.modules.identity.infrastructure.configuration;
+
+import com.finflow.backend.common.resilience.CircuitBreaker;
+import com.finflow.backend.common.resilience.DependencyGuard;
+import com.finflow.backend.common.resilience.DependencyUnavailableException;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GoogleTokenVerifierTest {
+
+    private final DependencyGuard guard = DependencyGuard.builder().name("google").maxConcurrent(5).timeoutMillis(200)
+            .windowSize(10).minimumCalls(3).failureRateThreshold(50).openDurationMillis(60_000)
+            .isFailure(e -> e instanceof UncheckedIOException).build();
+
+    @Test
+    void hungKeyFetchIsCutByTheHardTimeoutThenShortCircuited() {
+        GoogleTokenVerifier verifier = new GoogleTokenVerifier(new StubVerifier(() -> {
+            Thread.sleep(Long.MAX_VALUE);
+            return null;
+        }), guard);
+
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            assertEquals(DependencyUnavailableException.Reason.TIMEOUT,
+                    assertThrows(DependencyUnavailableException.class, () -> verifier.verify("t")).getReason());
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, guard.state());
+        assertEquals(DependencyUnavailableException.Reason.CIRCUIT_OPEN,
+                assertThrows(DependencyUnavailableException.class, () -> verifier.verify("t")).getReason());
+    }
+
+    @Test
+    void invalidTokenIsABusinessErrorNotAnOutage() {
+        GoogleTokenVerifier verifier = new GoogleTokenVerifier(new StubVerifier(() -> null), guard);
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(IllegalArgumentException.class, () -> verifier.verify("t"));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, guard.state());
+    }
+
+    @Test
+    void unreachableGoogleIsAnOutage() {
+        GoogleTokenVerifier verifier = new GoogleTokenVerifier(new StubVerifier(() -> {
+            throw new IOException("connection refused");
+        }), guard);
+
+        assertEquals(DependencyUnavailableException.Reason.FAILURE,
+                assertThrows(DependencyUnavailableException.class, () -> verifier.verify("t")).getReason());
+    }
+
+    @FunctionalInterface
+    private interface VerifyCall {
+        GoogleIdToken verify() throws Exception;
+    }
+
+    private static final class StubVerifier extends GoogleIdTokenVerifier {
+        private final VerifyCall call;
+
+        StubVerifier(VerifyCall call) {
+            super(new NetHttpTransport(), new GsonFactory());
+            this.call = call;
+        }
+
+        @Override
+        public GoogleIdToken verify(String idTokenString) throws IOException {
+            try {
+                return call.verify();
+            } catch (IOException e) {
+                throw e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.finflow.backend.modules.identity.infrastructure.configuration;
+
+import com.finflow.backend.common.id.UuidV7;
+import com.finflow.backend.modules.identity.domain.repository.InvalidatedTokenRepository;
+import com.finflow.backend.modules.identity.infrastructure.metrics.IdentityMetrics;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.security.KeyPair;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Access token issue (RSA-2048 sign) and verify (signature + timestamp + revocation validators) through the
+ * {@link SecurityConfig} beans, so request timing and JFR wrappers are included. Blacklist and session lookups are
+ * stubbed to "active": this is the CPU cost only, the DB/Redis round-trips come on top.
+ * <p>
+ * Run: {@code mvn -Pbenchmark -DskipTests test -Djmh.include=JwtBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtEncoder encoder;
+    private JwtDecoder decoder;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        InvalidatedTokenRepository blacklist = mock(InvalidatedTokenRepository.class, withSettings().stubOnly());
+        SessionRegistry sessions = new SessionRegistry(null, 20) {
+            @Override
+            public boolean isActive(String username, String sid) {
+                return true;
+            }
+        };
+        SecurityConfig config = new SecurityConfig(null, blacklist, sessions, new IdentityMetrics(new SimpleMeterRegistry()));
+        KeyPair keyPair = config.keyPair();
+        encoder = config.jwtEncoder(keyPair);
+        decoder = config.jwtDecoder(keyPair);
+        accessToken = issue();
+    }
+
+    @Benchmark
+    public String issue() {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("self")
+                .issuedAt(now)
+                .expiresAt(now.plus(TokenConfig.ACCESS_TOKEN_EXPIRY_SECONDS, ChronoUnit.SECONDS))
+                .subject("alice")
+                .claim("scope", "ROLE_USER")
+                .claim("type", "access")
+                .claim(TokenConfig.SESSION_ID_CLAIM, "0190c6d2-7a3e-7b41-9c55-2f1d8e6b9a10")
+                .id(UuidV7.generate().toString())
+                .build();
+        return encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    }
+
+    @Benchmark
+    public Jwt verify() {
+        return decoder.decode(accessToken);
+    }
+}
@@ -0,0 +1,36 @@
+package com.finflow.backend.modules.identity.infrastructure.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SecurityConfig#onManagementPort}: only the actuator port skips authentication.
+ */
+class ManagementPortMatcherTest {
+
+    @Test
+    void matchesRequestsOnTheManagementPort() {
+        RequestMatcher matcher = SecurityConfig.onManagementPort(
+                new MockEnvironment().withProperty("local.management.port", "8081"));
+
+        assertTrue(matcher.matches(request(8081)));
+        assertFalse(matcher.matches(request(8080)));
+    }
+
+    @Test
+    void neverMatchesWhenActuatorSharesTheApplicationPort() {
+        RequestMatcher matcher = SecurityConfig.onManagementPort(new MockEnvironment());
+
+        assertFalse(matcher.matches(request(8080)));
+    }
+
+    private static MockHttpServletRequest request(int localPort) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        request.setLocalPort(localPort);
+        return request;
+    }
+}
@@ -0,0 +1,95 @@
+package com.finflow.backend.modules.identity.infrastructure.configuration;
+
+import com.finflow.backend.common.id.UuidV7;
+import com.finflow.backend.common.resilience.DependencyUnavailableException;
+import com.finflow.backend.modules.identity.domain.repository.InvalidatedTokenRepository;
+import com.finflow.backend.modules.identity.infrastructure.metrics.IdentityMetrics;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.security.KeyPair;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Session part of the access token revocation check in {@link SecurityConfig#jwtDecoder}.
+ */
+class SessionRevocationCheckTest {
+
+    private final InvalidatedTokenRepository blacklist = mock(InvalidatedTokenRepository.class);
+    private final SessionRegistry sessionRegistry = mock(SessionRegistry.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private JwtEncoder encoder;
+    private JwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        SecurityConfig config = new SecurityConfig(null, blacklist, sessionRegistry, new IdentityMetrics(meterRegistry));
+        KeyPair keyPair = config.keyPair();
+        encoder = config.jwtEncoder(keyPair);
+        decoder = config.jwtDecoder(keyPair);
+    }
+
+    @Test
+    void activeSessionIsAccepted() {
+        when(sessionRegistry.isActive("alice", "s1")).thenReturn(true);
+
+        assertEquals("alice", decoder.decode(token("s1")).getSubject());
+    }
+
+    @Test
+    void revokedSessionIsRejected() {
+        when(sessionRegistry.isActive("alice", "s1")).thenReturn(false);
+
+        JwtValidationException ex = assertThrows(JwtValidationException.class, () -> decoder.decode(token("s1")));
+        assertTrue(ex.getErrors().stream().anyMatch(e -> e.getErrorCode().equals("session_revoked")));
+    }
+
+    @Test
+    void sessionCheckFallsBackToTheBlacklistWhenRedisIsUnavailable() {
+        when(sessionRegistry.isActive(any(), any())).thenThrow(new DependencyUnavailableException(
+                "redis", DependencyUnavailableException.Reason.CIRCUIT_OPEN, null));
+
+        assertEquals("alice", decoder.decode(token("s1")).getSubject());
+        assertEquals(1.0, meterRegistry.get("identity.sessions.check.skipped").counter().count());
+
+        // The DB blacklist still applies while the session check is skipped
+        when(blacklist.existsById(any())).thenReturn(true);
+        JwtValidationException ex = assertThrows(JwtValidationException.class, () -> decoder.decode(token("s1")));
+        assertTrue(ex.getErrors().stream().anyMatch(e -> e.getErrorCode().equals("token_blacklisted")));
+    }
+
+    @Test
+    void tokenWithoutSessionSkipsTheSessionCheck() {
+        assertEquals("alice", decoder.decode(token(null)).getSubject());
+        verifyNoInteractions(sessionRegistry);
+    }
+
+    private String token(String sessionId) {
+        Instant now = Instant.now();
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
+                .issuer("self")
+                .issuedAt(now)
+                .expiresAt(now.plus(TokenConfig.ACCESS_TOKEN_EXPIRY_SECONDS, ChronoUnit.SECONDS))
+                .subject("alice")
+                .claim("scope", "ROLE_USER")
+                .claim("type", "access")
+                .id(UuidV7.generate().toString());
+        if (sessionId != null) {
+            claims.claim(TokenConfig.SESSION_ID_CLAIM, sessionId);
+        }
+        return encoder.encode(JwtEncoderParameters.from(claims.build())).getTokenValue();
+    }
+}
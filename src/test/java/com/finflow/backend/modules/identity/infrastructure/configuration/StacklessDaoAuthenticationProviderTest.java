@@ -0,0 +1,47 @@
+package com.finflow.backend.modules.identity.infrastructure.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StacklessDaoAuthenticationProviderTest {
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+    private final StacklessDaoAuthenticationProvider provider = new StacklessDaoAuthenticationProvider(username -> {
+        if (!"alice".equals(username)) {
+            throw AuthenticationFailures.userNotFound("User not found: " + username);
+        }
+        return User.withUsername("alice").password(encoder.encode("secret")).authorities("ROLE_USER").build();
+    });
+
+    StacklessDaoAuthenticationProviderTest() {
+        provider.setPasswordEncoder(encoder);
+    }
+
+    @Test
+    void authenticatesValidCredentials() {
+        Authentication result = provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("alice", "secret"));
+        assertTrue(result.isAuthenticated());
+        assertEquals("alice", result.getName());
+    }
+
+    @Test
+    void wrongPasswordIsAStacklessBadCredentials() {
+        BadCredentialsException e = assertThrows(BadCredentialsException.class,
+                () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("alice", "wrong")));
+        assertEquals(0, e.getStackTrace().length);
+    }
+
+    @Test
+    void unknownUserIsHiddenAsStacklessBadCredentials() {
+        BadCredentialsException e = assertThrows(BadCredentialsException.class,
+                () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("mallory", "x")));
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals("Bad credentials", e.getMessage());
+    }
+}
@@ -0,0 +1,112 @@
+package com.finflow.backend.modules.identity.infrastructure.jfr;
+
+import com.finflow.backend.common.exception.AppException;
+import com.finflow.backend.common.redis.RedisService;
+import com.finflow.backend.common.resilience.DependencyUnavailableException;
+import com.finflow.backend.modules.identity.application.usecase.VerifyOtpUseCase;
+import com.finflow.backend.modules.identity.domain.enums.OtpPurpose;
+import com.finflow.backend.modules.identity.infrastructure.audit.AuthAuditRecorder;
+import com.finflow.backend.modules.identity.infrastructure.configuration.StacklessDaoAuthenticationProvider;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuthJfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void bundledProfileEnablesEveryEvent() throws Exception {
+        Map<String, String> settings = profile().getSettings();
+        for (String event : List.of("finflow.auth.JwtSign", "finflow.auth.JwtVerify", "finflow.auth.RevocationLookup",
+                "finflow.auth.PasswordMatch", "finflow.auth.OtpIssue", "finflow.auth.OtpVerify",
+                "finflow.mail.EmailDispatch")) {
+            assertEquals("true", settings.get(event + "#enabled"), event);
+        }
+    }
+
+    @Test
+    void passwordMatchAndOtpRejectionAreRecordedWithOutcomes() throws Exception {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        StacklessDaoAuthenticationProvider provider = new StacklessDaoAuthenticationProvider(username ->
+                User.withUsername(username).password(encoder.encode("secret")).authorities("ROLE_USER").build());
+        provider.setPasswordEncoder(encoder);
+        VerifyOtpUseCase verifyOtp = new VerifyOtpUseCase(mock(RedisService.class), mock(JwtEncoder.class),
+                mock(AuthAuditRecorder.class));
+
+        Path file = tempDir.resolve("auth.jfr");
+        try (Recording recording = new Recording(profile())) {
+            recording.start();
+            provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("alice", "secret"));
+            assertThrows(BadCredentialsException.class,
+                    () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("alice", "wrong")));
+            assertThrows(AppException.class, () -> verifyOtp.execute("alice@example.com", "123456", OtpPurpose.REGISTER));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(List.of("matched", "mismatch"), outcomes(events, "finflow.auth.PasswordMatch"));
+        assertEquals(List.of("OTP_NOT_FOUND"), outcomes(events, "finflow.auth.OtpVerify"));
+        RecordedEvent otp = events.stream().filter(e -> e.getEventType().getName().equals("finflow.auth.OtpVerify"))
+                .findFirst().orElseThrow();
+        assertEquals("REGISTER", otp.getString("purpose"));
+        assertNotNull(otp.getDuration());
+    }
+
+    @Test
+    void otpVerifyIsRecordedWhenRedisIsUnavailable() throws Exception {
+        RedisService redis = mock(RedisService.class);
+        when(redis.get(any(), any())).thenThrow(new DependencyUnavailableException(
+                "redis", DependencyUnavailableException.Reason.CIRCUIT_OPEN, null));
+        VerifyOtpUseCase verifyOtp = new VerifyOtpUseCase(redis, mock(JwtEncoder.class), mock(AuthAuditRecorder.class));
+
+        Path file = tempDir.resolve("otp.jfr");
+        try (Recording recording = new Recording(profile())) {
+            recording.start();
+            assertThrows(DependencyUnavailableException.class,
+                    () -> verifyOtp.execute("alice@example.com", "123456", OtpPurpose.REGISTER));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertEquals(List.of("DEPENDENCY_UNAVAILABLE"),
+                outcomes(RecordingFile.readAllEvents(file), "finflow.auth.OtpVerify"));
+    }
+
+    private static List<String> outcomes(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .map(e -> e.getString("outcome"))
+                .toList();
+    }
+
+    private static Configuration profile() throws Exception {
+        try (Reader reader = new InputStreamReader(
+                AuthJfrEventsTest.class.getResourceAsStream("/jfr/finflow.jfc"), StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.finflow.backend.modules.identity.infrastructure.persistence;
+
+import com.finflow.backend.common.id.UuidV7;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Insert throughput and index size of the old (VARCHAR(36), random v4) vs new (BINARY(16), v7)
+ * primary key layout for a users-shaped table.
+ * Row count: -Dbench.pk.rows (default 200000). Tagged "benchmark", so only run with -Dgroups=benchmark
+ * (see pom.xml); skipped when Docker is not available.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class PrimaryKeyLayoutComparisonTest {
+
+    private static final int ROWS = Integer.getInteger("bench.pk.rows", 200_000);
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    static final MySQLContainer MYSQL = new MySQLContainer("mysql:8.4")
+            .withCommand("--innodb-buffer-pool-size=256M");
+
+    @Test
+    void binaryTimeOrderedKeysInsertFasterAndIndexSmaller() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                MYSQL.getJdbcUrl() + "?rewriteBatchedStatements=true", MYSQL.getUsername(), MYSQL.getPassword())) {
+
+            createTable(connection, "bench_users_varchar", "VARCHAR(36)");
+            createTable(connection, "bench_users_binary", "BINARY(16)");
+
+            double varcharRate = insert(connection, "bench_users_varchar", false);
+            double binaryRate = insert(connection, "bench_users_binary", true);
+
+            long[] varcharSize = tableSize(connection, "bench_users_varchar");
+            long[] binarySize = tableSize(connection, "bench_users_binary");
+
+            String summary = String.format(
+                    "VARCHAR(36)+v4: %.0f rows/s, data %d KB, sec. index %d KB; BINARY(16)+v7: %.0f rows/s, data %d KB, sec. index %d KB",
+                    varcharRate, varcharSize[0] / 1024, varcharSize[1] / 1024,
+                    binaryRate, binarySize[0] / 1024, binarySize[1] / 1024);
+
+            // Secondary indexes carry the PK, so they must shrink; throughput is not asserted
+            assertTrue(binarySize[1] < varcharSize[1], () -> "BINARY(16) secondary indexes should be smaller (" + summary + ")");
+        }
+    }
+
+    private void createTable(Connection connection, String table, String idType) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " ("
+                    + "id " + idType + " NOT NULL PRIMARY KEY, "
+                    + "username VARCHAR(255) NOT NULL UNIQUE, "
+                    + "email VARCHAR(255) NOT NULL UNIQUE, "
+                    + "register_date DATETIME(6)) ENGINE=InnoDB");
+        }
+    }
+
+    private double insert(Connection connection, String table, boolean binary) throws SQLException {
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, username, email, register_date) VALUES (?, ?, ?, ?)")) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (int i = 0; i < ROWS; i++) {
+                if (binary) {
+                    insert.setBytes(1, UuidV7.toBytes(UuidV7.generate()));
+                } else {
+                    insert.setString(1, UUID.randomUUID().toString());
+                }
+                insert.setString(2, "user" + i);
+                insert.setString(3, "user" + i + "@example.com");
+                insert.setTimestamp(4, now);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        return ROWS / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private long[] tableSize(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + table);
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT DATA_LENGTH, INDEX_LENGTH FROM information_schema.TABLES "
+                            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + table + "'")) {
+                rs.next();
+                return new long[]{rs.getLong(1), rs.getLong(2)};
+            }
+        }
+    }
+}
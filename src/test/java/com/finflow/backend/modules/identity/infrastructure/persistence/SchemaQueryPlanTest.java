@@ -0,0 +1,120 @@
+package com.finflow.backend.modules.identity.infrastructure.persistence;
+
+import com.finflow.backend.common.id.UuidV7;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Applies db/migration to an empty MySQL, then EXPLAINs the SQL behind the hot repository
+ * queries and fails on full table scans. A new query without a matching index shows up here
+ * instead of in production. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaQueryPlanTest {
+
+    private static final int ROWS = 20_000;
+
+    @Container
+    static final MySQLContainer MYSQL = new MySQLContainer("mysql:8.4");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        Flyway flyway = Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load();
+        flyway.migrate();
+        // Same check the application runs at startup
+        flyway.validate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.update("INSERT INTO roles (name, description) VALUES ('ROLE_USER', 'User'), ('ROLE_ADMIN', 'Admin')");
+        Instant now = Instant.now();
+        List<Object[]> users = new ArrayList<>(ROWS);
+        List<Object[]> userRoles = new ArrayList<>(ROWS);
+        List<Object[]> tokens = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            byte[] id = UuidV7.toBytes(UuidV7.generate());
+            users.add(new Object[]{id, "user" + i, "user" + i + "@example.com", "x",
+                    i % 10 != 0, i % 2 == 0, Timestamp.from(now.minusSeconds(i))});
+            userRoles.add(new Object[]{id, i % 100 == 0 ? "ROLE_ADMIN" : "ROLE_USER"});
+            // ~5% already expired, the rest spread over the refresh window
+            long offsetMinutes = i % 20 == 0 ? -(i % 60) - 1 : i % 10_080;
+            tokens.add(new Object[]{UuidV7.toBytes(UuidV7.generate()),
+                    Timestamp.from(now.plus(offsetMinutes, ChronoUnit.MINUTES))});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO users (id, username, email, password, is_active, account_verified, register_date)
+                VALUES (?, ?, ?, ?, ?, ?, ?)""", users);
+        jdbcTemplate.batchUpdate("INSERT INTO user_roles (user_id, role_name) VALUES (?, ?)", userRoles);
+        jdbcTemplate.batchUpdate("INSERT INTO invalidated_tokens (id, expiry_time) VALUES (?, ?)", tokens);
+        jdbcTemplate.execute("ANALYZE TABLE users, user_roles, invalidated_tokens");
+    }
+
+    @Test
+    void userLookupsUseUniqueIndexes() {
+        assertIndexed("SELECT * FROM users WHERE username = 'user42'");
+        assertIndexed("SELECT * FROM users WHERE email = 'user42@example.com'");
+        assertIndexed("SELECT 1 FROM users WHERE username = 'user42' LIMIT 1");
+        assertIndexed("SELECT 1 FROM users WHERE email = 'user42@example.com' LIMIT 1");
+        assertIndexed("UPDATE users SET is_biometric_enabled = 1 WHERE username = 'user42'");
+        assertIndexed("UPDATE users SET first_name = 'A', last_name = 'B' WHERE username = 'user42'");
+    }
+
+    @Test
+    void roleFetchUsesPrimaryKey() {
+        assertIndexed("""
+                SELECT r.* FROM user_roles ur JOIN roles r ON r.name = ur.role_name
+                WHERE ur.user_id = (SELECT id FROM users WHERE username = 'user42')""");
+    }
+
+    @Test
+    void tokenCleanupUsesExpiryIndex() {
+        assertIndexed("SELECT COUNT(*) FROM invalidated_tokens WHERE expiry_time < NOW(6)");
+        assertIndexed("DELETE FROM invalidated_tokens WHERE expiry_time < NOW(6)");
+    }
+
+    @Test
+    void directoryPageUsesKeysetIndex() {
+        assertIndexed("""
+                SELECT id FROM users WHERE is_active = 1 AND account_verified = 1
+                ORDER BY register_date DESC, id DESC LIMIT 50""");
+        assertIndexed("SELECT user_id FROM user_roles WHERE role_name = 'ROLE_ADMIN'");
+    }
+
+    @Test
+    void auditPageUsesOccurredAtIndex() {
+        assertIndexed("""
+                SELECT * FROM auth_audit_log
+                WHERE occurred_at >= NOW() - INTERVAL 1 DAY AND occurred_at < NOW() AND username = 'user42'
+                ORDER BY occurred_at DESC, id DESC LIMIT 50""");
+    }
+
+    /** Every table access in the plan must go through an index (access type other than ALL). */
+    private static void assertIndexed(String sql) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+        assertFalse(plan.isEmpty(), sql);
+        for (Map<String, Object> row : plan) {
+            if (row.get("table") == null) {
+                continue; // "No tables used" / "Impossible WHERE" rows
+            }
+            assertNotEquals("ALL", row.get("type"), () -> "Full scan on " + row.get("table") + ":\n" + sql + "\n" + plan);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.finflow.backend.modules.identity.infrastructure.persistence;
+
+import com.finflow.backend.modules.identity.application.directory.UserDirectoryCursor;
+import com.finflow.backend.modules.identity.application.directory.UserDirectoryEntry;
+import com.finflow.backend.modules.identity.application.directory.UserDirectoryQuery;
+import com.finflow.backend.modules.identity.application.directory.UserDirectorySort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admin directory page latency at the first page vs. the last page of {@code rows} users (keyset pagination:
+ * both should cost about the same; OFFSET would be ~rows/50 times slower at the end). Needs Docker (MySQL 8.4
+ * via Testcontainers); the index plan itself is asserted in UserDirectoryJdbcRepositoryTest.
+ * <p>
+ * Run: {@code mvn -Pbenchmark -DskipTests test -Djmh.include=UserDirectoryBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserDirectoryBenchmark {
+
+    private static final int PAGE = 50;
+    private static final UserDirectoryQuery QUERY = new UserDirectoryQuery(
+            UserDirectorySort.REGISTERED, null, null, null, null, null, null);
+
+    @Param("100000")
+    public int rows;
+
+    private MySQLContainer mysql;
+    private SingleConnectionDataSource dataSource;
+    private UserDirectoryJdbcRepository repository;
+    private UserDirectoryCursor deepCursor;
+
+    @Setup
+    public void setUp() {
+        mysql = new MySQLContainer("mysql:8.4").withUrlParam("rewriteBatchedStatements", "true");
+        mysql.start();
+        dataSource = new SingleConnectionDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword(), true);
+        UserDirectoryFixture.createAndSeed(new JdbcTemplate(dataSource), rows);
+        repository = new UserDirectoryJdbcRepository(new NamedParameterJdbcTemplate(dataSource));
+
+        UserDirectoryEntry deep = repository.findPage(QUERY, null, rows - PAGE).getLast();
+        deepCursor = new UserDirectoryCursor(UserDirectorySort.REGISTERED, deep.registerDate(), deep.id(), null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.destroy();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public List<UserDirectoryEntry> firstPage() {
+        return repository.findPage(QUERY, null, PAGE);
+    }
+
+    @Benchmark
+    public List<UserDirectoryEntry> lastPage() {
+        return repository.findPage(QUERY, deepCursor, PAGE);
+    }
+}
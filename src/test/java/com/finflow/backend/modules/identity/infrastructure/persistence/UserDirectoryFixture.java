@@ -0,0 +1,57 @@
+package com.finflow.backend.modules.identity.infrastructure.persistence;
+
+import com.finflow.backend.common.id.UuidV7;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * users / user_roles with the directory indexes of V1__identity_baseline, seeded with {@code rows} users:
+ * three registrations per second (ties on register_date), every 10th user inactive, every 2nd verified,
+ * every 100th an admin. Shared by {@link UserDirectoryJdbcRepositoryTest} and {@link UserDirectoryBenchmark}.
+ */
+final class UserDirectoryFixture {
+
+    private UserDirectoryFixture() {
+    }
+
+    static void createAndSeed(JdbcTemplate jdbcTemplate, int rows) {
+        jdbcTemplate.execute("""
+                CREATE TABLE users (
+                    id BINARY(16) NOT NULL PRIMARY KEY,
+                    username VARCHAR(255) NOT NULL UNIQUE,
+                    email VARCHAR(255) NOT NULL UNIQUE,
+                    first_name VARCHAR(255), last_name VARCHAR(255),
+                    is_active BIT(1), account_verified BIT(1),
+                    register_date DATETIME(6), last_login DATETIME(6),
+                    INDEX idx_users_register_date (register_date, id),
+                    INDEX idx_users_status_register_date (is_active, account_verified, register_date, id)
+                ) ENGINE=InnoDB""");
+        jdbcTemplate.execute("""
+                CREATE TABLE user_roles (
+                    user_id BINARY(16) NOT NULL, role_name VARCHAR(255) NOT NULL,
+                    PRIMARY KEY (user_id, role_name),
+                    INDEX idx_user_roles_role (role_name, user_id)
+                ) ENGINE=InnoDB""");
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<Object[]> users = new ArrayList<>(rows);
+        List<Object[]> roles = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            byte[] id = UuidV7.toBytes(UuidV7.generate());
+            // Several users per second so ties on register_date are exercised
+            Timestamp registered = Timestamp.valueOf(base.plusSeconds(i / 3));
+            users.add(new Object[]{id, "user%07d".formatted(i), "user%07d@example.com".formatted(i),
+                    "First", "Last", i % 10 != 0, i % 2 == 0, registered});
+            roles.add(new Object[]{id, i % 100 == 0 ? "ROLE_ADMIN" : "ROLE_USER"});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO users (id, username, email, first_name, last_name, is_active, account_verified, register_date)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)""", users);
+        jdbcTemplate.batchUpdate("INSERT INTO user_roles (user_id, role_name) VALUES (?, ?)", roles);
+        jdbcTemplate.execute("ANALYZE TABLE users, user_roles");
+    }
+}
@@ -0,0 +1,130 @@
+package com.finflow.backend.modules.identity.infrastructure.persistence;
+
+import com.finflow.backend.common.id.UuidV7;
+import com.finflow.backend.modules.identity.application.directory.UserDirectoryCursor;
+import com.finflow.backend.modules.identity.application.directory.UserDirectoryEntry;
+import com.finflow.backend.modules.identity.application.directory.UserDirectoryQuery;
+import com.finflow.backend.modules.identity.application.directory.UserDirectorySort;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Keyset correctness (no gaps/duplicates across pages) and index usage of the page queries, first and deep.
+ * Row count: -Dbench.directory.rows (default 20000). First vs. deep page latency is measured by
+ * UserDirectoryBenchmark. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class UserDirectoryJdbcRepositoryTest {
+
+    private static final int ROWS = Integer.getInteger("bench.directory.rows", 20_000);
+    private static final int PAGE = 50;
+
+    @Container
+    static final MySQLContainer MYSQL = new MySQLContainer("mysql:8.4")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static UserDirectoryJdbcRepository repository;
+
+    @BeforeAll
+    static void seed() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new UserDirectoryJdbcRepository(new NamedParameterJdbcTemplate(dataSource));
+
+        UserDirectoryFixture.createAndSeed(jdbcTemplate, ROWS);
+    }
+
+    @Test
+    void registeredOrderWalksEveryFilteredRowExactlyOnce() {
+        UserDirectoryQuery query = new UserDirectoryQuery(
+                UserDirectorySort.REGISTERED, null, "ROLE_ADMIN", false, null, null, null);
+
+        Set<UUID> seen = new HashSet<>();
+        UserDirectoryCursor cursor = null;
+        List<UserDirectoryEntry> page;
+        do {
+            page = repository.findPage(query, cursor, PAGE);
+            for (UserDirectoryEntry entry : page) {
+                assertTrue(seen.add(entry.id()), "duplicate row across pages");
+                assertEquals(List.of("ROLE_ADMIN"), entry.roles());
+            }
+            if (!page.isEmpty()) {
+                UserDirectoryEntry last = page.getLast();
+                cursor = new UserDirectoryCursor(UserDirectorySort.REGISTERED, last.registerDate(), last.id(), null);
+            }
+        } while (page.size() == PAGE);
+
+        // Admins are every 100th user and every 10th user is inactive, so all admins match
+        long expected = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM users u JOIN user_roles r ON r.user_id = u.id
+                WHERE r.role_name = 'ROLE_ADMIN' AND u.is_active = FALSE""", Long.class);
+        assertEquals((ROWS + 99) / 100, expected);
+        assertEquals(expected, seen.size());
+    }
+
+    @Test
+    void usernamePrefixPagesInUsernameOrder() {
+        UserDirectoryQuery query = new UserDirectoryQuery(
+                UserDirectorySort.USERNAME, "user00001", null, null, null, null, null);
+
+        List<UserDirectoryEntry> first = repository.findPage(query, null, PAGE);
+        List<UserDirectoryEntry> second = repository.findPage(query,
+                new UserDirectoryCursor(UserDirectorySort.USERNAME, null, null, first.getLast().username()), PAGE);
+
+        assertEquals("user0000100", first.getFirst().username());
+        assertEquals("user0000150", second.getFirst().username());
+    }
+
+    @Test
+    void pageQueriesAreIndexRangeScansWithoutFilesort() {
+        for (String sql : List.of(
+                "SELECT k.id FROM users k ORDER BY k.register_date DESC, k.id DESC LIMIT 51",
+                "SELECT k.id FROM users k WHERE k.is_active = TRUE AND k.account_verified = TRUE"
+                        + " ORDER BY k.register_date DESC, k.id DESC LIMIT 51",
+                "SELECT k.id FROM users k WHERE k.username LIKE 'user00%' ORDER BY k.username LIMIT 51")) {
+            Map<String, Object> plan = jdbcTemplate.queryForMap("EXPLAIN " + sql);
+            String extra = String.valueOf(plan.get("Extra"));
+            assertNotNull(plan.get("key"), "no index used: " + sql);
+            assertFalse(extra.contains("Using filesort"), "filesort in: " + sql + " -> " + extra);
+        }
+    }
+
+    @Test
+    void deepPageIsARangeScanOverOnlyTheRemainingRows() {
+        UserDirectoryQuery query = new UserDirectoryQuery(
+                UserDirectorySort.REGISTERED, null, null, null, null, null, null);
+        UserDirectoryEntry deep = repository.findPage(query, null, ROWS - PAGE).getLast();
+        Timestamp afterDate = Timestamp.valueOf(deep.registerDate());
+
+        // Inner (id-picking) query of findPage for a cursor PAGE rows before the end
+        Map<String, Object> plan = jdbcTemplate.queryForMap("""
+                EXPLAIN SELECT k.id FROM users k
+                WHERE (k.register_date < ? OR (k.register_date = ? AND k.id < ?))
+                ORDER BY k.register_date DESC, k.id DESC LIMIT 51""",
+                afterDate, afterDate, UuidV7.toBytes(deep.id()));
+
+        assertEquals("idx_users_register_date", plan.get("key"));
+        assertEquals("range", plan.get("type"));
+        assertFalse(String.valueOf(plan.get("Extra")).contains("Using filesort"));
+        // The range starts at the cursor: the estimate covers the ~PAGE remaining rows, not the ROWS skipped
+        long estimatedRows = ((Number) plan.get("rows")).longValue();
+        assertTrue(estimatedRows < ROWS / 10, "deep page would examine " + estimatedRows + " rows");
+    }
+}
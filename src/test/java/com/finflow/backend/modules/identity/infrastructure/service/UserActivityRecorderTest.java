@@ -0,0 +1,113 @@
+package com.finflow.backend.modules.identity.infrastructure.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserActivityRecorderTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void coalescesEventsPerUserIntoOneBatchedUpdate() {
+        UserActivityRecorder recorder = new UserActivityRecorder(jdbcTemplate, meterRegistry, 100, 500);
+
+        recorder.recordLogin("alice");
+        recorder.recordLogin("alice");
+        recorder.recordActivity("alice");
+        recorder.recordLogin("bob");
+        assertEquals(2, recorder.pendingCount());
+        assertEquals(2.0, meterRegistry.get("identity.activity.pending").gauge().value());
+
+        recorder.flush();
+
+        ArgumentCaptor<Collection<Map.Entry<String, UserActivityRecorder.PendingActivity>>> rows =
+                ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), rows.capture(), eq(2),
+                any(ParameterizedPreparedStatementSetter.class));
+
+        List<Map.Entry<String, UserActivityRecorder.PendingActivity>> flushed = List.copyOf(rows.getValue());
+        assertEquals("alice", flushed.get(0).getKey());
+        assertEquals(2, flushed.get(0).getValue().logins());
+        assertNotNull(flushed.get(0).getValue().lastActiveAt());
+        assertEquals("bob", flushed.get(1).getKey());
+        assertEquals(0, recorder.pendingCount());
+        assertEquals(1, meterRegistry.get("identity.activity.flush").timer().count());
+    }
+
+    @Test
+    void dropsNewUsersWhenPendingMapIsFull() {
+        UserActivityRecorder recorder = new UserActivityRecorder(jdbcTemplate, meterRegistry, 1, 500);
+
+        recorder.recordLogin("alice");
+        recorder.recordLogin("bob");
+        recorder.recordLogin("alice"); // existing entry still coalesces
+
+        assertEquals(1, recorder.pendingCount());
+        assertEquals(1.0, meterRegistry.get("identity.activity.dropped").counter().count());
+    }
+
+    @Test
+    void drainsPendingActivityOnShutdown() {
+        UserActivityRecorder recorder = new UserActivityRecorder(jdbcTemplate, meterRegistry, 100, 500);
+        recorder.recordLogin("alice");
+
+        recorder.drainOnShutdown();
+
+        verify(jdbcTemplate).batchUpdate(anyString(), anyCollection(), eq(1), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(0, recorder.pendingCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void requeuesFailedBatchForTheNextFlush() {
+        UserActivityRecorder recorder = new UserActivityRecorder(jdbcTemplate, meterRegistry, 100, 500);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new QueryTimeoutException("db down"))
+                .thenReturn(new int[][]{{1}});
+        recorder.recordLogin("alice");
+
+        recorder.flush();
+        assertEquals(1, recorder.pendingCount());
+        assertEquals(1.0, meterRegistry.get("identity.activity.requeued").counter().count());
+
+        recorder.recordLogin("alice"); // merges with the re-queued entry
+        recorder.flush();
+
+        ArgumentCaptor<Collection<Map.Entry<String, UserActivityRecorder.PendingActivity>>> rows =
+                ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), rows.capture(), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(2, List.copyOf(rows.getValue()).get(0).getValue().logins());
+        assertEquals(0, recorder.pendingCount());
+        assertEquals(1.0, meterRegistry.get("identity.activity.flushed").counter().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void countsActivityLostWhenShutdownFlushFails() {
+        UserActivityRecorder recorder = new UserActivityRecorder(jdbcTemplate, meterRegistry, 100, 500);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new QueryTimeoutException("db down"));
+        recorder.recordLogin("alice");
+        recorder.recordLogin("bob");
+
+        recorder.drainOnShutdown();
+
+        assertEquals(0, recorder.pendingCount());
+        assertEquals(2.0, meterRegistry.get("identity.activity.dropped").counter().count());
+    }
+}
@@ -0,0 +1,116 @@
+package com.finflow.backend.modules.identity.infrastructure.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finflow.backend.common.redis.RedisCodecRegistry;
+import com.finflow.backend.common.redis.RedisContainerTest;
+import com.finflow.backend.common.redis.RedisService;
+import com.finflow.backend.modules.identity.infrastructure.configuration.TokenConfig;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against a real Redis so sorted-set trimming and TTLs behave as in production.
+ * Skipped when Docker is not available.
+ */
+class SessionRegistryTest extends RedisContainerTest {
+
+    private static RedisService redisService;
+
+    private MutableClock clock;
+
+    @BeforeAll
+    static void createService() {
+        redisService = new RedisService(template, new RedisCodecRegistry(new ObjectMapper(), List.of()));
+    }
+
+    @BeforeEach
+    void resetClock() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void listsMostRecentFirstAndRevokesOne() {
+        SessionRegistry registry = new SessionRegistry(redisService, 20, clock);
+        String phone = registry.start("alice", "LOGIN");
+        clock.advance(Duration.ofMinutes(1));
+        String laptop = registry.start("alice", "GOOGLE_LOGIN");
+        clock.advance(Duration.ofMinutes(1));
+        assertTrue(registry.touch("alice", phone));
+
+        List<ActiveSession> sessions = registry.list("alice");
+        assertEquals(List.of(phone, laptop), sessions.stream().map(ActiveSession::sessionId).toList());
+        assertEquals("GOOGLE_LOGIN", sessions.get(1).metadata().loginMethod());
+
+        assertTrue(registry.revoke("alice", laptop));
+        assertFalse(registry.isActive("alice", laptop));
+        assertFalse(registry.touch("alice", laptop));
+        assertFalse(registry.revoke("alice", laptop));
+    }
+
+    @Test
+    void revokeAllCanKeepTheCallingSession() {
+        SessionRegistry registry = new SessionRegistry(redisService, 20, clock);
+        String current = registry.start("bob", "LOGIN");
+        registry.start("bob", "LOGIN");
+        registry.start("bob", "LOGIN");
+
+        assertEquals(2, registry.revokeAll("bob", current));
+        assertTrue(registry.isActive("bob", current));
+        assertEquals(1, registry.revokeAll("bob", null));
+        assertTrue(registry.list("bob").isEmpty());
+    }
+
+    @Test
+    void idleSessionsExpireAndOldestAreEvictedOverTheLimit() {
+        SessionRegistry registry = new SessionRegistry(redisService, 2, clock);
+        String first = registry.start("carol", "LOGIN");
+        clock.advance(Duration.ofSeconds(1));
+        String second = registry.start("carol", "LOGIN");
+        clock.advance(Duration.ofSeconds(1));
+        String third = registry.start("carol", "LOGIN");
+
+        assertFalse(registry.isActive("carol", first), "oldest session should be evicted over the limit");
+        assertEquals(List.of(third, second), registry.list("carol").stream().map(ActiveSession::sessionId).toList());
+
+        clock.advance(Duration.ofSeconds(TokenConfig.REFRESH_TOKEN_EXPIRY_SECONDS));
+        assertFalse(registry.isActive("carol", third));
+        assertTrue(registry.list("carol").isEmpty(), "idle members are trimmed on read");
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.finflow.backend.modules.identity.presentation.controller;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.finflow.backend.common.exception.GlobalExceptionHandler;
+import com.finflow.backend.common.json.TypedJsonHttpMessageConverter;
+import com.finflow.backend.common.redis.RedisService;
+import com.finflow.backend.modules.identity.application.mapper.UserMapperImpl;
+import com.finflow.backend.modules.identity.application.usecase.*;
+import com.finflow.backend.modules.identity.domain.entity.Role;
+import com.finflow.backend.modules.identity.domain.entity.User;
+import com.finflow.backend.modules.identity.domain.repository.UserRepository;
+import com.finflow.backend.modules.identity.infrastructure.audit.AuthAuditRecorder;
+import com.finflow.backend.modules.identity.infrastructure.configuration.StacklessDaoAuthenticationProvider;
+import com.finflow.backend.modules.identity.infrastructure.service.UserActivityRecorder;
+import com.finflow.backend.modules.identity.infrastructure.session.SessionRegistry;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Bytes allocated per request on the hot identity endpoints, against the budgets in
+ * {@code allocation-budgets.properties}. Real controllers, use cases, validation, JSON converter, exception
+ * handler, BCrypt and RSA signing; repositories and Redis are stub-only mocks. Measured with the thread
+ * allocation counter (MockMvc runs the request on the calling thread), median of {@value #MEASURED} requests
+ * after {@value #WARMUP} warm-up ones, minus the same figure for an empty endpoint (MockMvc, mock servlet objects).
+ * Logging is raised to ERROR while measuring: log output is not part of the budget.
+ */
+class AllocationBudgetTest {
+
+    private static final int WARMUP = 300;
+    private static final int MEASURED = 200;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final Properties BUDGETS = new Properties();
+    private static Level rootLevel;
+
+    private final UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+    private MockMvc mockMvc;
+    private long harnessBytes;
+
+    @BeforeAll
+    static void loadBudgetsAndQuietLogs() throws Exception {
+        assumeTrue(THREADS.isThreadAllocatedMemorySupported(), "thread allocation counters unavailable");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+            BUDGETS.load(in);
+        }
+        Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLevel = root.getLevel();
+        root.setLevel(Level.ERROR);
+    }
+
+    @AfterAll
+    static void restoreLogs() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(rootLevel);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+        Role role = Role.builder().name("ROLE_USER").build();
+        User alice = User.builder()
+                .id(UUID.randomUUID())
+                .username("alice")
+                .email("alice@example.com")
+                .password(passwordEncoder.encode("secret-password"))
+                .firstName("Alice")
+                .roles(Set.of(role))
+                .build();
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        when(userRepository.existsByEmail(anyString())).thenReturn(true);
+        when(userRepository.updateProfile(eq("alice"), any(), any(), any())).thenReturn(1);
+
+        StacklessDaoAuthenticationProvider provider = new StacklessDaoAuthenticationProvider(username ->
+                org.springframework.security.core.userdetails.User.withUsername(alice.getUsername())
+                        .password(alice.getPassword())
+                        .authorities("ROLE_USER")
+                        .build());
+        provider.setPasswordEncoder(passwordEncoder);
+
+        RedisService redisService = mock(RedisService.class, withSettings().stubOnly());
+        LoginUseCase login = new LoginUseCase(new ProviderManager(provider), jwtEncoder(), userRepository,
+                mock(UserActivityRecorder.class, withSettings().stubOnly()),
+                mock(AuthAuditRecorder.class, withSettings().stubOnly()),
+                new SessionRegistry(redisService, 20));
+        AuthController authController = new AuthController(stub(RegisterUseCase.class), login,
+                stub(LogoutUseCase.class), stub(RefreshTokenUseCase.class), stub(GoogleLoginUseCase.class),
+                stub(SendOtpUseCase.class), stub(VerifyOtpUseCase.class), stub(ResetPasswordUseCase.class),
+                new CheckUserExistenceUseCase(userRepository), stub(ToggleBiometricUseCase.class));
+        UserController userController = new UserController(
+                new GetProfileUseCase(userRepository, new UserMapperImpl()),
+                new UpdateProfileUseCase(userRepository));
+
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        mockMvc = MockMvcBuilders.standaloneSetup(authController, userController, new HarnessController())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(new TypedJsonHttpMessageConverter(jsonMapper))
+                .build();
+
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "alice", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        harnessBytes = bytesPerRequest(get("/test/empty"), status().isNoContent());
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void login() throws Exception {
+        assertWithinBudget("auth.login", json(post("/api/auth/login"),
+                "{\"username\":\"alice\",\"password\":\"secret-password\"}"), status().isOk());
+    }
+
+    @Test
+    void loginWithWrongPassword() throws Exception {
+        assertWithinBudget("auth.login.bad-credentials", json(post("/api/auth/login"),
+                "{\"username\":\"alice\",\"password\":\"wrong-password\"}"), status().isUnauthorized());
+    }
+
+    @Test
+    void checkUserExistence() throws Exception {
+        assertWithinBudget("auth.check-user-existence", json(post("/api/auth/check-user-existence"),
+                "{\"email\":\"alice@example.com\"}"), status().isOk());
+    }
+
+    @Test
+    void getMyProfile() throws Exception {
+        assertWithinBudget("users.my-profile.get", get("/api/users/my-profile"), status().isOk());
+    }
+
+    @Test
+    void updateMyProfile() throws Exception {
+        assertWithinBudget("users.my-profile.put", json(put("/api/users/my-profile"),
+                "{\"firstName\":\"Alice\",\"lastName\":\"Nguyen\"}"), status().isOk());
+    }
+
+    private void assertWithinBudget(String endpoint, RequestBuilder request, ResultMatcher expected) throws Exception {
+        long budget = Long.parseLong(BUDGETS.getProperty(endpoint).trim());
+        long allocated = bytesPerRequest(request, expected) - harnessBytes;
+        assertTrue(allocated <= budget, () -> String.format(
+                "%s allocates %,d B/request (harness %,d B excluded), budget is %,d B (allocation-budgets.properties)",
+                endpoint, allocated, harnessBytes, budget));
+    }
+
+    private long bytesPerRequest(RequestBuilder request, ResultMatcher expected) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            mockMvc.perform(request).andExpect(expected);
+        }
+        long[] samples = new long[MEASURED];
+        for (int i = 0; i < MEASURED; i++) {
+            long before = THREADS.getCurrentThreadAllocatedBytes();
+            mockMvc.perform(request).andExpect(expected);
+            samples[i] = THREADS.getCurrentThreadAllocatedBytes() - before;
+        }
+        Arrays.sort(samples);
+        return samples[MEASURED / 2];
+    }
+
+    private static RequestBuilder json(org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder builder,
+                                       String body) {
+        return builder.contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON).content(body);
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    private static NimbusJwtEncoder jwtEncoder() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        RSAKey jwk = new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+                .privateKey((RSAPrivateKey) keyPair.getPrivate())
+                .build();
+        return new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk)));
+    }
+
+    // Harness baseline: MockMvc, mock request/response and dispatch with no application work
+    @RestController
+    static class HarnessController {
+
+        @GetMapping("/test/empty")
+        ResponseEntity<Void> empty() {
+            return ResponseEntity.noContent().build();
+        }
+    }
+}
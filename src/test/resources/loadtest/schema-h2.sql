@@ -0,0 +1,17 @@
+-- Offline load harness (H2, MODE=MySQL). JPA tables come from Hibernate (ddl-auto=create-drop);
+-- this adds auth_audit_log, which only AuthAuditJdbcRepository writes (V2 without the MySQL partitions).
+-- Runs on every new connection (INIT in the JDBC URL), hence IF NOT EXISTS.
+
+CREATE TABLE IF NOT EXISTS auth_audit_log (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    occurred_at TIMESTAMP(3) NOT NULL,
+    event_type  VARCHAR(32)  NOT NULL,
+    username    VARCHAR(255) NULL,
+    success     BOOLEAN      NOT NULL,
+    detail      VARCHAR(255) NULL,
+    client_ip   VARCHAR(45)  NULL,
+    user_agent  VARCHAR(255) NULL,
+    PRIMARY KEY (id, occurred_at)
+);
+CREATE INDEX IF NOT EXISTS idx_auth_audit_occurred ON auth_audit_log (occurred_at);
+CREATE INDEX IF NOT EXISTS idx_auth_audit_user_occurred ON auth_audit_log (username, occurred_at);